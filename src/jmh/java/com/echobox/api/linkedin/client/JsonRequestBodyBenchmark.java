@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.posts.ArticleContent;
+import com.echobox.api.linkedin.types.posts.Content;
+import com.echobox.api.linkedin.types.posts.Distribution;
+import com.echobox.api.linkedin.types.posts.Post;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.types.urn.URNEntityType;
+import com.echobox.api.linkedin.types.videos.InitializeUploadRequest;
+import com.echobox.api.linkedin.util.JsonUtils;
+import com.eclipsesource.json.Json;
+import com.google.api.client.http.json.JsonHttpContent;
+import com.google.api.client.json.gson.GsonFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing a mapped JSON request body by re-parsing it into a map and serializing it with
+ * Gson, as the {@link DefaultWebRequestor} used to, against writing the mapper's output as-is.
+ * @author Joanna
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonRequestBodyBenchmark {
+
+  /**
+   * The request payload to write
+   */
+  @Param({"POST", "INITIALIZE_UPLOAD_REQUEST"})
+  private String payload;
+
+  private String json;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+
+  /**
+   * Map the payload to JSON in the same way as the LinkedIn client
+   */
+  @Setup
+  public void setUp() {
+    Object body = "POST".equals(payload) ? createPost() : createInitializeUploadRequest();
+    json = new DefaultJsonMapper().toJson(body, true);
+  }
+
+  /**
+   * Re-parse the JSON into a map and serialize it again with Gson
+   * @return the number of bytes written
+   * @throws IOException IOException
+   */
+  @Benchmark
+  public int mapAndGson() throws IOException {
+    out.reset();
+    new JsonHttpContent(new GsonFactory(), JsonUtils.toMap(Json.parse(json).asObject()))
+        .writeTo(out);
+    return out.size();
+  }
+
+  /**
+   * Write the JSON as it is
+   * @return the number of bytes written
+   * @throws IOException IOException
+   */
+  @Benchmark
+  public int asIs() throws IOException {
+    out.reset();
+    DefaultWebRequestor.getJsonHttpContent(json).writeTo(out);
+    return out.size();
+  }
+
+  private static Post createPost() {
+    Post post = new Post(new URN(URNEntityType.ORGANIZATION, "2414183"),
+        "Our latest article on request performance, with a longer commentary than most to make "
+            + "sure the payload is representative #java #linkedin",
+        new Distribution(Distribution.FeedDistribution.MAIN_FEED), Post.LifecycleState.PUBLISHED,
+        Post.Visibility.PUBLIC);
+    ArticleContent article = new ArticleContent();
+    article.setSource("https://www.example.com/articles/request-performance?utm_source=linkedin");
+    article.setTitle("Request performance");
+    article.setDescription("How we cut serialization out of the request path");
+    Content content = new Content();
+    content.setArticle(article);
+    post.setContent(content);
+    post.setIsReshareDisabledByAuthor(false);
+    return post;
+  }
+
+  private static InitializeUploadRequest createInitializeUploadRequest() {
+    InitializeUploadRequest.RequestBody requestBody = new InitializeUploadRequest.RequestBody(
+        new URN(URNEntityType.ORGANIZATION, "2414183"));
+    requestBody.setFileSizeBytes(1_234_567_890L);
+    requestBody.setUploadThumbnail(true);
+    return new InitializeUploadRequest(requestBody);
+  }
+}
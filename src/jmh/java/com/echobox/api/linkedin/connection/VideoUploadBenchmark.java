@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.client.DefaultLinkedInClient;
+import com.echobox.api.linkedin.client.HttpClientWebRequestor;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.types.urn.URNEntityType;
+import com.echobox.api.linkedin.types.videos.InitializeUploadRequest;
+import com.echobox.api.linkedin.version.Version;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures uploading a multi-part video with different numbers of parts in flight, against a
+ * local stub of the LinkedIn upload endpoints that adds a fixed latency to every part.
+ * @author Joanna
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VideoUploadBenchmark {
+
+  private static final int PART_SIZE = 256 * 1024;
+
+  /**
+   * The number of parts uploaded at the same time
+   */
+  @Param({"1", "4", "8"})
+  private int partsInFlight;
+
+  /**
+   * The number of parts in the video
+   */
+  @Param({"16"})
+  private int parts;
+
+  /**
+   * The latency the stub server adds to each part upload
+   */
+  @Param({"50"})
+  private long latencyMillis;
+
+  private HttpServer server;
+
+  private ExecutorService serverExecutor;
+
+  private Path video;
+
+  private VideoConnection videoConnection;
+
+  /**
+   * Start the stub server and write the video file
+   * @throws IOException IOException
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    serverExecutor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 64);
+    server.setExecutor(serverExecutor);
+    String baseUrl = "http://localhost:" + server.getAddress().getPort();
+    server.createContext("/rest/videos", exchange -> {
+      exchange.getRequestBody().readAllBytes();
+      String query = exchange.getRequestURI().getQuery();
+      respond(exchange, 200, query != null && query.contains("initializeUpload")
+          ? initializeUploadResponse(baseUrl) : "{}");
+    });
+    server.createContext("/upload", exchange -> {
+      exchange.getRequestBody().readAllBytes();
+      sleep(latencyMillis);
+      exchange.getResponseHeaders().add("ETag", "etag" + exchange.getRequestURI().getPath());
+      respond(exchange, 201, "{}");
+    });
+    server.start();
+
+    video = Files.createTempFile("video", ".mp4");
+    Files.write(video, new byte[parts * PART_SIZE]);
+
+    DefaultLinkedInClient client = new DefaultLinkedInClient(new HttpClientWebRequestor("token"),
+        new DefaultJsonMapper(), Version.VERSIONED) {
+      @Override
+      protected String getLinkedInEndpointUrl() {
+        return baseUrl + "/rest";
+      }
+    };
+    videoConnection = new VideoConnection(client,
+        VideoUploadConfig.builder().partsInFlight(partsInFlight).build());
+  }
+
+  /**
+   * Stop the stub server and delete the video file
+   * @throws IOException IOException
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+    Files.deleteIfExists(video);
+  }
+
+  /**
+   * Upload the video
+   * @return the video URN
+   * @throws IOException IOException
+   */
+  @Benchmark
+  public URN uploadVideo() throws IOException {
+    return videoConnection.uploadVideoFromFile(new InitializeUploadRequest(
+        new InitializeUploadRequest.RequestBody(new URN(URNEntityType.ORGANIZATION, "2414183"))),
+        video.toString(), null);
+  }
+
+  private String initializeUploadResponse(String baseUrl) {
+    StringBuilder instructions = new StringBuilder();
+    for (int part = 0; part < parts; part++) {
+      instructions.append(part == 0 ? "" : ",").append(String.format(
+          "{\"uploadUrl\":\"%s/upload/%d\",\"firstByte\":%d,\"lastByte\":%d}", baseUrl, part,
+          (long) part * PART_SIZE, (long) (part + 1) * PART_SIZE - 1));
+    }
+    return "{\"value\":{\"video\":\"urn:li:video:C4E10AQ\",\"uploadToken\":\"\","
+        + "\"uploadInstructions\":[" + instructions + "]}}";
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body)
+      throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(bytes);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
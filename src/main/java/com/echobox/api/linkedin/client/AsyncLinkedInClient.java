@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Specifies how an asynchronous LinkedIn API client must operate. Each operation mirrors the
+ * equivalent {@link LinkedInClient} operation but returns immediately with a future. Errors are
+ * reported by completing the future exceptionally with the same
+ * {@link com.echobox.api.linkedin.exception.LinkedInException} the blocking client would throw.
+ * @author Joanna
+ */
+public interface AsyncLinkedInClient {
+
+  /**
+   * Fetches a single LinkedIn API object, mapping the result to an instance of {@code objectType}.
+   * @param <T>
+   *          Java type to map to.
+   * @param object
+   *          ID of the object to fetch
+   * @param objectType
+   *          Object type token.
+   * @param parameters
+   *          URL parameters to include in the API call (optional).
+   * @return A future that completes with the requested object's data.
+   */
+  <T> CompletableFuture<T> fetchObject(String object, Class<T> objectType,
+      Parameter... parameters);
+
+  /**
+   * Fetches the first page of a LinkedIn API {@code Connection} type. Further pages are fetched
+   * by the blocking client returned from {@link #getLinkedInClient()}.
+   * @param <T>
+   *          Java type to map to.
+   * @param connection
+   *          The name of the connection, e.g. {@code "posts"}.
+   * @param connectionType
+   *          Connection type token.
+   * @param parameters
+   *          URL parameters to include in the API call (optional).
+   * @return A future that completes with the requested Connection's data.
+   */
+  <T> CompletableFuture<Connection<T>> fetchConnection(String connection,
+      Class<T> connectionType, Parameter... parameters);
+
+  /**
+   * Fetches a previous/next page of a {@code Connection} type.
+   * @param <T>
+   *          Java type to map to.
+   * @param connectionPageUrl
+   *          The URL of the connection page to fetch, usually retrieved via
+   *          {@link Connection#getPreviousPageUrl()} or {@link Connection#getNextPageUrl()}.
+   * @param connectionType
+   *          Connection type token.
+   * @return A future that completes with the requested Connection's data.
+   */
+  <T> CompletableFuture<Connection<T>> fetchConnectionPage(String connectionPageUrl,
+      Class<T> connectionType);
+
+  /**
+   * Performs a LinkedIn API put operation on the given {@code connection}.
+   * @param connection
+   *          The Connection to put to.
+   * @param jsonBody
+   *          The json body to put.
+   * @param binaryAttachment
+   *          The file to put, or {@code null}.
+   * @param parameters
+   *          URL parameters to include in the API call.
+   * @return A future that completes with the WebRequestor response
+   */
+  CompletableFuture<WebRequestor.Response> put(String connection, Object jsonBody,
+      BinaryAttachment binaryAttachment, Parameter... parameters);
+
+  /**
+   * Performs a LinkedIn API publish operation on the given {@code connection}.
+   * @param connection
+   *          The Connection to publish to.
+   * @param jsonBody
+   *          The json body to publish.
+   * @param parameters
+   *          URL parameters to include in the API call.
+   * @return A future that completes with the WebRequestor response
+   */
+  CompletableFuture<WebRequestor.Response> publish(String connection, Object jsonBody,
+      Parameter... parameters);
+
+  /**
+   * Performs a LinkedIn API publish operation on the given {@code connection}, mapping the result
+   * to an instance of {@code objectType}.
+   * @param <T>
+   *          Java type to map to.
+   * @param connection
+   *          The Connection to publish to.
+   * @param objectType
+   *          Object type token.
+   * @param jsonBody
+   *          The json body to publish.
+   * @param parameters
+   *          URL parameters to include in the API call.
+   * @return A future that completes with the LinkedIn response to your publish request.
+   */
+  <T> CompletableFuture<T> publish(String connection, Class<T> objectType, Object jsonBody,
+      Parameter... parameters);
+
+  /**
+   * Performs a LinkedIn API publish operation on the given {@code connection} and includes some
+   * files in the publish request, mapping the result to an instance of {@code objectType}.
+   * @param <T>
+   *          Java type to map to.
+   * @param connection
+   *          The Connection to publish to.
+   * @param objectType
+   *          Object type token.
+   * @param jsonBody
+   *          The json body to publish.
+   * @param binaryAttachments
+   *          The files to include in the publish request.
+   * @param parameters
+   *          URL parameters to include in the API call.
+   * @return A future that completes with the LinkedIn response to your publish request.
+   */
+  <T> CompletableFuture<T> publish(String connection, Class<T> objectType, Object jsonBody,
+      List<BinaryAttachment> binaryAttachments, Parameter... parameters);
+
+  /**
+   * Performs a LinkedIn API delete operation on the given {@code object}.
+   * @param object
+   *          The ID of the object to delete.
+   * @param parameters
+   *          URL parameters to include in the API call.
+   * @return A future that completes with {@code true} if LinkedIn indicated that the object was
+   *          successfully deleted, {@code false} otherwise.
+   */
+  CompletableFuture<Boolean> deleteObject(String object, Parameter... parameters);
+
+  /**
+   * Gets the blocking client this client shares its configuration with, which is also used to
+   * fetch further pages when iterating a {@link Connection}.
+   * @return The blocking LinkedIn client
+   */
+  LinkedInClient getLinkedInClient();
+}
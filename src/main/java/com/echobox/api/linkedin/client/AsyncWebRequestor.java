@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Specifies how a class that sends {@code HTTP} requests to the LinkedIn API endpoint without
+ * blocking the calling thread must operate. The returned futures complete exceptionally with an
+ * {@link IOException} if the request could not be sent.
+ *
+ * @author Joanna
+ */
+public interface AsyncWebRequestor {
+
+  /**
+   * Given a LinkedIn API endpoint URL, execute a {@code GET} against it.
+   *
+   * @param url
+   *          The URL to make a {@code GET} request for, including URL parameters.
+   * @param headers
+   *          The headers for the GET request
+   * @return a future that completes with the HTTP response data.
+   */
+  CompletableFuture<WebRequestor.Response> executeGetAsync(String url,
+      Map<String, String> headers);
+
+  /**
+   * Given a LinkedIn API endpoint URL and parameter string, execute a {@code POST} to the endpoint
+   * URL.
+   *
+   * @param url
+   *          The URL to {@code POST} to.
+   * @param parameters
+   *          The parameters to be {@code POST}ed.
+   * @param jsonBody
+   *          The POST JSON body
+   * @param headers
+   *          The headers for the POST request
+   * @param binaryAttachments
+   *          Optional binary attachments to be included in the {@code POST} body
+   * @return a future that completes with the HTTP response data.
+   */
+  CompletableFuture<WebRequestor.Response> executePostAsync(String url, String parameters,
+      String jsonBody, Map<String, String> headers, BinaryAttachment... binaryAttachments);
+
+  /**
+   * Given a LinkedIn API endpoint URL and parameter string, execute a {@code PUT} to the endpoint
+   * URL.
+   *
+   * @param url
+   *          The URL to {@code PUT} to.
+   * @param parameters
+   *          The URL parameters.
+   * @param jsonBody
+   *          The PUT JSON body
+   * @param headers
+   *          The headers for the PUT request
+   * @param binaryAttachment
+   *          Optional binary attachment to use as the {@code PUT} body
+   * @return a future that completes with the HTTP response data.
+   */
+  CompletableFuture<WebRequestor.Response> executePutAsync(String url, String parameters,
+      String jsonBody, Map<String, String> headers, BinaryAttachment binaryAttachment);
+
+  /**
+   * Given a LinkedIn API endpoint URL, execute a {@code DELETE} against it.
+   *
+   * @param url
+   *          The URL to submit the {@code DELETE} to.
+   * @param headers
+   *          The headers for the DELETE request
+   * @return a future that completes with the HTTP response data.
+   */
+  CompletableFuture<WebRequestor.Response> executeDeleteAsync(String url,
+      Map<String, String> headers);
+
+  /**
+   * Adapt a blocking {@link WebRequestor} so each request runs on the given executor. This does
+   * occupy an executor thread for the duration of each request, so prefer a requestor that
+   * implements this interface natively such as {@link HttpClientWebRequestor}.
+   *
+   * @param webRequestor the blocking web requestor
+   * @param executor the executor to run the requests on
+   * @return the asynchronous web requestor
+   */
+  static AsyncWebRequestor fromBlocking(WebRequestor webRequestor, Executor executor) {
+    return new AsyncWebRequestor() {
+      @Override
+      public CompletableFuture<WebRequestor.Response> executeGetAsync(String url,
+          Map<String, String> headers) {
+        return supply(() -> webRequestor.executeGet(url, headers), executor);
+      }
+
+      @Override
+      public CompletableFuture<WebRequestor.Response> executePostAsync(String url,
+          String parameters, String jsonBody, Map<String, String> headers,
+          BinaryAttachment... binaryAttachments) {
+        return supply(() -> webRequestor.executePost(url, parameters, jsonBody, headers,
+            binaryAttachments), executor);
+      }
+
+      @Override
+      public CompletableFuture<WebRequestor.Response> executePutAsync(String url,
+          String parameters, String jsonBody, Map<String, String> headers,
+          BinaryAttachment binaryAttachment) {
+        return supply(() -> webRequestor.executePut(url, parameters, jsonBody, headers,
+            binaryAttachment), executor);
+      }
+
+      @Override
+      public CompletableFuture<WebRequestor.Response> executeDeleteAsync(String url,
+          Map<String, String> headers) {
+        return supply(() -> webRequestor.executeDelete(url, headers), executor);
+      }
+    };
+  }
+
+  /**
+   * Run a blocking request on the executor, completing the future with any {@link IOException}
+   * as its cause.
+   *
+   * @param requestor the blocking request
+   * @param executor the executor to run the request on
+   * @return a future that completes with the HTTP response data.
+   */
+  private static CompletableFuture<WebRequestor.Response> supply(
+      DefaultLinkedInClient.Requestor requestor, Executor executor) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return requestor.makeRequest();
+      } catch (IOException ex) {
+        throw new CompletionException(ex);
+      }
+    }, executor);
+  }
+}
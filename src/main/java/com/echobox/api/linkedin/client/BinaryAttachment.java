@@ -30,9 +30,13 @@ import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Represents a binary file that can be uploaded to LinkedIn.
@@ -49,6 +53,12 @@ public class BinaryAttachment {
 
   private InputStream dataStream;
 
+  private Path dataFile;
+
+  private long dataFileOffset;
+
+  private long length = -1;
+
   private String contentType = null;
 
   @Getter
@@ -143,6 +153,73 @@ public class BinaryAttachment {
     this.fieldName = fieldName;
   }
 
+  /**
+   * Creates a new binary attachment that is streamed from the given input stream rather than held
+   * in memory.
+   *
+   * @param filename
+   *          The attachment's filename.
+   * @param dataStream
+   *          The attachment's data, which can only be read once.
+   * @param length
+   *          The number of bytes in the stream, or -1 if unknown.
+   * @param contentType
+   *          The attachment's contentType, or {@code null} to guess it from the filename.
+   * @throws IllegalArgumentException
+   *           If {@code dataStream} is {@code null} or {@code filename} is {@code null} or blank.
+   */
+  private BinaryAttachment(String filename, InputStream dataStream, long length,
+      String contentType) {
+    if (StringUtils.isBlank(filename)) {
+      throw new IllegalArgumentException("Binary attachment filename cannot be blank.");
+    }
+    if (dataStream == null) {
+      throw new IllegalArgumentException("Binary attachment data stream cannot be null.");
+    }
+
+    this.filename = filename;
+    this.dataStream = dataStream;
+    this.length = length < 0 ? -1 : length;
+    this.contentType = contentType;
+  }
+
+  /**
+   * Creates a new binary attachment that is streamed from a range of the given file rather than
+   * held in memory.
+   *
+   * @param filename
+   *          The attachment's filename.
+   * @param dataFile
+   *          The file containing the attachment's data.
+   * @param offset
+   *          The position of the first byte of the attachment in the file.
+   * @param length
+   *          The number of bytes in the attachment.
+   * @param contentType
+   *          The attachment's contentType, or {@code null} to guess it from the filename.
+   * @throws IllegalArgumentException
+   *           If {@code dataFile} is {@code null}, {@code filename} is {@code null} or blank, or
+   *           the range is negative.
+   */
+  private BinaryAttachment(String filename, Path dataFile, long offset, long length,
+      String contentType) {
+    if (StringUtils.isBlank(filename)) {
+      throw new IllegalArgumentException("Binary attachment filename cannot be blank.");
+    }
+    if (dataFile == null) {
+      throw new IllegalArgumentException("Binary attachment file cannot be null.");
+    }
+    if (offset < 0 || length < 0) {
+      throw new IllegalArgumentException("Binary attachment file range cannot be negative.");
+    }
+
+    this.filename = filename;
+    this.dataFile = dataFile;
+    this.dataFileOffset = offset;
+    this.length = length;
+    this.contentType = contentType;
+  }
+
   /**
    * Creates a binary attachment.
    *
@@ -212,6 +289,101 @@ public class BinaryAttachment {
     return new BinaryAttachment(fieldName, filename, data, contentType);
   }
 
+  /**
+   * Creates a binary attachment that is streamed to LinkedIn from the given input stream, so it
+   * never has to be held in memory. The stream is read once and closed after the upload unless
+   * the web requestor is configured otherwise, so the request cannot be retried.
+   *
+   * @param filename
+   *          The attachment's filename.
+   * @param dataStream
+   *          The attachment's data.
+   * @param length
+   *          The number of bytes in the stream, or -1 if unknown in which case the upload is
+   *          chunked.
+   * @param contentType
+   *          The attachment's contentType, or {@code null} to guess it from the filename.
+   * @return A binary attachment.
+   * @throws IllegalArgumentException
+   *           If {@code dataStream} is {@code null} or {@code filename} is {@code null} or blank.
+   */
+  public static BinaryAttachment with(String filename, InputStream dataStream, long length,
+      String contentType) {
+    return new BinaryAttachment(filename, dataStream, length, contentType);
+  }
+
+  /**
+   * Creates a binary attachment that is streamed to LinkedIn from the given file, so it never has
+   * to be held in memory. The file is opened each time the attachment is uploaded.
+   *
+   * @param filename
+   *          The attachment's filename.
+   * @param file
+   *          The file containing the attachment's data.
+   * @param contentType
+   *          The attachment's contentType, or {@code null} to guess it from the filename.
+   * @return A binary attachment.
+   * @throws IOException
+   *           If the size of the file cannot be read.
+   * @throws IllegalArgumentException
+   *           If {@code file} is {@code null} or {@code filename} is {@code null} or blank.
+   */
+  public static BinaryAttachment with(String filename, Path file, String contentType)
+      throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("Binary attachment file cannot be null.");
+    }
+    return new BinaryAttachment(filename, file, 0, Files.size(file), contentType);
+  }
+
+  /**
+   * Creates a binary attachment that is streamed to LinkedIn from the given file, so it never has
+   * to be held in memory. The file is opened each time the attachment is uploaded.
+   *
+   * @param filename
+   *          The attachment's filename.
+   * @param file
+   *          The file containing the attachment's data.
+   * @param contentType
+   *          The attachment's contentType, or {@code null} to guess it from the filename.
+   * @return A binary attachment.
+   * @throws IOException
+   *           If the size of the file cannot be read.
+   * @throws IllegalArgumentException
+   *           If {@code file} is {@code null} or {@code filename} is {@code null} or blank.
+   */
+  public static BinaryAttachment with(String filename, File file, String contentType)
+      throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("Binary attachment file cannot be null.");
+    }
+    return with(filename, file.toPath(), contentType);
+  }
+
+  /**
+   * Creates a binary attachment that is streamed to LinkedIn from a range of the given file, such
+   * as one part of a multi-part upload. The file is opened each time the attachment is uploaded.
+   *
+   * @param filename
+   *          The attachment's filename.
+   * @param file
+   *          The file containing the attachment's data.
+   * @param offset
+   *          The position of the first byte of the attachment in the file.
+   * @param length
+   *          The number of bytes in the attachment.
+   * @param contentType
+   *          The attachment's contentType, or {@code null} to guess it from the filename.
+   * @return A binary attachment.
+   * @throws IllegalArgumentException
+   *           If {@code file} is {@code null}, {@code filename} is {@code null} or blank, or the
+   *           range is negative.
+   */
+  public static BinaryAttachment with(String filename, Path file, long offset, long length,
+      String contentType) {
+    return new BinaryAttachment(filename, file, offset, length, contentType);
+  }
+
   @Override
   public int hashCode() {
     return ReflectionUtils.hashCode(this);
@@ -228,35 +400,104 @@ public class BinaryAttachment {
   }
 
   /**
-   * The attachment's data.
+   * The attachment's data. A file attachment is opened each time this is called, an input stream
+   * attachment returns the same stream every time.
    * 
    * @return The attachment's data.
+   * @throws UncheckedIOException
+   *           If the attachment's file cannot be opened.
    */
   public InputStream getDataInputStream() {
     if (data != null) {
       return new ByteArrayInputStream(data);
     } else if (dataStream != null) {
       return dataStream;
+    } else if (dataFile != null) {
+      try {
+        return openDataFile();
+      } catch (IOException ex) {
+        throw new UncheckedIOException("Unable to open binary attachment file " + dataFile, ex);
+      }
     } else {
       throw new IllegalStateException("Either the byte[] or the stream mustn't be null at this"
           + "point.");
     }
   }
   
+  private InputStream openDataFile() throws IOException {
+    return new FileRangeInputStream(dataFile, dataFileOffset, length,
+        DirectBufferPool.getDefault());
+  }
+
+  /**
+   * Whether the attachment's data is streamed from a file.
+   *
+   * @return true if {@link #publishDataFile()} can be used
+   */
+  boolean isFile() {
+    return dataFile != null;
+  }
+
+  /**
+   * Publishes the attachment's range of its file as memory-mapped slices.
+   *
+   * @return The publisher.
+   * @throws IllegalStateException
+   *           If the attachment is not streamed from a file.
+   */
+  FileRangePublisher publishDataFile() {
+    if (dataFile == null) {
+      throw new IllegalStateException("The binary attachment is not streamed from a file.");
+    }
+    return new FileRangePublisher(dataFile, dataFileOffset, length,
+        FileRangePublisher.DEFAULT_SLICE_SIZE);
+  }
+  
   /**
    * The attachment's data.
    * 
    * @return The attachment's data.
+   * @throws IllegalStateException
+   *           If the attachment is streamed from an input stream or file, see
+   *           {@link #isInMemory()}.
    */
   public byte[] getData() {
     if (data != null) {
       return data;
     } else {
-      throw new IllegalStateException("Either the byte[] or the stream mustn't be null at this"
-          + "point.");
+      throw new IllegalStateException("The binary attachment is streamed, use "
+          + "getDataInputStream() instead.");
     }
   }
 
+  /**
+   * Whether the attachment's data is held in memory, as opposed to being streamed from an input
+   * stream or file.
+   *
+   * @return true if {@link #getData()} can be used
+   */
+  public boolean isInMemory() {
+    return data != null;
+  }
+
+  /**
+   * Whether the attachment's data can be read more than once, e.g. to retry an upload.
+   *
+   * @return false if the attachment is streamed from an input stream
+   */
+  public boolean isRepeatable() {
+    return dataStream == null;
+  }
+
+  /**
+   * The number of bytes in the attachment's data.
+   *
+   * @return the length, or -1 if it is streamed from an input stream of unknown length
+   */
+  public long getLength() {
+    return data != null ? data.length : length;
+  }
+
   /**
    * return the given content type or try to guess from stream or file name. Depending of the
    * available data.
@@ -276,7 +517,7 @@ public class BinaryAttachment {
       }
     }
 
-    if (data != null) {
+    if (contentType == null) {
       contentType = URLConnection.guessContentTypeFromName(filename);
     }
 
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.util.ValidationUtils;
+import org.apache.http.HttpStatus;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link WebRequestor} that sends requests through another web requestor, keeping the
+ * responses to GET requests in a {@link ResponseCache}. When a GET is repeated the kept
+ * response is revalidated with {@code If-None-Match} and {@code If-Modified-Since}, and if
+ * LinkedIn answers {@code 304 Not Modified} the kept body is returned as a {@code 200}, so it is
+ * mapped as if it had been downloaded again.
+ * <p>
+ * Responses are only kept if they carry an {@code ETag} or {@code Last-Modified} header. A PUT,
+ * POST or DELETE to a URL removes the responses kept for it. As the cache belongs to the web
+ * requestor, responses are never shared between the access tokens of different web requestors.
+ * @author Joanna
+ */
+public class CachingWebRequestor implements WebRequestor, AsyncWebRequestor {
+
+  private static final String HEADER_ETAG = "ETag";
+
+  private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+
+  private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
+  private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
+  private final WebRequestor webRequestor;
+
+  private final AsyncWebRequestor asyncWebRequestor;
+
+  private final ResponseCache cache;
+
+  /**
+   * Creates a web requestor that caches the responses of another web requestor, sending
+   * asynchronous requests of a blocking web requestor on the common fork join pool
+   * @param webRequestor the web requestor to send requests with
+   * @param config the bounds of the cache
+   */
+  public CachingWebRequestor(WebRequestor webRequestor, ResponseCacheConfig config) {
+    this(webRequestor, config, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a web requestor that caches the responses of another web requestor
+   * @param webRequestor the web requestor to send requests with
+   * @param config the bounds of the cache
+   * @param executor the executor asynchronous requests are sent on if the web requestor does
+   *          not implement {@link AsyncWebRequestor}
+   */
+  public CachingWebRequestor(WebRequestor webRequestor, ResponseCacheConfig config,
+      Executor executor) {
+    ValidationUtils.verifyParameterPresence("webRequestor", webRequestor);
+    ValidationUtils.verifyParameterPresence("executor", executor);
+    this.webRequestor = webRequestor;
+    this.asyncWebRequestor = webRequestor instanceof AsyncWebRequestor
+        ? (AsyncWebRequestor) webRequestor : AsyncWebRequestor.fromBlocking(webRequestor, executor);
+    this.cache = new ResponseCache(config);
+  }
+
+  /**
+   * Gets the cache of responses, e.g. to read its hit and miss counts
+   * @return the cache
+   */
+  public ResponseCache getCache() {
+    return cache;
+  }
+
+  @Override
+  public Response executeGet(String url) throws IOException {
+    return executeGet(url, Collections.emptyMap());
+  }
+
+  @Override
+  public Response executeGet(String url, Map<String, String> headers) throws IOException {
+    String key = getKey(url, headers);
+    ResponseCache.Entry entry = cache.get(key);
+    Response response = webRequestor.executeGet(url, withValidators(headers, entry));
+    return onGetResponse(key, url, entry, response);
+  }
+
+  @Override
+  public Response executePost(String url, String parameters, String jsonBody)
+      throws IOException {
+    cache.invalidate(url);
+    return webRequestor.executePost(url, parameters, jsonBody);
+  }
+
+  @Override
+  public Response executePost(String url, String parameters, String jsonBody,
+      Map<String, String> headers, BinaryAttachment... binaryAttachments) throws IOException {
+    cache.invalidate(url);
+    return webRequestor.executePost(url, parameters, jsonBody, headers, binaryAttachments);
+  }
+
+  @Override
+  public Response executePut(String url, String parameters, String jsonBody,
+      Map<String, String> headers, BinaryAttachment binaryAttachment) throws IOException {
+    cache.invalidate(url);
+    return webRequestor.executePut(url, parameters, jsonBody, headers, binaryAttachment);
+  }
+
+  @Override
+  public Response executeDelete(String url) throws IOException {
+    cache.invalidate(url);
+    return webRequestor.executeDelete(url);
+  }
+
+  @Override
+  public Response executeDelete(String url, Map<String, String> headers) throws IOException {
+    cache.invalidate(url);
+    return webRequestor.executeDelete(url, headers);
+  }
+
+  @Override
+  @Deprecated
+  public DebugHeaderInfo getDebugHeaderInfo() {
+    return webRequestor.getDebugHeaderInfo();
+  }
+
+  @Override
+  public CompletableFuture<Response> executeGetAsync(String url, Map<String, String> headers) {
+    String key = getKey(url, headers);
+    ResponseCache.Entry entry = cache.get(key);
+    return asyncWebRequestor.executeGetAsync(url, withValidators(headers, entry))
+        .thenApply(response -> onGetResponse(key, url, entry, response));
+  }
+
+  @Override
+  public CompletableFuture<Response> executePostAsync(String url, String parameters,
+      String jsonBody, Map<String, String> headers, BinaryAttachment... binaryAttachments) {
+    cache.invalidate(url);
+    return asyncWebRequestor.executePostAsync(url, parameters, jsonBody, headers,
+        binaryAttachments);
+  }
+
+  @Override
+  public CompletableFuture<Response> executePutAsync(String url, String parameters,
+      String jsonBody, Map<String, String> headers, BinaryAttachment binaryAttachment) {
+    cache.invalidate(url);
+    return asyncWebRequestor.executePutAsync(url, parameters, jsonBody, headers,
+        binaryAttachment);
+  }
+
+  @Override
+  public CompletableFuture<Response> executeDeleteAsync(String url,
+      Map<String, String> headers) {
+    cache.invalidate(url);
+    return asyncWebRequestor.executeDeleteAsync(url, headers);
+  }
+
+  private static String getKey(String url, Map<String, String> headers) {
+    return headers == null || headers.isEmpty() ? url : url + "\n" + new TreeMap<>(headers);
+  }
+
+  private static Map<String, String> withValidators(Map<String, String> headers,
+      ResponseCache.Entry entry) {
+    if (entry == null) {
+      return headers;
+    }
+    Map<String, String> conditionalHeaders =
+        headers == null ? new HashMap<>() : new HashMap<>(headers);
+    if (entry.getEtag() != null) {
+      conditionalHeaders.put(HEADER_IF_NONE_MATCH, entry.getEtag());
+    }
+    if (entry.getLastModified() != null) {
+      conditionalHeaders.put(HEADER_IF_MODIFIED_SINCE, entry.getLastModified());
+    }
+    return conditionalHeaders;
+  }
+
+  private Response onGetResponse(String key, String url, ResponseCache.Entry entry,
+      Response response) {
+    if (response.getStatusCode() == HttpStatus.SC_NOT_MODIFIED && entry != null) {
+      cache.recordHit();
+      Response cached = entry.getResponse();
+      return Response.fromBytes(cached.getStatusCode(), cached.getHeaders(),
+          cached.getBodyBytes());
+    }
+    if (response.getStatusCode() != HttpStatus.SC_OK) {
+      return response;
+    }
+
+    String etag = getHeader(response, HEADER_ETAG);
+    String lastModified = getHeader(response, HEADER_LAST_MODIFIED);
+    if (etag == null && lastModified == null) {
+      cache.remove(key);
+    } else {
+      cache.put(key, url, new ResponseCache.Entry(response, etag, lastModified));
+    }
+    return response;
+  }
+
+  private static String getHeader(Response response, String name) {
+    for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.io.IOException;
+
+/**
+ * Saves page cursors under a key so that a job iterating a connection can resume where it
+ * stopped after it is restarted
+ * @author Joanna
+ */
+public interface CheckpointStore {
+
+  /**
+   * Saves the cursor for the key, replacing the cursor saved before
+   * @param key the key, e.g. the name of the job
+   * @param cursor the cursor to resume from
+   * @throws IOException if the cursor could not be saved
+   */
+  void save(String key, PageCursor cursor) throws IOException;
+
+  /**
+   * Loads the cursor saved for the key
+   * @param key the key
+   * @return the cursor, or {@code null} if no cursor is saved for the key
+   * @throws IOException if the saved cursors could not be read
+   */
+  PageCursor load(String key) throws IOException;
+
+  /**
+   * Removes the cursor saved for the key, e.g. once the job has read every page
+   * @param key the key
+   * @throws IOException if the cursor could not be removed
+   */
+  void remove(String key) throws IOException;
+}
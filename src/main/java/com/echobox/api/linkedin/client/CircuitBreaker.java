@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.exception.LinkedInCircuitOpenException;
+import com.echobox.api.linkedin.util.ValidationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stops sending requests to a resource path, e.g. {@code /organizationalEntityShareStatistics},
+ * while it is failing, so that callers fail straight away instead of waiting on requests that
+ * are likely to time out.
+ * <p>
+ * Each resource path has its own circuit. A circuit is {@link State#CLOSED closed} while the
+ * resource responds, and opens once {@link CircuitBreakerConfig#getFailureThreshold()}
+ * consecutive requests fail with a network error or one of the failure status codes. While the
+ * circuit is {@link State#OPEN open}, requests fail with a {@link LinkedInCircuitOpenException}
+ * without being sent. After the open duration the circuit becomes {@link State#HALF_OPEN
+ * half-open} and lets a few trial requests through: it closes if they succeed and opens again if
+ * one fails. State changes are logged and reported to the registered
+ * {@link CircuitBreakerListener listeners}.
+ * @author Joanna
+ */
+public class CircuitBreaker {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+  /**
+   * The state of the circuit of a resource path
+   * @author Joanna
+   */
+  public enum State {
+    /**
+     * Requests are sent
+     */
+    CLOSED,
+
+    /**
+     * Requests fail without being sent
+     */
+    OPEN,
+
+    /**
+     * Trial requests are sent to find out whether the resource has recovered
+     */
+    HALF_OPEN
+  }
+
+  private final CircuitBreakerConfig config;
+
+  private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+  private final List<CircuitBreakerListener> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a circuit breaker
+   * @param config when to open circuits and how to close them again
+   */
+  public CircuitBreaker(CircuitBreakerConfig config) {
+    ValidationUtils.verifyParameterPresence("config", config);
+    this.config = config;
+  }
+
+  /**
+   * Register a listener to be told about every state change
+   * @param listener the listener
+   */
+  public void addListener(CircuitBreakerListener listener) {
+    ValidationUtils.verifyParameterPresence("listener", listener);
+    listeners.add(listener);
+  }
+
+  /**
+   * Gets the state of the circuit of a resource path
+   * @param resourcePath the resource path
+   * @return the state, which is closed for resource paths that have not been requested
+   */
+  public State getState(String resourcePath) {
+    Circuit circuit = circuits.get(resourcePath);
+    return circuit == null ? State.CLOSED : circuit.getState();
+  }
+
+  /**
+   * Gets the state of the circuit of every resource path that has been requested
+   * @return the states by resource path
+   */
+  public Map<String, State> getStates() {
+    Map<String, State> states = new HashMap<>();
+    circuits.forEach((resourcePath, circuit) -> states.put(resourcePath, circuit.getState()));
+    return states;
+  }
+
+  /**
+   * Check a request to a resource path may be sent
+   * @param resourcePath the resource path
+   * @throws LinkedInCircuitOpenException if the circuit of the resource path is open
+   */
+  public void acquirePermission(String resourcePath) {
+    Circuit circuit = circuits.get(resourcePath);
+    if (circuit == null) {
+      circuit = circuits.computeIfAbsent(resourcePath, Circuit::new);
+    }
+    circuit.acquirePermission();
+  }
+
+  /**
+   * Record the outcome of a request that was given permission to be sent
+   * @param resourcePath the resource path
+   * @param response the response received, or {@code null} if the request failed
+   * @param failure the failure if no response was received
+   */
+  public void onResult(String resourcePath, WebRequestor.Response response, Throwable failure) {
+    Circuit circuit = circuits.get(resourcePath);
+    if (circuit == null) {
+      return;
+    }
+    boolean failed = response == null
+        ? failure != null && config.isNetworkErrorsFailures()
+        : config.getFailureStatusCodes().contains(response.getStatusCode());
+    if (failed) {
+      circuit.onFailure();
+    } else {
+      circuit.onSuccess();
+    }
+  }
+
+  /**
+   * Record that a request given permission to be sent was not sent after all, e.g. because it
+   * was over its call budget, so that it does not hold on to a trial request
+   * @param resourcePath the resource path
+   */
+  void onCancelled(String resourcePath) {
+    Circuit circuit = circuits.get(resourcePath);
+    if (circuit != null) {
+      circuit.onCancelled();
+    }
+  }
+
+  private void transitioned(String resourcePath, State from, State to) {
+    if (to == State.OPEN) {
+      LOGGER.warn("Opened the circuit of LinkedIn resource {} after it failed in state {}",
+          resourcePath, from);
+    } else {
+      LOGGER.info("Circuit of LinkedIn resource {} changed from {} to {}", resourcePath, from,
+          to);
+    }
+    for (CircuitBreakerListener listener : listeners) {
+      try {
+        listener.onStateChange(resourcePath, from, to);
+      } catch (RuntimeException ex) {
+        LOGGER.warn("Circuit breaker listener failed", ex);
+      }
+    }
+  }
+
+  /**
+   * An immutable state of a circuit and the time it was entered, swapped atomically
+   */
+  private static final class Snapshot {
+
+    private final State state;
+
+    private final long sinceNanos;
+
+    private Snapshot(State state, long sinceNanos) {
+      this.state = state;
+      this.sinceNanos = sinceNanos;
+    }
+  }
+
+  /**
+   * The circuit of a single resource path
+   */
+  private final class Circuit {
+
+    private final String resourcePath;
+
+    private final AtomicReference<Snapshot> snapshot =
+        new AtomicReference<>(new Snapshot(State.CLOSED, System.nanoTime()));
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final AtomicInteger trialRequests = new AtomicInteger();
+
+    private Circuit(String resourcePath) {
+      this.resourcePath = resourcePath;
+    }
+
+    private State getState() {
+      return snapshot.get().state;
+    }
+
+    private void acquirePermission() {
+      while (true) {
+        Snapshot current = snapshot.get();
+        switch (current.state) {
+          case CLOSED:
+            return;
+          case OPEN:
+            long remainingNanos =
+                config.getOpenDuration().toNanos() - (System.nanoTime() - current.sinceNanos);
+            if (remainingNanos > 0) {
+              throw new LinkedInCircuitOpenException(resourcePath,
+                  TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+            }
+            trialRequests.set(0);
+            transition(current, State.HALF_OPEN);
+            break;
+          default:
+            if (trialRequests.incrementAndGet() > config.getHalfOpenTrialRequests()) {
+              throw new LinkedInCircuitOpenException(resourcePath, 0);
+            }
+            return;
+        }
+      }
+    }
+
+    private void onCancelled() {
+      if (getState() == State.HALF_OPEN) {
+        trialRequests.decrementAndGet();
+      }
+    }
+
+    private void onSuccess() {
+      consecutiveFailures.set(0);
+      Snapshot current = snapshot.get();
+      if (current.state == State.HALF_OPEN) {
+        transition(current, State.CLOSED);
+      }
+    }
+
+    private void onFailure() {
+      Snapshot current = snapshot.get();
+      if (current.state == State.HALF_OPEN
+          || current.state == State.CLOSED
+          && consecutiveFailures.incrementAndGet() >= config.getFailureThreshold()) {
+        transition(current, State.OPEN);
+      }
+    }
+
+    private void transition(Snapshot current, State state) {
+      if (snapshot.compareAndSet(current, new Snapshot(state, System.nanoTime()))) {
+        if (state == State.CLOSED) {
+          consecutiveFailures.set(0);
+        }
+        transitioned(resourcePath, current.state, state);
+      }
+    }
+  }
+}
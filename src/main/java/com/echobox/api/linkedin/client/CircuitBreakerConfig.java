@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Configuration of when a {@link CircuitBreaker} opens the circuit of a resource path and how it
+ * probes whether the resource has recovered
+ * @author Joanna
+ */
+@Builder
+@Getter
+public class CircuitBreakerConfig {
+
+  /**
+   * The number of consecutive failed requests to a resource path that open its circuit
+   */
+  @Builder.Default
+  private final int failureThreshold = 5;
+
+  /**
+   * How long a circuit stays open before letting trial requests through
+   */
+  @Builder.Default
+  private final Duration openDuration = Duration.ofSeconds(30);
+
+  /**
+   * The number of trial requests let through while a circuit is half-open
+   */
+  @Builder.Default
+  private final int halfOpenTrialRequests = 1;
+
+  /**
+   * The response status codes that count as a failure of the resource. Other responses, such as
+   * 4xx errors, show the resource is responding and count as a success.
+   */
+  @Builder.Default
+  private final Set<Integer> failureStatusCodes = Collections.unmodifiableSet(new HashSet<>(
+      Arrays.asList(HttpStatus.SC_INTERNAL_SERVER_ERROR, HttpStatus.SC_BAD_GATEWAY,
+          HttpStatus.SC_SERVICE_UNAVAILABLE, HttpStatus.SC_GATEWAY_TIMEOUT)));
+
+  /**
+   * Whether network failures, where no response was received, count as a failure of the resource
+   */
+  @Builder.Default
+  private final boolean networkErrorsFailures = true;
+
+  /**
+   * Creates the default configuration
+   * @return the default configuration
+   */
+  public static CircuitBreakerConfig defaultConfig() {
+    return CircuitBreakerConfig.builder().build();
+  }
+}
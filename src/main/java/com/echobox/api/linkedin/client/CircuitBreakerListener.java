@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+/**
+ * Told about every state change of the circuits of a {@link CircuitBreaker}, e.g. to record
+ * metrics or raise alerts
+ * @author Joanna
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+  /**
+   * Called after the circuit of a resource path has changed state. Called on the thread that
+   * made the request causing the change, so should return quickly.
+   * @param resourcePath the resource path
+   * @param from the previous state
+   * @param to the new state
+   */
+  void onStateChange(String resourcePath, CircuitBreaker.State from, CircuitBreaker.State to);
+}
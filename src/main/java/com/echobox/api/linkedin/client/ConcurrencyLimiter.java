@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.util.ValidationUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Limits the number of requests in flight to each host, adapting the limit to what the host
+ * accepts with an additive increase, multiplicative decrease (AIMD) algorithm.
+ * <p>
+ * Each response that is neither rejected nor slow raises the limit by {@code 1 / limit}, i.e. by
+ * about one for each round trip made at the limit. A 429 or 503 response, or a response taking
+ * longer than {@link ConcurrencyLimiterConfig#getLatencyTolerance()} times the lowest round trip
+ * time seen, cuts the limit by {@link ConcurrencyLimiterConfig#getBackoffRatio()}. Requests over
+ * the limit queue until a request to the same host completes.
+ * @author Joanna
+ */
+public class ConcurrencyLimiter {
+
+  private final ConcurrencyLimiterConfig config;
+
+  private final ConcurrentMap<String, HostLimit> hostLimits = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a concurrency limiter
+   * @param config how to adapt the limits
+   */
+  public ConcurrencyLimiter(ConcurrencyLimiterConfig config) {
+    ValidationUtils.verifyParameterPresence("config", config);
+    if (config.getMinLimit() < 1 || config.getMaxLimit() < config.getMinLimit()
+        || config.getBackoffRatio() <= 0 || config.getBackoffRatio() >= 1) {
+      throw new IllegalArgumentException("The concurrency limits must be positive and the "
+          + "backoff ratio between 0 and 1");
+    }
+    this.config = config;
+  }
+
+  /**
+   * Gets the current limit of requests in flight to a host
+   * @param host the host, e.g. {@code api.linkedin.com}
+   * @return the limit
+   */
+  public int getLimit(String host) {
+    HostLimit hostLimit = hostLimits.get(host);
+    return hostLimit == null ? clamp(config.getInitialLimit()) : hostLimit.getLimit();
+  }
+
+  /**
+   * Gets the number of requests in flight to a host
+   * @param host the host
+   * @return the number of requests in flight
+   */
+  public int getInFlight(String host) {
+    HostLimit hostLimit = hostLimits.get(host);
+    return hostLimit == null ? 0 : hostLimit.getInFlight();
+  }
+
+  /**
+   * Gets the number of requests waiting to be sent to a host
+   * @param host the host
+   * @return the queue depth
+   */
+  public int getQueueDepth(String host) {
+    HostLimit hostLimit = hostLimits.get(host);
+    return hostLimit == null ? 0 : hostLimit.getQueueDepth();
+  }
+
+  /**
+   * Gets the current limit of every host that has been requested
+   * @return the limits by host
+   */
+  public Map<String, Integer> getLimits() {
+    Map<String, Integer> limits = new HashMap<>();
+    hostLimits.forEach((host, hostLimit) -> limits.put(host, hostLimit.getLimit()));
+    return limits;
+  }
+
+  /**
+   * Wait for a request to a host to be allowed in flight
+   * @param host the host
+   * @throws InterruptedException if interrupted while waiting
+   */
+  void acquire(String host) throws InterruptedException {
+    CompletableFuture<Void> permit = acquireAsync(host);
+    try {
+      permit.get();
+    } catch (InterruptedException ex) {
+      if (!permit.cancel(false)) {
+        // The permit was granted while being interrupted
+        release(host);
+      }
+      throw ex;
+    } catch (ExecutionException ex) {
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  /**
+   * Request that a request to a host is allowed in flight, without waiting
+   * @param host the host
+   * @return a future that completes once the request is allowed in flight, and can be cancelled
+   *          to give up waiting
+   */
+  CompletableFuture<Void> acquireAsync(String host) {
+    HostLimit hostLimit = hostLimits.get(host);
+    if (hostLimit == null) {
+      hostLimit = hostLimits.computeIfAbsent(host, ignored -> new HostLimit());
+    }
+    return hostLimit.acquire();
+  }
+
+  /**
+   * Record that a request to a host has completed, adapting the limit to its outcome
+   * @param host the host
+   * @param rttNanos the round trip time of the request
+   * @param overloaded whether the host rejected the request because it is overloaded
+   */
+  void release(String host, long rttNanos, boolean overloaded) {
+    hostLimits.get(host).release(rttNanos, overloaded);
+  }
+
+  /**
+   * Record that a request to a host has completed without a response that says anything about
+   * the load on the host, e.g. because it failed to connect
+   * @param host the host
+   */
+  void release(String host) {
+    hostLimits.get(host).release(-1, false);
+  }
+
+  private int clamp(double limit) {
+    return (int) Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), limit));
+  }
+
+  /**
+   * The adaptive limit of a single host
+   */
+  private final class HostLimit {
+
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private double limit = clamp(config.getInitialLimit());
+
+    private int inFlight;
+
+    private long minRttNanos;
+
+    private long minRttMeasuredAtNanos;
+
+    private synchronized int getLimit() {
+      return (int) limit;
+    }
+
+    private synchronized int getInFlight() {
+      return inFlight;
+    }
+
+    private synchronized int getQueueDepth() {
+      return waiters.size();
+    }
+
+    private CompletableFuture<Void> acquire() {
+      synchronized (this) {
+        if (inFlight < (int) limit) {
+          inFlight++;
+          return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        return waiter;
+      }
+    }
+
+    private void release(long rttNanos, boolean overloaded) {
+      List<CompletableFuture<Void>> granted = new ArrayList<>();
+      synchronized (this) {
+        if (rttNanos >= 0) {
+          adapt(rttNanos, overloaded);
+        }
+        inFlight--;
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+          CompletableFuture<Void> waiter = waiters.poll();
+          if (!waiter.isDone()) {
+            inFlight++;
+            granted.add(waiter);
+          }
+        }
+      }
+      for (CompletableFuture<Void> waiter : granted) {
+        // A waiter cancelled since being granted hands its permit straight back
+        if (!waiter.complete(null)) {
+          release(-1, false);
+        }
+      }
+    }
+
+    private void adapt(long rttNanos, boolean overloaded) {
+      long now = System.nanoTime();
+      if (minRttNanos == 0 || rttNanos < minRttNanos
+          || now - minRttMeasuredAtNanos > config.getMinRttResetInterval().toNanos()) {
+        minRttNanos = Math.max(1, rttNanos);
+        minRttMeasuredAtNanos = now;
+      }
+
+      if (overloaded || rttNanos > minRttNanos * config.getLatencyTolerance()) {
+        limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+      } else if (inFlight * 2 >= limit) {
+        // Only raise the limit while it is being used, so it cannot grow unchecked when quiet
+        limit = Math.min(config.getMaxLimit(), limit + 1 / limit);
+      }
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuration of how a {@link ConcurrencyLimiter} adapts the number of requests in flight to
+ * each host
+ * @author Joanna
+ */
+@Builder
+@Getter
+public class ConcurrencyLimiterConfig {
+
+  /**
+   * The number of requests allowed in flight to a host before any response has been received
+   */
+  @Builder.Default
+  private final int initialLimit = 20;
+
+  /**
+   * The lowest the limit can be cut to
+   */
+  @Builder.Default
+  private final int minLimit = 1;
+
+  /**
+   * The highest the limit can be raised to
+   */
+  @Builder.Default
+  private final int maxLimit = 200;
+
+  /**
+   * The factor the limit is multiplied by when a host is overloaded
+   */
+  @Builder.Default
+  private final double backoffRatio = 0.9;
+
+  /**
+   * How many times the lowest round trip time a response can take before the host is considered
+   * overloaded
+   */
+  @Builder.Default
+  private final double latencyTolerance = 2.0;
+
+  /**
+   * How often the lowest round trip time is measured afresh, so that the limit follows a host
+   * whose unloaded latency has changed
+   */
+  @Builder.Default
+  private final Duration minRttResetInterval = Duration.ofMinutes(1);
+
+  /**
+   * Creates the default configuration
+   * @return the default configuration
+   */
+  public static ConcurrencyLimiterConfig defaultConfig() {
+    return ConcurrencyLimiterConfig.builder().build();
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.util.ValidationUtils;
+import org.apache.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * A {@link WebRequestor} that sends requests through another web requestor, limiting the
+ * requests in flight to each host with a {@link ConcurrencyLimiter}. Every request made with the
+ * web requestor is limited, so when a LinkedIn client is created with it both its API requests
+ * and the uploads made by its connections to the upload hosts adapt to what LinkedIn accepts.
+ * <p>
+ * Asynchronous requests wait for their turn without blocking a thread. If the wrapped web
+ * requestor does not implement {@link AsyncWebRequestor} they are sent on the given executor.
+ * @author Joanna
+ */
+public class ConcurrencyLimitingWebRequestor implements WebRequestor, AsyncWebRequestor {
+
+  private final WebRequestor webRequestor;
+
+  private final AsyncWebRequestor asyncWebRequestor;
+
+  private final ConcurrencyLimiter limiter;
+
+  /**
+   * Creates a web requestor that limits the requests sent with another web requestor, sending
+   * asynchronous requests of a blocking web requestor on the common fork join pool
+   * @param webRequestor the web requestor to send requests with
+   * @param limiter the limiter of requests in flight
+   */
+  public ConcurrencyLimitingWebRequestor(WebRequestor webRequestor, ConcurrencyLimiter limiter) {
+    this(webRequestor, limiter, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a web requestor that limits the requests sent with another web requestor
+   * @param webRequestor the web requestor to send requests with
+   * @param limiter the limiter of requests in flight
+   * @param executor the executor asynchronous requests are sent on if the web requestor does
+   *          not implement {@link AsyncWebRequestor}
+   */
+  public ConcurrencyLimitingWebRequestor(WebRequestor webRequestor, ConcurrencyLimiter limiter,
+      Executor executor) {
+    ValidationUtils.verifyParameterPresence("webRequestor", webRequestor);
+    ValidationUtils.verifyParameterPresence("limiter", limiter);
+    ValidationUtils.verifyParameterPresence("executor", executor);
+    this.webRequestor = webRequestor;
+    this.asyncWebRequestor = webRequestor instanceof AsyncWebRequestor
+        ? (AsyncWebRequestor) webRequestor : AsyncWebRequestor.fromBlocking(webRequestor, executor);
+    this.limiter = limiter;
+  }
+
+  /**
+   * Gets the limiter of requests in flight, e.g. to read the current limit of a host
+   * @return the limiter
+   */
+  public ConcurrencyLimiter getLimiter() {
+    return limiter;
+  }
+
+  @Override
+  public Response executeGet(String url) throws IOException {
+    return limit(url, () -> webRequestor.executeGet(url));
+  }
+
+  @Override
+  public Response executeGet(String url, Map<String, String> headers) throws IOException {
+    return limit(url, () -> webRequestor.executeGet(url, headers));
+  }
+
+  @Override
+  public Response executePost(String url, String parameters, String jsonBody)
+      throws IOException {
+    return limit(url, () -> webRequestor.executePost(url, parameters, jsonBody));
+  }
+
+  @Override
+  public Response executePost(String url, String parameters, String jsonBody,
+      Map<String, String> headers, BinaryAttachment... binaryAttachments) throws IOException {
+    return limit(url, () -> webRequestor.executePost(url, parameters, jsonBody, headers,
+        binaryAttachments));
+  }
+
+  @Override
+  public Response executePut(String url, String parameters, String jsonBody,
+      Map<String, String> headers, BinaryAttachment binaryAttachment) throws IOException {
+    return limit(url, () -> webRequestor.executePut(url, parameters, jsonBody, headers,
+        binaryAttachment));
+  }
+
+  @Override
+  public Response executeDelete(String url) throws IOException {
+    return limit(url, () -> webRequestor.executeDelete(url));
+  }
+
+  @Override
+  public Response executeDelete(String url, Map<String, String> headers) throws IOException {
+    return limit(url, () -> webRequestor.executeDelete(url, headers));
+  }
+
+  @Override
+  @Deprecated
+  public DebugHeaderInfo getDebugHeaderInfo() {
+    return webRequestor.getDebugHeaderInfo();
+  }
+
+  @Override
+  public CompletableFuture<Response> executeGetAsync(String url, Map<String, String> headers) {
+    return limitAsync(url, () -> asyncWebRequestor.executeGetAsync(url, headers));
+  }
+
+  @Override
+  public CompletableFuture<Response> executePostAsync(String url, String parameters,
+      String jsonBody, Map<String, String> headers, BinaryAttachment... binaryAttachments) {
+    return limitAsync(url, () -> asyncWebRequestor.executePostAsync(url, parameters, jsonBody,
+        headers, binaryAttachments));
+  }
+
+  @Override
+  public CompletableFuture<Response> executePutAsync(String url, String parameters,
+      String jsonBody, Map<String, String> headers, BinaryAttachment binaryAttachment) {
+    return limitAsync(url, () -> asyncWebRequestor.executePutAsync(url, parameters, jsonBody,
+        headers, binaryAttachment));
+  }
+
+  @Override
+  public CompletableFuture<Response> executeDeleteAsync(String url,
+      Map<String, String> headers) {
+    return limitAsync(url, () -> asyncWebRequestor.executeDeleteAsync(url, headers));
+  }
+
+  private Response limit(String url, DefaultLinkedInClient.Requestor requestor)
+      throws IOException {
+    String host = getHost(url);
+    try {
+      limiter.acquire(host);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to send a request to " + host);
+    }
+
+    long start = System.nanoTime();
+    Response response = null;
+    try {
+      response = requestor.makeRequest();
+      return response;
+    } finally {
+      release(host, start, response);
+    }
+  }
+
+  private CompletableFuture<Response> limitAsync(String url,
+      Supplier<CompletableFuture<Response>> requestor) {
+    String host = getHost(url);
+    return limiter.acquireAsync(host).thenCompose(ignored -> {
+      long start = System.nanoTime();
+      CompletableFuture<Response> responseFuture;
+      try {
+        responseFuture = requestor.get();
+      } catch (RuntimeException ex) {
+        responseFuture = CompletableFuture.failedFuture(ex);
+      }
+      return responseFuture.whenComplete((response, throwable) ->
+          release(host, start, response));
+    });
+  }
+
+  private void release(String host, long start, Response response) {
+    if (response == null) {
+      limiter.release(host);
+    } else {
+      limiter.release(host, System.nanoTime() - start,
+          response.getStatusCode() == HttpStatus.SC_TOO_MANY_REQUESTS
+              || response.getStatusCode() == HttpStatus.SC_SERVICE_UNAVAILABLE);
+    }
+  }
+
+  /**
+   * Gets the host a URL is requested from, including the port if there is one
+   * @param url the URL
+   * @return the host
+   */
+  static String getHost(String url) {
+    int start = url.indexOf("://");
+    start = start < 0 ? 0 : start + 3;
+    int end = start;
+    while (end < url.length() && "/?#".indexOf(url.charAt(end)) < 0) {
+      end++;
+    }
+    return url.substring(start, end);
+  }
+}
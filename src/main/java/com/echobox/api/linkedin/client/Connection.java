@@ -25,9 +25,11 @@ package com.echobox.api.linkedin.client;
 
 import static java.util.Collections.unmodifiableList;
 
+import com.echobox.api.linkedin.client.paging.Pages;
 import com.echobox.api.linkedin.client.paging.PagingStrategy;
 import com.echobox.api.linkedin.exception.LinkedInJsonMappingException;
 import com.echobox.api.linkedin.util.ReflectionUtils;
+import com.echobox.api.linkedin.util.ValidationUtils;
 import com.echobox.api.linkedin.version.Version;
 import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
@@ -38,6 +40,14 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a LinkedIn API Connection type
@@ -51,6 +61,10 @@ public class Connection<T> implements Iterable<List<T>> {
   private List<T> data;
   private String previousPageUrl;
   private String nextPageUrl;
+  private String fullEndpoint;
+  private Integer start;
+  private Integer count;
+  private Integer total;
 
   /**
    * @see java.lang.Iterable#iterator()
@@ -60,6 +74,54 @@ public class Connection<T> implements Iterable<List<T>> {
     return new Itr<T>(this);
   }
 
+  /**
+   * Creates an iterator that fetches the following pages in the background while the current
+   * one is processed. Close it if iteration stops early.
+   *
+   * @param lookAhead the number of pages to fetch ahead of the caller
+   * @param executor the executor pages are fetched on
+   * @return the prefetching iterator
+   */
+  public PrefetchingConnectionIterator<T> prefetchingIterator(int lookAhead, Executor executor) {
+    return new PrefetchingConnectionIterator<>(this, lookAhead, executor);
+  }
+
+  /**
+   * Creates a sequential stream over the elements of every page of the connection. The
+   * following pages are only fetched as the stream consumes the elements of the page before
+   * them, so a short-circuiting operation such as {@code takeWhile} or {@code findFirst} stops
+   * fetching pages.
+   *
+   * @return the stream of elements
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(new ConnectionSpliterator<>(iterator()), false);
+  }
+
+  /**
+   * Resumes iterating a connection from a saved cursor. Only the page at the cursor is fetched,
+   * the pages before it are not read again.
+   *
+   * @param linkedinClient the client used to fetch the page and the pages after it
+   * @param cursor the cursor to resume from
+   * @param connectionType connection type token
+   * @param <T> the LinkedIn type
+   * @return the page of the connection at the cursor
+   * @throws IllegalArgumentException if the cursor was created with another LinkedIn version
+   *           month, whose paging may differ
+   */
+  public static <T> Connection<T> resume(LinkedInClient linkedinClient, PageCursor cursor,
+      Class<T> connectionType) {
+    ValidationUtils.verifyParameterPresence("cursor", cursor);
+    if (cursor.getVersionMonth() != null
+        && !cursor.getVersionMonth().equals(linkedinClient.getVersionedMonth())) {
+      throw new IllegalArgumentException("The cursor was created with version month "
+          + cursor.getVersionMonth() + " but the client uses "
+          + linkedinClient.getVersionedMonth());
+    }
+    return linkedinClient.fetchConnectionPage(cursor.toPageUrl(), connectionType);
+  }
+
   /**
    * Iterator over connection pages.
    * @param <T> type
@@ -125,6 +187,14 @@ public class Connection<T> implements Iterable<List<T>> {
     public Connection<T> snapshot() {
       return connection;
     }
+
+    /**
+     * @see ConnectionIterator#cursor()
+     */
+    @Override
+    public PageCursor cursor() {
+      return initialPage ? connection.getCursor() : connection.getNextCursor();
+    }
   }
 
   /**
@@ -174,15 +244,79 @@ public class Connection<T> implements Iterable<List<T>> {
               connectionType));
     }
 
-    pagingStrategy.populatePages(jsonObject, fullEndpoint);
-    this.nextPageUrl = pagingStrategy.getNextPageUrl();
-    this.previousPageUrl = pagingStrategy.getPreviousPageUrl();
+    Pages pages = pagingStrategy.populatePages(jsonObject, fullEndpoint);
+    this.nextPageUrl = pages.getNextPageUrl();
+    this.previousPageUrl = pages.getPreviousPageUrl();
+    this.start = pages.getStart();
+    this.count = pages.getCount();
+    this.total = pages.getTotal();
+    this.fullEndpoint = fullEndpoint;
 
     this.data = unmodifiableList(dataList);
     this.linkedinClient = linkedinClient;
     this.connectionType = connectionType;
   }
 
+  /**
+   * Fetches every following page of the connection and returns the elements of this page and of
+   * the following pages, in order. If LinkedIn returned the total number of elements, the offset
+   * of every following page is known and up to {@code parallelism} pages are fetched at the same
+   * time on the executor. Otherwise the pages are fetched one after the other on the calling
+   * thread.
+   *
+   * @param parallelism the most pages fetched at the same time
+   * @param executor the executor pages are fetched on
+   * @return the elements of this page and of every following page
+   */
+  public List<T> fetchAll(int parallelism, Executor executor) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("The parallelism must be at least 1");
+    }
+    ValidationUtils.verifyParameterPresence("executor", executor);
+    if (!hasNext() || total == null || start == null || count == null || count <= 0) {
+      List<T> elements = new ArrayList<>();
+      iterator().forEachRemaining(elements::addAll);
+      return elements;
+    }
+
+    PagingStrategy pagingStrategy = linkedinClient.getVersion().getPagingStrategy();
+    int pages = (int) Math.max(0, ((long) total - start - 1) / count);
+    AtomicReferenceArray<List<T>> pageData = new AtomicReferenceArray<>(pages);
+    AtomicInteger nextPage = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+    List<CompletableFuture<Void>> workers = new ArrayList<>();
+    for (int worker = 0; worker < Math.min(parallelism, pages); worker++) {
+      workers.add(CompletableFuture.runAsync(() -> {
+        int page;
+        while (!failed.get() && (page = nextPage.getAndIncrement()) < pages) {
+          String pageUrl = pagingStrategy.createPageURL(fullEndpoint,
+              start + (page + 1) * count, count);
+          try {
+            pageData.set(page, linkedinClient.fetchConnectionPage(pageUrl, connectionType)
+                .getData());
+          } catch (RuntimeException ex) {
+            failed.set(true);
+            throw ex;
+          }
+        }
+      }, executor));
+    }
+
+    try {
+      CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+    List<T> elements = new ArrayList<>(data);
+    for (int page = 0; page < pages; page++) {
+      elements.addAll(pageData.get(page));
+    }
+    return elements;
+  }
+
   /**
    * Fetches the next page of the connection. Designed to be used by {@link Itr}.
    * 
@@ -216,6 +350,54 @@ public class Connection<T> implements Iterable<List<T>> {
     return data;
   }
 
+  /**
+   * The index of the first element of this page.
+   *
+   * @return the index of the first element, or {@code null} if LinkedIn did not return it
+   */
+  public Integer getStart() {
+    return start;
+  }
+
+  /**
+   * The number of elements requested for each page.
+   *
+   * @return the number of elements per page, or {@code null} if LinkedIn did not return it
+   */
+  public Integer getCount() {
+    return count;
+  }
+
+  /**
+   * The total number of elements of the connection.
+   *
+   * @return the total number of elements, or {@code null} if LinkedIn did not return it
+   */
+  public Integer getTotal() {
+    return total;
+  }
+
+  /**
+   * The cursor of this page, which can be saved to later resume iterating the connection from
+   * this page with {@link #resume(LinkedInClient, PageCursor, Class)}.
+   *
+   * @return the cursor of this page
+   */
+  public PageCursor getCursor() {
+    return PageCursor.fromPageUrl(fullEndpoint, linkedinClient.getVersionedMonth());
+  }
+
+  /**
+   * The cursor of the next page, which can be saved once this page has been processed to later
+   * resume iterating the connection after it.
+   *
+   * @return the cursor of the next page, or {@code null} if there is no next page
+   */
+  public PageCursor getNextCursor() {
+    return hasNext() ? PageCursor.fromPageUrl(nextPageUrl, linkedinClient.getVersionedMonth())
+        : null;
+  }
+
   /**
    * This connection's "previous page of data" URL.
    * 
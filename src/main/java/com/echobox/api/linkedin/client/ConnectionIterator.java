@@ -41,4 +41,14 @@ public interface ConnectionIterator<T> extends Iterator<List<T>> {
    */
   Connection<T> snapshot();
 
+  /**
+   * gets the cursor of the first page not returned yet, which can be saved to later resume the
+   * iteration with {@link Connection#resume(LinkedInClient, PageCursor, Class)}.
+   *
+   * @return the cursor to resume from, or {@code null} if every page has been returned
+   */
+  default PageCursor cursor() {
+    return snapshot().getNextCursor();
+  }
+
 }
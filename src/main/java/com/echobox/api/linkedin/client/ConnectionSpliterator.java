@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the elements of a connection, fetching each page only once the elements of
+ * the page before it have been consumed
+ *
+ * @param <T> The LinkedIn type
+ * @author Joanna
+ */
+class ConnectionSpliterator<T> implements Spliterator<T> {
+
+  private final Iterator<List<T>> pages;
+
+  private Iterator<T> elements = Collections.emptyIterator();
+
+  /**
+   * Creates a spliterator over the elements of the pages of a connection
+   *
+   * @param pages the iterator over the pages of the connection
+   */
+  ConnectionSpliterator(Iterator<List<T>> pages) {
+    this.pages = pages;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    while (!elements.hasNext()) {
+      if (!pages.hasNext()) {
+        return false;
+      }
+      elements = pages.next().iterator();
+    }
+    action.accept(elements.next());
+    return true;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    // Each page needs the one before it, so the elements cannot be split
+    return null;
+  }
+
+  @Override
+  public long estimateSize() {
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED;
+  }
+}
@@ -18,6 +18,9 @@
 package com.echobox.api.linkedin.client;
 
 import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
 
 /**
  * Debug header info
@@ -64,6 +67,18 @@ public class DebugHeaderInfo {
     this.uuid = uuid;
   }
   
+  /**
+   * Parse the debug header info from response headers
+   * @param headers the response headers, keyed by lower case header name
+   * @return the debug header info, with an empty string for each header that is not present
+   */
+  public static DebugHeaderInfo fromHeaders(Map<String, String> headers) {
+    return new DebugHeaderInfo(StringUtils.trimToEmpty(headers.get("x-li-fabric")),
+        StringUtils.trimToEmpty(headers.get("x-li-format")),
+        StringUtils.trimToEmpty(headers.get("x-li-request-id")),
+        StringUtils.trimToEmpty(headers.get("x-li-uuid")));
+  }
+  
   @Override
   public String toString() {
     return String.format("DebugHeaderInfo [x-li-fabric=%s, x-li-format=%s, x-li-request-id=%s, "
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.exception.LinkedInException;
+import com.echobox.api.linkedin.exception.LinkedInNetworkException;
+import com.echobox.api.linkedin.util.ValidationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Default implementation of an asynchronous LinkedIn API client. Requests are built and their
+ * responses processed by a {@link DefaultLinkedInClient}, so they are mapped to exactly the same
+ * results and exceptions as the blocking client.
+ * <p>
+ * If the client's {@link WebRequestor} also implements {@link AsyncWebRequestor}, such as the
+ * {@link HttpClientWebRequestor}, no thread is blocked while waiting for LinkedIn to respond.
+ * Otherwise each request runs on the supplied executor. Response processing and JSON mapping
+ * always run on the supplied executor. Failed requests are retried according to the
+ * {@link DefaultLinkedInClient#getRetryPolicy() retry policy} of the blocking client, waiting for
+ * the retry delay without blocking a thread.
+ * @author Joanna
+ */
+public class DefaultAsyncLinkedInClient implements AsyncLinkedInClient {
+
+  private final DefaultLinkedInClient linkedinClient;
+
+  private final AsyncWebRequestor asyncWebRequestor;
+
+  private final Executor executor;
+
+  /**
+   * Creates an asynchronous LinkedIn API client that sends requests with the web requestor of
+   * the given client
+   *
+   * @param linkedinClient
+   *          The client used to build requests and process responses
+   * @param executor
+   *          The executor responses are processed on
+   */
+  public DefaultAsyncLinkedInClient(DefaultLinkedInClient linkedinClient, Executor executor) {
+    this(linkedinClient, toAsyncWebRequestor(linkedinClient, executor), executor);
+  }
+
+  /**
+   * Creates an asynchronous LinkedIn API client
+   *
+   * @param linkedinClient
+   *          The client used to build requests and process responses
+   * @param asyncWebRequestor
+   *          The requestor used to send requests
+   * @param executor
+   *          The executor responses are processed on
+   */
+  public DefaultAsyncLinkedInClient(DefaultLinkedInClient linkedinClient,
+      AsyncWebRequestor asyncWebRequestor, Executor executor) {
+    ValidationUtils.verifyParameterPresence("linkedinClient", linkedinClient);
+    ValidationUtils.verifyParameterPresence("asyncWebRequestor", asyncWebRequestor);
+    ValidationUtils.verifyParameterPresence("executor", executor);
+    this.linkedinClient = linkedinClient;
+    this.asyncWebRequestor = asyncWebRequestor;
+    this.executor = executor;
+  }
+
+  private static AsyncWebRequestor toAsyncWebRequestor(DefaultLinkedInClient linkedinClient,
+      Executor executor) {
+    ValidationUtils.verifyParameterPresence("linkedinClient", linkedinClient);
+    WebRequestor webRequestor = linkedinClient.getWebRequestor();
+    ValidationUtils.verifyParameterPresence("webRequestor", webRequestor);
+    if (webRequestor instanceof AsyncWebRequestor) {
+      return (AsyncWebRequestor) webRequestor;
+    }
+    return AsyncWebRequestor.fromBlocking(webRequestor, executor);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> fetchObject(String object, Class<T> objectType,
+      Parameter... parameters) {
+    ValidationUtils.verifyParameterPresence("object", object);
+    ValidationUtils.verifyParameterPresence("objectType", objectType);
+    return makeRequest(linkedinClient.prepareApiRequest(object, RequestType.GET, null, null,
+        linkedinClient.withFieldProjection(objectType, parameters)))
+        .thenApply(response -> mapResponse(response, objectType));
+  }
+
+  @Override
+  public <T> CompletableFuture<Connection<T>> fetchConnection(String connection,
+      Class<T> connectionType, Parameter... parameters) {
+    ValidationUtils.verifyParameterPresence("connection", connection);
+    ValidationUtils.verifyParameterPresence("connectionType", connectionType);
+    PreparedRequest request = linkedinClient.prepareApiRequest(connection, RequestType.GET,
+        null, null, linkedinClient.withFieldProjection(connectionType, parameters));
+    return makeRequest(request).thenApply(response -> new Connection<>(request.getUrl(),
+        linkedinClient, response.getBody(), connectionType));
+  }
+
+  @Override
+  public <T> CompletableFuture<Connection<T>> fetchConnectionPage(String connectionPageUrl,
+      Class<T> connectionType) {
+    return makeRequest(connectionPageUrl, RequestType.GET, true,
+        () -> asyncWebRequestor.executeGetAsync(
+        linkedinClient.toConnectionPageRequestUrl(connectionPageUrl),
+        linkedinClient.getDefaultHeaders()))
+        .thenApply(response -> new Connection<>(connectionPageUrl, linkedinClient,
+            response.getBody(), connectionType));
+  }
+
+  @Override
+  public CompletableFuture<WebRequestor.Response> put(String connection, Object jsonBody,
+      BinaryAttachment binaryAttachment, Parameter... parameters) {
+    List<BinaryAttachment> attachments = new ArrayList<>();
+    if (binaryAttachment != null) {
+      attachments.add(binaryAttachment);
+    }
+    return makeRequest(linkedinClient.prepareApiRequest(connection, RequestType.PUT, jsonBody,
+        attachments, parameters));
+  }
+
+  @Override
+  public CompletableFuture<WebRequestor.Response> publish(String connection, Object jsonBody,
+      Parameter... parameters) {
+    return makeRequest(linkedinClient.prepareApiRequest(connection, RequestType.POST, jsonBody,
+        new ArrayList<>(), parameters));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> publish(String connection, Class<T> objectType,
+      Object jsonBody, Parameter... parameters) {
+    return publish(connection, objectType, jsonBody, new ArrayList<>(), parameters);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> publish(String connection, Class<T> objectType,
+      Object jsonBody, List<BinaryAttachment> binaryAttachments, Parameter... parameters) {
+    return makeRequest(linkedinClient.prepareApiRequest(connection, RequestType.POST, jsonBody,
+        binaryAttachments, parameters))
+        .thenApply(response -> mapResponse(response, objectType));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> deleteObject(String object, Parameter... parameters) {
+    ValidationUtils.verifyParameterPresence("object", object);
+    return makeRequest(linkedinClient.prepareApiRequest(object, RequestType.DELETE, null, null,
+        parameters))
+        .thenApply(response -> linkedinClient.isDeleteSuccessful(response.getBody()));
+  }
+
+  @Override
+  public LinkedInClient getLinkedInClient() {
+    return linkedinClient;
+  }
+
+  private <T> T mapResponse(WebRequestor.Response response, Class<T> objectType) {
+    return linkedinClient.getJsonMapper().toJavaObject(response.getBodyBytes(), objectType);
+  }
+
+  private CompletableFuture<WebRequestor.Response> makeRequest(PreparedRequest request) {
+    return makeRequest(request.getUrl(), request.getRequestType(), request.isRepeatable(),
+        () -> request.executeAsync(asyncWebRequestor));
+  }
+
+  /**
+   * Send the request, guarding it with the client's circuit breaker, metering it with the
+   * client's rate limiter and retrying it as the client's retry policy allows, and process the
+   * response on the executor, mapping a failure to send the request to a
+   * {@link LinkedInNetworkException} in the same way as the blocking client.
+   *
+   * @param url The URL requested
+   * @param requestType The type of the request
+   * @param repeatable Whether the request can be sent more than once
+   * @param requestor Sends the request
+   * @return A future that completes with the processed response
+   */
+  private CompletableFuture<WebRequestor.Response> makeRequest(String url,
+      RequestType requestType, boolean repeatable, AsyncRequestor requestor) {
+    RetryPolicy policy = linkedinClient.getRetryPolicy();
+    boolean retryable = repeatable && policy.isRetryable(requestType);
+    String resourcePath = linkedinClient.getResourcePath(url);
+    RateLimiter limiter = linkedinClient.getRateLimiter();
+    CircuitBreaker breaker = linkedinClient.getCircuitBreaker();
+    AsyncRequestor guardedRequestor = limiter == null ? requestor
+        : meter(limiter, resourcePath, requestor);
+    guardedRequestor = breaker == null ? guardedRequestor
+        : guard(breaker, resourcePath, guardedRequestor);
+    return sendWithRetries(policy, retryable, guardedRequestor, 1, System.nanoTime())
+        .handleAsync((response, throwable) -> {
+          if (throwable != null) {
+            Throwable cause = unwrap(throwable);
+            if (cause instanceof LinkedInException) {
+              throw (LinkedInException) cause;
+            }
+            throw new LinkedInNetworkException("LinkedIn request failed", cause);
+          }
+          return linkedinClient.processResponse(response);
+        }, executor);
+  }
+
+  /**
+   * Send the request and, if the retry policy decides to retry its outcome, schedule the next
+   * attempt on the executor after the retry delay without blocking a thread while waiting
+   */
+  private CompletableFuture<WebRequestor.Response> sendWithRetries(RetryPolicy policy,
+      boolean retryable, AsyncRequestor requestor, int attempt, long start) {
+    CompletableFuture<WebRequestor.Response> responseFuture;
+    try {
+      responseFuture = requestor.makeRequest();
+    } catch (Exception ex) {
+      responseFuture = CompletableFuture.failedFuture(ex);
+    }
+
+    return responseFuture.handle((response, throwable) -> {
+      Throwable failure = throwable == null ? null : unwrap(throwable);
+      if (failure instanceof LinkedInException) {
+        // Rejected by the rate limiter or circuit breaker without being sent
+        return CompletableFuture.<WebRequestor.Response>failedFuture(failure);
+      }
+      long delayMillis = policy.getRetryDelayMillis(retryable, attempt,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), response, failure);
+      if (delayMillis < 0) {
+        return failure == null ? CompletableFuture.completedFuture(response)
+            : CompletableFuture.<WebRequestor.Response>failedFuture(failure);
+      }
+      return CompletableFuture.supplyAsync(() -> null,
+          CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, executor))
+          .thenCompose(ignored -> sendWithRetries(policy, retryable, requestor, attempt + 1,
+              start));
+    }).thenCompose(Function.identity());
+  }
+
+  /**
+   * Take a permit from the rate limiter before each attempt, delaying the attempt on the executor
+   * rather than blocking a thread if the budget has to refill first
+   */
+  private AsyncRequestor meter(RateLimiter limiter, String resourcePath,
+      AsyncRequestor requestor) {
+    return () -> {
+      long waitNanos = limiter.reserve(linkedinClient.getRateLimitMemberKey(), resourcePath);
+      if (waitNanos == 0) {
+        return requestor.makeRequest();
+      }
+      return CompletableFuture.supplyAsync(() -> null,
+          CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, executor))
+          .thenCompose(ignored -> requestor.makeRequest());
+    };
+  }
+
+  /**
+   * Check the circuit breaker before each attempt and record the outcome of the attempt
+   */
+  private static AsyncRequestor guard(CircuitBreaker breaker, String resourcePath,
+      AsyncRequestor requestor) {
+    return () -> {
+      breaker.acquirePermission(resourcePath);
+      CompletableFuture<WebRequestor.Response> responseFuture;
+      try {
+        responseFuture = requestor.makeRequest();
+      } catch (RuntimeException ex) {
+        responseFuture = CompletableFuture.failedFuture(ex);
+      }
+      return responseFuture.whenComplete((response, throwable) -> {
+        Throwable failure = throwable == null ? null : unwrap(throwable);
+        if (failure instanceof LinkedInException) {
+          breaker.onCancelled(resourcePath);
+        } else {
+          breaker.onResult(resourcePath, response, failure);
+        }
+      });
+    };
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+  }
+
+  /**
+   * Sends a request without waiting for the response
+   * @author Joanna
+   */
+  private interface AsyncRequestor {
+    /**
+     * Make a request
+     * @return a future that completes with the received response
+     */
+    CompletableFuture<WebRequestor.Response> makeRequest();
+  }
+}
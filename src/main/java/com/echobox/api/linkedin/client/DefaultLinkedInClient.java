@@ -27,6 +27,7 @@ import com.echobox.api.linkedin.exception.LinkedInOAuthException;
 import com.echobox.api.linkedin.exception.ResponseErrorJsonParsingException;
 import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
 import com.echobox.api.linkedin.jsonmapper.JsonMapper;
+import com.echobox.api.linkedin.util.ProjectionUtils;
 import com.echobox.api.linkedin.util.URLUtils;
 import com.echobox.api.linkedin.util.ValidationUtils;
 import com.echobox.api.linkedin.version.Version;
@@ -47,6 +48,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of a LinkedIn API client.
@@ -89,6 +92,11 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
    */
   protected static final String FORMAT_PARAM_NAME = "format";
   
+  /**
+   * Rest.li field projection parameter name.
+   */
+  protected static final String FIELDS_PARAM_NAME = "fields";
+  
   /**
    * API error response 'code' attribute name.
    */
@@ -173,6 +181,38 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
   
   private Map<String, String> defaultHeaders;
   
+  /**
+   * Decides whether failed requests are retried, by default they are not
+   */
+  protected RetryPolicy retryPolicy = RetryPolicy.noRetries();
+  
+  /**
+   * Meters requests against client-side call budgets, or {@code null} to not meter them
+   */
+  protected RateLimiter rateLimiter;
+  
+  /**
+   * The access token and the rate limiter member key computed from it, so that the token is only
+   * hashed once
+   */
+  private volatile RateLimitMemberKey rateLimitMemberKey;
+  
+  /**
+   * Stops sending requests to failing resource paths, or {@code null} to always send them
+   */
+  protected CircuitBreaker circuitBreaker;
+  
+  /**
+   * The single flight identical GET requests in flight are collapsed by
+   */
+  protected SingleFlight singleFlight;
+  
+  /**
+   * Whether GET requests without a projection of their own are sent with the field projection
+   * of the type their response is mapped to
+   */
+  protected boolean fieldProjections;
+  
   /**
    * Creates a LinkedIn API client with the given {@code accessToken}.
    *
@@ -203,6 +243,7 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
   public DefaultLinkedInClient(String accessToken, Version apiVersion)
       throws GeneralSecurityException, IOException {
     this(new DefaultWebRequestor(accessToken), new DefaultJsonMapper(), apiVersion);
+    this.accessToken = accessToken;
   }
   
   /**
@@ -234,6 +275,7 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
       String versionedMonth) throws GeneralSecurityException, IOException {
     this(new DefaultWebRequestor(accessToken), new DefaultJsonMapper(),
         apiVersion, versionedMonth);
+    this.accessToken = accessToken;
   }
   
   /**
@@ -336,8 +378,9 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
   public <T> T fetchObject(String object, Class<T> objectType, Parameter... parameters) {
     ValidationUtils.verifyParameterPresence("object", object);
     ValidationUtils.verifyParameterPresence("objectType", objectType);
-    WebRequestor.Response response = makeRequest(object, parameters);
-    return jsonMapper.toJavaObject(response.getBody(), objectType);
+    WebRequestor.Response response = makeRequest(object,
+        withFieldProjection(objectType, parameters));
+    return jsonMapper.toJavaObject(response.getBodyBytes(), objectType);
   }
   
   @Override
@@ -345,26 +388,33 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
       Parameter... parameters) {
     ValidationUtils.verifyParameterPresence("connection", connection);
     ValidationUtils.verifyParameterPresence("connectionType", connectionType);
-    final String fullEndpoint = createEndpointForApiCall(connection, false);
-    
-    List<Parameter> parametersToAdd = new ArrayList<>(Arrays.asList(parameters));
-    Parameter[] queryParams = parametersToAdd.toArray(new Parameter[parametersToAdd.size()]);
-    String parameterString = toParameterString(queryParams);
-    final String finalParameterString =
-        StringUtils.isBlank(parameterString) ? "" : ("?" + parameterString);
-    WebRequestor.Response response = makeRequest(connection, queryParams);
-    return new Connection<>(fullEndpoint + finalParameterString, this, response.getBody(),
-        connectionType);
+    PreparedRequest request = prepareApiRequest(connection, RequestType.GET, null, null,
+        withFieldProjection(connectionType, parameters));
+    WebRequestor.Response response = makeRequestAndProcessResponse(request);
+    return new Connection<>(request.getUrl(), this, response.getBody(), connectionType);
+  }
+  
+  @Override
+  public Parameter[] withFieldProjection(Class<?> type, Parameter... parameters) {
+    if (!fieldProjections) {
+      return parameters;
+    }
+    for (Parameter parameter : parameters) {
+      if (FIELDS_PARAM_NAME.equals(parameter.name)) {
+        return parameters;
+      }
+    }
+    String projection = ProjectionUtils.getProjection(type);
+    return projection == null ? parameters : parametersWithAdditionalParameter(
+        Parameter.with(FIELDS_PARAM_NAME, projection), parameters);
   }
   
   @Override
   public <T> Connection<T> fetchConnectionPage(String connectionPageUrl, Class<T> connectionType) {
-    String connectionJson = makeRequestAndProcessResponseJSON(() -> {
-      String pageURL = apiVersion.isSpecifyFormat()
-          ? URLUtils.replaceOrAddQueryParameter(connectionPageUrl, "format", "json")
-          : connectionPageUrl;
-      return webRequestor.executeGet(pageURL, defaultHeaders);
-    });
+    String connectionJson = coalesce(connectionPageUrl, defaultHeaders,
+        () -> makeRequestAndProcessResponse(connectionPageUrl, RequestType.GET, true,
+            () -> webRequestor.executeGet(toConnectionPageRequestUrl(connectionPageUrl),
+                defaultHeaders))).getBody();
     
     return new Connection<T>(connectionPageUrl, this, connectionJson, connectionType);
   }
@@ -399,7 +449,7 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
     
     WebRequestor.Response response = makeRequest(connection, RequestType.POST, jsonBody,
         binaryAttachments, parameters);
-    return jsonMapper.toJavaObject(response.getBody(), objectType);
+    return jsonMapper.toJavaObject(response.getBodyBytes(), objectType);
   }
   
   @Override
@@ -420,8 +470,16 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
     
     WebRequestor.Response response = makeRequest(object, RequestType.DELETE,
         null, null, parameters);
-    String responseBody = response.getBody();
-    
+    return isDeleteSuccessful(response.getBody());
+  }
+  
+  /**
+   * Check whether the body of a delete response indicates the object was deleted
+   *
+   * @param responseBody the delete response body
+   * @return {@code true} if LinkedIn indicated that the object was successfully deleted
+   */
+  boolean isDeleteSuccessful(String responseBody) {
     try {
       JsonValue jObj = Json.parse(responseBody);
       if (jObj.isObject()) {
@@ -491,6 +549,11 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
     return jsonMapper;
   }
   
+  @Override
+  public LinkedInExceptionMapper getLinkedInExceptionMapper() {
+    return linkedinExceptionMapper;
+  }
+  
   @Override
   public WebRequestor getWebRequestor() {
     return webRequestor;
@@ -501,6 +564,171 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
     return versionedMonth == null ? DEFAULT_VERSIONED_MONTH : versionedMonth;
   }
   
+  /**
+   * Gets the policy that decides whether failed requests are retried
+   *
+   * @return the retry policy
+   */
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+  
+  /**
+   * Sets the policy that decides whether requests that fail with a transient error, such as a
+   * 429 or 503 response, are retried. By default no request is retried.
+   *
+   * @param retryPolicy the retry policy
+   */
+  public void setRetryPolicy(RetryPolicy retryPolicy) {
+    ValidationUtils.verifyParameterPresence("retryPolicy", retryPolicy);
+    this.retryPolicy = retryPolicy;
+  }
+  
+  /**
+   * Gets the rate limiter requests are metered by
+   *
+   * @return the rate limiter, or {@code null} if requests are not metered
+   */
+  public RateLimiter getRateLimiter() {
+    return rateLimiter;
+  }
+  
+  /**
+   * Sets the rate limiter that meters requests against call budgets per access token and
+   * resource path before they are sent. A rate limiter can be shared by several clients, so that
+   * the budgets of the application apply to all of them. Clients created from a
+   * {@link WebRequestor} rather than an access token are metered as a single member.
+   *
+   * @param rateLimiter the rate limiter, or {@code null} to not meter requests
+   */
+  public void setRateLimiter(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+  
+  /**
+   * Gets the key the rate limiter keeps the member budgets of this client's access token by,
+   * hashing the token only the first time or if it has been replaced
+   *
+   * @return the member key
+   */
+  String getRateLimitMemberKey() {
+    RateLimitMemberKey memberKey = rateLimitMemberKey;
+    if (memberKey == null || memberKey.accessToken != accessToken) {
+      memberKey = new RateLimitMemberKey(accessToken);
+      rateLimitMemberKey = memberKey;
+    }
+    return memberKey.key;
+  }
+  
+  /**
+   * Gets the circuit breaker guarding requests
+   *
+   * @return the circuit breaker, or {@code null} if requests are always sent
+   */
+  public CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+  
+  /**
+   * Sets the circuit breaker that stops sending requests to a resource path while it is failing,
+   * failing them with a {@link com.echobox.api.linkedin.exception.LinkedInCircuitOpenException}
+   * instead
+   *
+   * @param circuitBreaker the circuit breaker, or {@code null} to always send requests
+   */
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+  
+  /**
+   * Gets the single flight identical GET requests in flight are collapsed by
+   *
+   * @return the single flight, or {@code null} if every request is sent
+   */
+  public SingleFlight getSingleFlight() {
+    return singleFlight;
+  }
+  
+  /**
+   * Sets the single flight that collapses identical GET requests in flight at the same time into
+   * a single request, sharing its response with every caller. Each caller maps the shared
+   * response to its own object.
+   *
+   * @param singleFlight the single flight, or {@code null} to send every request
+   */
+  public void setSingleFlight(SingleFlight singleFlight) {
+    this.singleFlight = singleFlight;
+  }
+  
+  /**
+   * Whether GET requests are sent with the field projection of the type their response is mapped
+   * to
+   *
+   * @return {@code true} if field projections are sent
+   */
+  public boolean isFieldProjections() {
+    return fieldProjections;
+  }
+  
+  /**
+   * Sets whether {@code fetchObject}, {@code fetchConnection} and batch requests are sent with a
+   * Rest.li field projection built from the {@code @LinkedIn}-annotated fields of the type their
+   * response is mapped to, so that LinkedIn only returns the fields that are mapped. Requests
+   * that already have a {@code fields} parameter, or are mapped to a {@code JsonObject}, are sent
+   * unchanged. Decorated fields such as {@code logoV2.original~} and special fields such as
+   * {@code $URN} are not part of the projection, so their data is lost when this is enabled.
+   * Disabled by default.
+   *
+   * @param fieldProjections {@code true} to send field projections
+   */
+  public void setFieldProjections(boolean fieldProjections) {
+    this.fieldProjections = fieldProjections;
+  }
+  
+  /**
+   * Gets the headers sent with every request to the LinkedIn API
+   *
+   * @return the default headers
+   */
+  Map<String, String> getDefaultHeaders() {
+    return defaultHeaders;
+  }
+  
+  /**
+   * Gets the URL to request for a connection page URL
+   *
+   * @param connectionPageUrl the connection page URL
+   * @return the URL to request
+   */
+  String toConnectionPageRequestUrl(String connectionPageUrl) {
+    return apiVersion.isSpecifyFormat()
+        ? URLUtils.replaceOrAddQueryParameter(connectionPageUrl, "format", "json")
+        : connectionPageUrl;
+  }
+  
+  /**
+   * Gets the resource path of a request URL, i.e. the first segment of its path after the API
+   * version, such as {@code /posts} for {@code https://api.linkedin.com/rest/posts?q=author}
+   *
+   * @param url the request URL
+   * @return the resource path
+   */
+  String getResourcePath(String url) {
+    int start = url.indexOf("://");
+    start = start < 0 ? 0 : url.indexOf('/', start + 3);
+    if (start < 0) {
+      return "/";
+    }
+    int end = StringUtils.indexOfAny(url.substring(start), '?', '#');
+    String path = end < 0 ? url.substring(start) : url.substring(start, start + end);
+    String versionPrefix = "/" + apiVersion.getUrlElement() + "/";
+    if (path.startsWith(versionPrefix)) {
+      path = path.substring(versionPrefix.length() - 1);
+    }
+    end = StringUtils.indexOfAny(path.substring(1), '/', '(');
+    return end < 0 ? path : path.substring(0, end + 1);
+  }
+  
   @Override
   protected String createEndpointForApiCall(String apiCall, boolean hasAttachment) {
     while (apiCall.startsWith("/")) {
@@ -572,7 +800,30 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
    */
   protected WebRequestor.Response makeRequest(String endpoint, RequestType requestType,
       Object jsonBody, final List<BinaryAttachment> binaryAttachments, Parameter... parameters) {
-    
+    PreparedRequest request = prepareApiRequest(endpoint, requestType, jsonBody,
+        binaryAttachments, parameters);
+    return makeRequestAndProcessResponse(request);
+  }
+  
+  /**
+   * Build the request for an endpoint relative to the base LinkedIn API endpoint, without
+   * sending it.
+   *
+   * @param endpoint
+   *          LinkedIn Graph API endpoint.
+   * @param requestType
+   *          the web request type to execute.
+   * @param jsonBody
+   *          Post JSON body
+   * @param binaryAttachments
+   *          A list of binary files to include in a {@code POST} request. Pass {@code null} if no
+   *          attachment should be sent.
+   * @param parameters
+   *          Arbitrary number of parameters to send along to LinkedIn as part of the API call.
+   * @return The prepared request
+   */
+  PreparedRequest prepareApiRequest(String endpoint, RequestType requestType, Object jsonBody,
+      final List<BinaryAttachment> binaryAttachments, Parameter... parameters) {
     if (!endpoint.startsWith("/")) {
       endpoint = "/" + endpoint;
     }
@@ -580,8 +831,8 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
     final String fullEndpoint = createEndpointForApiCall(endpoint,
         binaryAttachments != null && !binaryAttachments.isEmpty());
     
-    return makeRequestFull(fullEndpoint, requestType, jsonBody,
-        defaultHeaders, binaryAttachments, parameters);
+    return prepareRequest(fullEndpoint, requestType, jsonBody, defaultHeaders, binaryAttachments,
+        parameters);
   }
   
   /**
@@ -607,50 +858,50 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
   protected WebRequestor.Response makeRequestFull(String fullEndpoint, RequestType requestType,
       Object jsonBody, Map<String, String> headers,
       final List<BinaryAttachment> binaryAttachments, Parameter... parameters) {
+    PreparedRequest request = prepareRequest(fullEndpoint, requestType, jsonBody, headers,
+        binaryAttachments, parameters);
+    return makeRequestAndProcessResponse(request);
+  }
+  
+  /**
+   * Validate the parameters and build the request that will be sent to a full endpoint, without
+   * sending it.
+   *
+   * @param fullEndpoint
+   *          LinkedIn Graph API endpoint.
+   * @param requestType
+   *          the web request type to execute.
+   * @param jsonBody
+   *          The POST JSON body
+   * @param headers
+   *          The headers for the request
+   * @param binaryAttachments
+   *          A list of binary files to include in a {@code POST} request. Pass {@code null} if no
+   *          attachment should be sent.
+   * @param parameters
+   *          Arbitrary number of parameters to send along to LinkedIn as part of the API call.
+   * @return The prepared request
+   */
+  PreparedRequest prepareRequest(String fullEndpoint, RequestType requestType,
+      Object jsonBody, Map<String, String> headers,
+      final List<BinaryAttachment> binaryAttachments, Parameter... parameters) {
     verifyParameterLegality(parameters);
     
-    if (RequestType.DELETE == requestType && isHttpDeleteFallback()) {
-      parameters = parametersWithAdditionalParameter(Parameter.with(METHOD_PARAM_NAME, "delete"),
-          parameters);
-    }
-    
-    String parameterString = toParameterString(parameters);
-    final String finalParameterString =
-        StringUtils.isBlank(parameterString) ? "" : ("?" + parameterString);
-    
-    return makeRequestAndProcessResponse(new Requestor() {
-      /**
-       * Make the request
-       * @see DefaultLinkedInClient.Requestor#makeRequest()
-       */
-      @Override
-      public WebRequestor.Response makeRequest() throws IOException {
-        if (RequestType.GET == requestType) {
-          return webRequestor.executeGet(fullEndpoint + finalParameterString, headers);
-        }
-        
-        String body = jsonBody == null ? null : jsonMapper.toJson(jsonBody, true);
-        BinaryAttachment[] attachments = binaryAttachments == null ? null
-            : binaryAttachments.toArray(new BinaryAttachment[binaryAttachments.size()]);
-        
-        if (RequestType.PUT == requestType) {
-          BinaryAttachment attachment = attachments == null || attachments.length == 0
-              ? null : attachments[0];
-          return webRequestor.executePut(fullEndpoint, parameterString, body, headers, attachment);
-        }
-        
-        if (RequestType.POST == requestType) {
-          return webRequestor.executePost(fullEndpoint, parameterString, body, headers,
-              attachments);
-        }
-        
-        if (RequestType.DELETE == requestType && !isHttpDeleteFallback()) {
-          return webRequestor.executeDelete(fullEndpoint + finalParameterString, headers);
-        }
-        
+    // Building the request used to happen while sending it, so its failures are reported the
+    // same way as the request failing to be sent
+    try {
+      // There is no POST to tunnel a DELETE through when the fallback is enabled
+      if (RequestType.DELETE == requestType && isHttpDeleteFallback()) {
         throw new IllegalArgumentException("The request type parameter is required");
       }
-    });
+      
+      return new PreparedRequest(requestType, fullEndpoint, toParameterString(parameters),
+          jsonBody == null ? null : jsonMapper.toJson(jsonBody, true), headers,
+          binaryAttachments == null ? null
+              : binaryAttachments.toArray(new BinaryAttachment[binaryAttachments.size()]));
+    } catch (RuntimeException ex) {
+      throw new LinkedInNetworkException("LinkedIn request failed", ex);
+    }
   }
   
   /**
@@ -729,15 +980,120 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
    * @return the response
    */
   protected WebRequestor.Response makeRequestAndProcessResponse(Requestor requestor) {
-    WebRequestor.Response response;
-    
-    // Perform a GET or POST to the API endpoint
-    try {
-      response = requestor.makeRequest();
-    } catch (Exception t) {
-      throw new LinkedInNetworkException("LinkedIn request failed", t);
+    return makeRequestAndProcessResponse(null, null, false, requestor);
+  }
+  
+  /**
+   * Send a prepared request and process the response, retrying it as the retry policy allows
+   *
+   * @param request the request to send
+   * @return the response
+   */
+  WebRequestor.Response makeRequestAndProcessResponse(PreparedRequest request) {
+    Supplier<WebRequestor.Response> send = () -> makeRequestAndProcessResponse(request.getUrl(),
+        request.getRequestType(), request.isRepeatable(), () -> request.execute(webRequestor));
+    return RequestType.GET == request.getRequestType()
+        ? coalesce(request.getUrl(), request.getHeaders(), send) : send.get();
+  }
+  
+  /**
+   * Make request and process the response, checking the circuit breaker and metering each
+   * attempt with the rate limiter, and retrying transient failures as the retry policy allows
+   *
+   * @param url the URL requested, or {@code null} if unknown, which is not metered or guarded by
+   *          the circuit breaker
+   * @param requestType the type of the request, or {@code null} if unknown
+   * @param repeatable whether the request can be sent more than once
+   * @param requestor Requestor interface to make requests to the LinkedIn API
+   * @return the response
+   */
+  protected WebRequestor.Response makeRequestAndProcessResponse(String url,
+      RequestType requestType, boolean repeatable, Requestor requestor) {
+    RetryPolicy policy = retryPolicy;
+    RateLimiter limiter = url == null ? null : rateLimiter;
+    CircuitBreaker breaker = url == null ? null : circuitBreaker;
+    String resourcePath = url == null ? null : getResourcePath(url);
+    boolean retryable = repeatable && policy.isRetryable(requestType);
+    long start = System.nanoTime();
+    for (int attempt = 1; ; attempt++) {
+      WebRequestor.Response response = null;
+      Exception failure = null;
+      
+      if (breaker != null) {
+        breaker.acquirePermission(resourcePath);
+      }
+      if (limiter != null) {
+        try {
+          limiter.acquireForMember(getRateLimitMemberKey(), resourcePath);
+        } catch (RuntimeException ex) {
+          if (breaker != null) {
+            breaker.onCancelled(resourcePath);
+          }
+          throw ex;
+        }
+      }
+      
+      // Perform a GET or POST to the API endpoint
+      try {
+        response = requestor.makeRequest();
+      } catch (Exception t) {
+        failure = t;
+      }
+      if (breaker != null) {
+        breaker.onResult(resourcePath, response, failure);
+      }
+      
+      long delayMillis = policy.getRetryDelayMillis(retryable, attempt,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), response, failure);
+      if (delayMillis < 0) {
+        if (failure != null) {
+          throw new LinkedInNetworkException("LinkedIn request failed", failure);
+        }
+        return processResponse(response);
+      }
+      
+      LOGGER.debug("Retrying LinkedIn request in {}ms after attempt {} failed with {}",
+          delayMillis, attempt, failure != null ? failure : response.getStatusCode());
+      try {
+        Thread.sleep(delayMillis);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new LinkedInNetworkException("Interrupted while waiting to retry LinkedIn request",
+            failure != null ? failure : ex);
+      }
     }
-    
+  }
+  
+  /**
+   * Send a GET request through the single flight, if there is one, so that it is collapsed with
+   * an identical request in flight. Requests are only shared across access tokens for the
+   * resource paths the single flight allows.
+   *
+   * @param url the URL requested
+   * @param headers the headers of the request
+   * @param send sends the request and processes its response
+   * @return the response
+   */
+  private WebRequestor.Response coalesce(String url, Map<String, String> headers,
+      Supplier<WebRequestor.Response> send) {
+    SingleFlight flight = singleFlight;
+    if (flight == null) {
+      return send.get();
+    }
+    Object scope = flight.isTokenIndependent(getResourcePath(url)) ? ""
+        : accessToken != null ? accessToken : webRequestor;
+    return flight.execute(Arrays.asList(scope, url,
+        headers == null ? Collections.emptyMap() : new HashMap<>(headers)), send);
+  }
+  
+  /**
+   * Process the response received from the LinkedIn API, throwing the matching
+   * {@link LinkedInException} if it is an error response
+   *
+   * @param response the response received from the LinkedIn API
+   * @return the response
+   */
+  protected WebRequestor.Response processResponse(WebRequestor.Response response) {
     // If we get any HTTP response code other than a 200 OK or 400 Bad Request
     // or 401 Not Authorized or 403 Forbidden or 404 Not Found or 500 Internal
     // Server Error or 302 Not Modified or 504 Gateway Timeout or 422 Unprocessable Entity or 429
@@ -836,4 +1192,18 @@ public class DefaultLinkedInClient extends BaseLinkedInClient
     }
   }
   
+  /**
+   * An access token and its rate limiter member key
+   */
+  private static final class RateLimitMemberKey {
+    
+    private final String accessToken;
+    
+    private final String key;
+    
+    private RateLimitMemberKey(String accessToken) {
+      this.accessToken = accessToken;
+      this.key = RateLimiter.getMemberKey(accessToken);
+    }
+  }
 }
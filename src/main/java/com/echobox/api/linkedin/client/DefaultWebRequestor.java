@@ -19,13 +19,12 @@ package com.echobox.api.linkedin.client;
 
 import static java.lang.String.format;
 
-import com.echobox.api.linkedin.util.JsonUtils;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.google.api.client.googleapis.auth.oauth2.GoogleClientSecrets;
 import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
 import com.google.api.client.googleapis.auth.oauth2.GoogleCredential.Builder;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.AbstractInputStreamContent;
 import com.google.api.client.http.ByteArrayContent;
 import com.google.api.client.http.EmptyContent;
 import com.google.api.client.http.GenericUrl;
@@ -38,22 +37,24 @@ import com.google.api.client.http.HttpResponse;
 import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.http.MultipartContent;
-import com.google.api.client.http.json.JsonHttpContent;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.JsonObjectParser;
 import com.google.api.client.json.gson.GsonFactory;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -102,11 +103,24 @@ public class DefaultWebRequestor implements WebRequestor {
    */
   private static final int DEFAULT_READ_TIMEOUT_IN_MS = 180000;
 
+  /**
+   * Largest Content-Length we trust enough to allocate the whole response body up front
+   */
+  private static final int MAX_PRESIZED_BODY_LENGTH = 64 * 1024 * 1024;
+
+  private static final String JSON_CONTENT_TYPE = "application/json; charset=UTF-8";
+
   private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
 
-  private Map<String, Object> currentHeaders;
+  /**
+   * Headers of the most recent response, kept for {@link #getCurrentHeaders()}
+   */
+  private volatile Map<String, Object> currentHeaders;
 
-  private DebugHeaderInfo debugHeaderInfo;
+  /**
+   * Debug info of the most recent response, kept for {@link #getDebugHeaderInfo()}
+   */
+  private volatile DebugHeaderInfo debugHeaderInfo;
 
   private HttpRequestFactory requestFactory;
 
@@ -255,7 +269,7 @@ public class DefaultWebRequestor implements WebRequestor {
         
         for (BinaryAttachment binaryAttachment : binaryAttachments) {
           MultipartContent.Part part = new MultipartContent.Part(
-              new ByteArrayContent(binaryAttachment.getContentType(), binaryAttachment.getData()));
+              toHttpContent(binaryAttachment.getContentType(), binaryAttachment));
           HttpHeaders set = new HttpHeaders().set("Content-Disposition",
               format("form-data; name=\"%s\"; filename=\"%s\"",
                   createFormFieldName(binaryAttachment), binaryAttachment.getFilename()));
@@ -300,7 +314,7 @@ public class DefaultWebRequestor implements WebRequestor {
     } finally {
       if (autocloseBinaryAttachmentStream && binaryAttachments.length > 0) {
         for (BinaryAttachment binaryAttachment : binaryAttachments) {
-          closeQuietly(binaryAttachment.getDataInputStream());
+          closeAttachmentStream(binaryAttachment);
         }
       }
     }
@@ -327,9 +341,8 @@ public class DefaultWebRequestor implements WebRequestor {
             headers.entrySet().stream()
                 .filter(entry -> entry.getKey().equalsIgnoreCase("content-type"))
                 .map(Map.Entry::getValue).findFirst().orElse("application/octet-stream");
-        ByteArrayContent fileContent =
-            new ByteArrayContent(contentType, binaryAttachment.getData());
-        request = requestFactory.buildPutRequest(genericUrl, fileContent);
+        request = requestFactory.buildPutRequest(genericUrl,
+            toHttpContent(contentType, binaryAttachment));
         httpHeaders.set("Connection", "Keep-Alive");
       } else {
         if (jsonBody != null) {
@@ -363,12 +376,58 @@ public class DefaultWebRequestor implements WebRequestor {
       return handleException(ex);
     } finally {
       if (autocloseBinaryAttachmentStream && binaryAttachment != null) {
-        closeQuietly(binaryAttachment.getDataInputStream());
+        closeAttachmentStream(binaryAttachment);
       }
     }
   }
   // CPD-ON
   
+  /**
+   * Wrap the attachment in HTTP content that streams it to the connection unless it is already in
+   * memory. Knowing the length lets the connection use fixed length streaming instead of
+   * buffering the whole body to work out the Content-Length, so memory use stays constant however
+   * large the attachment is.
+   *
+   * @param contentType the content type of the attachment
+   * @param binaryAttachment the attachment
+   * @return the HTTP content
+   */
+  private AbstractInputStreamContent toHttpContent(String contentType,
+      BinaryAttachment binaryAttachment) {
+    if (binaryAttachment.isInMemory()) {
+      return new ByteArrayContent(contentType, binaryAttachment.getData());
+    }
+
+    return new AbstractInputStreamContent(contentType) {
+      @Override
+      public InputStream getInputStream() {
+        return binaryAttachment.getDataInputStream();
+      }
+
+      @Override
+      public long getLength() {
+        return binaryAttachment.getLength();
+      }
+
+      @Override
+      public boolean retrySupported() {
+        return binaryAttachment.isRepeatable();
+      }
+    }.setCloseInputStream(binaryAttachment.isRepeatable() || autocloseBinaryAttachmentStream);
+  }
+
+  /**
+   * Close the stream of an attachment, which only needs doing for attachments streamed from an
+   * input stream that was given to us as every other stream is opened and closed per upload.
+   *
+   * @param binaryAttachment the attachment
+   */
+  private void closeAttachmentStream(BinaryAttachment binaryAttachment) {
+    if (!binaryAttachment.isRepeatable()) {
+      closeQuietly(binaryAttachment.getDataInputStream());
+    }
+  }
+
   private Response getResponse(HttpRequest request) throws IOException {
     HttpResponse httpResponse = request.execute();
 
@@ -487,10 +546,13 @@ public class DefaultWebRequestor implements WebRequestor {
   }
 
   /**
-   * access to the current response headers
+   * access to the headers of the most recent response, which may belong to another thread's
+   * request when this requestor is shared between threads
    *
    * @return the current reponse header map
+   * @deprecated use {@link Response#getHeaders()}
    */
+  @Deprecated
   public Map<String, Object> getCurrentHeaders() {
     return currentHeaders;
   }
@@ -506,6 +568,7 @@ public class DefaultWebRequestor implements WebRequestor {
   }
   
   @Override
+  @Deprecated
   public DebugHeaderInfo getDebugHeaderInfo() {
     return debugHeaderInfo;
   }
@@ -519,7 +582,7 @@ public class DefaultWebRequestor implements WebRequestor {
 
     HttpResponse httpResponse = null;
     try {
-      GenericUrl genericUrl = new GenericUrl(url);
+      GenericUrl genericUrl = new GenericUrl(RequestUrls.toWireUrl(url), true);
       HttpRequest request = requestFactory.buildRequest(httpMethod.name(), genericUrl, null);
       request.setReadTimeout(DEFAULT_READ_TIMEOUT_IN_MS);
 
@@ -561,9 +624,8 @@ public class DefaultWebRequestor implements WebRequestor {
    * @throws IOException the io exception
    */
   protected Response fetchResponse(HttpResponse httpUrlConnection) throws IOException {
-    return fetchResponse(httpUrlConnection.getStatusCode(), httpUrlConnection.getHeaders(),
-        fromInputStream(httpUrlConnection
-        .getContent()));
+    return Response.fromBytes(httpUrlConnection.getStatusCode(),
+        toHeaderMap(httpUrlConnection.getHeaders()), readBody(httpUrlConnection));
   }
 
   /**
@@ -575,9 +637,32 @@ public class DefaultWebRequestor implements WebRequestor {
    * @return the response
    */
   protected Response fetchResponse(int statusCode, HttpHeaders headers, String body) {
-    Map<String, String> headerMap = headers.entrySet().stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, headerValueMapper()));
-    return new Response(statusCode, headerMap, body);
+    return new Response(statusCode, toHeaderMap(headers), body);
+  }
+  
+  private Map<String, String> toHeaderMap(HttpHeaders headers) {
+    return headers.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, headerValueMapper()));
+  }
+  
+  /**
+   * Read the response body, without touching the stream at all if the response has no content.
+   *
+   * @param httpResponse the http response
+   * @return the response body
+   * @throws IOException the io exception
+   */
+  private static byte[] readBody(HttpResponse httpResponse) throws IOException {
+    if (httpResponse.getStatusCode() == HttpStatus.SC_NO_CONTENT) {
+      // Release the connection for reuse without reading anything
+      httpResponse.ignore();
+      return new byte[0];
+    }
+    
+    Long contentLength = httpResponse.getHeaders().getContentLength();
+    try (InputStream content = httpResponse.getContent()) {
+      return readFully(content, contentLength == null ? -1 : contentLength);
+    }
   }
   
   protected Function<Map.Entry<String, Object>, String> headerValueMapper() {
@@ -612,46 +697,68 @@ public class DefaultWebRequestor implements WebRequestor {
       return null;
     }
 
-    BufferedReader reader = null;
-
-    try {
-      reader = new BufferedReader(new InputStreamReader(inputStream, ENCODING_CHARSET));
-      StringBuilder response = new StringBuilder();
-
-      String line;
-      while ((line = reader.readLine()) != null) {
-        response.append(line);
-      }
-
-      return response.toString();
-    } finally {
-      if (reader != null) {
-        try {
-          reader.close();
-        } catch (Exception t) {
-          // Really nothing we can do but log the error
-          LOGGER.warn("Unable to close stream, continuing on: ", t);
-        }
-      }
+    try (InputStream in = inputStream) {
+      return new String(readFully(in, -1), ENCODING_CHARSET);
     }
   }
   
+  /**
+   * Reads the rest of the given {@code inputStream}. When the expected length is known the result
+   * is read straight into an array of that size, avoiding the repeated copying of a growing
+   * buffer. The expected length is only a hint: a stream that turns out to be longer, such as a
+   * decompressed body, is still read to the end.
+   *
+   * @param inputStream The stream to read, which is not closed.
+   * @param expectedLength The expected number of bytes, e.g. from the Content-Length header, or a
+   *                       negative number if unknown.
+   * @return The bytes read, an empty array if {@code inputStream} is {@code null}.
+   * @throws IOException If an error occurs while reading the {@code inputStream}.
+   */
+  public static byte[] readFully(InputStream inputStream, long expectedLength)
+      throws IOException {
+    if (inputStream == null) {
+      return new byte[0];
+    }
+    
+    if (expectedLength < 0 || expectedLength > MAX_PRESIZED_BODY_LENGTH) {
+      return inputStream.readAllBytes();
+    }
+    
+    byte[] body = new byte[(int) expectedLength];
+    int read = inputStream.readNBytes(body, 0, body.length);
+    if (read < body.length) {
+      return Arrays.copyOf(body, read);
+    }
+    
+    int next = inputStream.read();
+    if (next == -1) {
+      return body;
+    }
+    
+    ByteArrayOutputStream longerBody = new ByteArrayOutputStream(body.length * 2 + 1);
+    longerBody.write(body);
+    longerBody.write(next);
+    inputStream.transferTo(longerBody);
+    return longerBody.toByteArray();
+  }
+  
+  /**
+   * Parse the URL as {@link RequestUrls#toWireUrl(String)} sends it, so that the keys of a
+   * Rest.li {@code List(...)} keep their escaping.
+   */
   private GenericUrl getGenericURL(String url, String parameters) {
-    return new GenericUrl(url + (!StringUtils.isEmpty(parameters)
-        ? "?" + parameters : ""));
+    return new GenericUrl(RequestUrls.toWireUrl(url + (!StringUtils.isEmpty(parameters)
+        ? "?" + parameters : "")), true);
   }
   
   /**
-   * Convert the JSON into a map - annoyingly JsonHttpContent data object has to be a
-   * key/value object i.e. map
+   * Send the JSON body exactly as the JSON mapper produced it, without parsing and serializing it
+   * again. The length is known up front so the body is not chunked.
    * @param jsonBody JSON body
-   * @return JsonHttpContent
+   * @return ByteArrayContent
    */
-  private JsonHttpContent getJsonHttpContent(String jsonBody) {
-    JsonObject asObject = Json.parse(jsonBody).asObject();
-    Map<String, Object> map = JsonUtils.toMap(asObject);
-  
-    return new JsonHttpContent(new GsonFactory(), map);
+  static ByteArrayContent getJsonHttpContent(String jsonBody) {
+    return new ByteArrayContent(JSON_CONTENT_TYPE, jsonBody.getBytes(StandardCharsets.UTF_8));
   }
   
   private void addHeadersToRequest(HttpRequest request, HttpHeaders httpHeaders,
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of direct byte buffers used to read file attachments. Buffers are allocated
+ * lazily up to the maximum and then reused, so streaming uploads allocate no per-request buffers
+ * and the off-heap memory they use is capped. Once every buffer is in use, further readers wait
+ * briefly for one to be released and then read into a heap buffer that is not pooled, so a
+ * stream that is never closed cannot make every other reader wait forever.
+ * @author Joanna
+ */
+public class DirectBufferPool {
+
+  /**
+   * The default size of each buffer
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The default maximum number of buffers
+   */
+  public static final int DEFAULT_MAX_BUFFERS = 32;
+
+  private static final long ACQUIRE_TIMEOUT_MILLIS = 100;
+
+  private static final DirectBufferPool DEFAULT_POOL =
+      new DirectBufferPool(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_BUFFERS);
+
+  /**
+   * The size of each buffer in bytes
+   */
+  @Getter
+  private final int bufferSize;
+
+  /**
+   * The maximum number of buffers the pool will allocate
+   */
+  @Getter
+  private final int maxBuffers;
+
+  private final BlockingQueue<ByteBuffer> idleBuffers = new LinkedBlockingQueue<>();
+
+  private final AtomicInteger allocatedBuffers = new AtomicInteger();
+
+  private final LongAdder heapBuffers = new LongAdder();
+
+  /**
+   * Create a pool of direct buffers
+   * @param bufferSize the size of each buffer in bytes
+   * @param maxBuffers the maximum number of buffers to allocate
+   */
+  public DirectBufferPool(int bufferSize, int maxBuffers) {
+    if (bufferSize <= 0 || maxBuffers <= 0) {
+      throw new IllegalArgumentException("Buffer size and maximum buffers must be positive");
+    }
+    this.bufferSize = bufferSize;
+    this.maxBuffers = maxBuffers;
+  }
+
+  /**
+   * The pool shared by binary attachments that are streamed from a file
+   * @return the default pool
+   */
+  public static DirectBufferPool getDefault() {
+    return DEFAULT_POOL;
+  }
+
+  /**
+   * Take a cleared buffer from the pool, allocating one if the pool is not yet full and waiting
+   * briefly for one to be released otherwise. If none is released in time a heap buffer of the
+   * same size, which is not pooled, is returned instead.
+   * @return the buffer, which must be passed to {@link #release(ByteBuffer)} once finished with
+   * @throws InterruptedException if interrupted while waiting for a buffer
+   */
+  public ByteBuffer acquire() throws InterruptedException {
+    ByteBuffer buffer = idleBuffers.poll();
+    while (buffer == null) {
+      int allocated = allocatedBuffers.get();
+      if (allocated >= maxBuffers) {
+        buffer = idleBuffers.poll(ACQUIRE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (buffer == null) {
+          heapBuffers.increment();
+          return ByteBuffer.allocate(bufferSize);
+        }
+      } else if (allocatedBuffers.compareAndSet(allocated, allocated + 1)) {
+        buffer = ByteBuffer.allocateDirect(bufferSize);
+      } else {
+        buffer = idleBuffers.poll();
+      }
+    }
+    buffer.clear();
+    return buffer;
+  }
+
+  /**
+   * Return a buffer taken from this pool so it can be reused. Heap buffers returned while the
+   * pool was exhausted are dropped.
+   * @param buffer the buffer
+   */
+  public void release(ByteBuffer buffer) {
+    if (buffer == null || buffer.capacity() != bufferSize) {
+      throw new IllegalArgumentException("The buffer was not taken from this pool");
+    }
+    if (!buffer.isDirect()) {
+      return;
+    }
+    buffer.clear();
+    idleBuffers.offer(buffer);
+  }
+
+  /**
+   * The number of buffers allocated so far, which never exceeds {@link #getMaxBuffers()}
+   * @return the number of allocated buffers
+   */
+  public int getAllocatedBuffers() {
+    return allocatedBuffers.get();
+  }
+
+  /**
+   * The number of heap buffers handed out because every direct buffer was in use, e.g. because
+   * streams were not closed
+   * @return the number of heap buffers
+   */
+  public long getHeapBuffers() {
+    return heapBuffers.sum();
+  }
+
+  /**
+   * The number of allocated buffers that are not currently in use
+   * @return the number of idle buffers
+   */
+  public int getIdleBuffers() {
+    return idleBuffers.size();
+  }
+}
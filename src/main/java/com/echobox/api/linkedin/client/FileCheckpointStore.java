@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * A checkpoint store that keeps the cursors as JSON in a properties file. The file is read on
+ * every load and replaced atomically on every save, so a job killed while saving leaves the
+ * previous checkpoint in place.
+ * @author Joanna
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+  private final Path file;
+
+  /**
+   * Creates a checkpoint store backed by the given file, which is created on the first save
+   * @param file the file
+   */
+  public FileCheckpointStore(Path file) {
+    this.file = file;
+  }
+
+  @Override
+  public synchronized void save(String key, PageCursor cursor) throws IOException {
+    Properties checkpoints = read();
+    checkpoints.setProperty(key, cursor.toJson());
+    write(checkpoints);
+  }
+
+  @Override
+  public synchronized PageCursor load(String key) throws IOException {
+    String json = read().getProperty(key);
+    return json == null ? null : PageCursor.fromJson(json);
+  }
+
+  @Override
+  public synchronized void remove(String key) throws IOException {
+    Properties checkpoints = read();
+    if (checkpoints.remove(key) != null) {
+      write(checkpoints);
+    }
+  }
+
+  private Properties read() throws IOException {
+    Properties checkpoints = new Properties();
+    if (Files.exists(file)) {
+      try (InputStream in = Files.newInputStream(file)) {
+        checkpoints.load(in);
+      }
+    }
+    return checkpoints;
+  }
+
+  private void write(Properties checkpoints) throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(temp)) {
+        checkpoints.store(out, null);
+      }
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException ex) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+}
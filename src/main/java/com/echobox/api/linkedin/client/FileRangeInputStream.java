@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a byte range of a file with positional {@link FileChannel} reads into a direct buffer
+ * borrowed from a {@link DirectBufferPool}. The buffer is borrowed on the first read and returned
+ * when the stream is closed, so the stream should always be closed.
+ * @author Joanna
+ */
+class FileRangeInputStream extends InputStream {
+
+  private final Path file;
+
+  private final FileChannel channel;
+
+  private final DirectBufferPool bufferPool;
+
+  private final long end;
+
+  private long position;
+
+  private ByteBuffer buffer;
+
+  private boolean closed;
+
+  /**
+   * Open a range of a file
+   * @param file the file
+   * @param offset the position of the first byte to read
+   * @param length the number of bytes to read
+   * @param bufferPool the pool to borrow the read buffer from
+   * @throws IOException if the file cannot be opened
+   */
+  FileRangeInputStream(Path file, long offset, long length, DirectBufferPool bufferPool)
+      throws IOException {
+    this.file = file;
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    this.bufferPool = bufferPool;
+    this.position = offset;
+    this.end = offset + length;
+  }
+
+  @Override
+  public int read() throws IOException {
+    return fill() ? buffer.get() & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int count) throws IOException {
+    if (count == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    int read = Math.min(count, buffer.remaining());
+    buffer.get(bytes, offset, read);
+    return read;
+  }
+
+  @Override
+  public int available() {
+    return buffer == null ? 0 : buffer.remaining();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      channel.close();
+    } finally {
+      if (buffer != null) {
+        bufferPool.release(buffer);
+        buffer = null;
+      }
+    }
+  }
+
+  /**
+   * Make sure the buffer has bytes to read, refilling it from the file if needed
+   * @return false once the whole range has been read
+   * @throws IOException if the file cannot be read or ends before the range does
+   */
+  private boolean fill() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    if (buffer != null && buffer.hasRemaining()) {
+      return true;
+    }
+    if (position >= end) {
+      return false;
+    }
+    if (buffer == null) {
+      buffer = acquireBuffer();
+    }
+
+    buffer.clear();
+    buffer.limit((int) Math.min(buffer.capacity(), end - position));
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new EOFException("Unexpected end of file " + file + " at position " + position
+            + ", expected " + end);
+      }
+      position += read;
+    }
+    buffer.flip();
+    return true;
+  }
+
+  private ByteBuffer acquireBuffer() throws InterruptedIOException {
+    try {
+      return bufferPool.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException exception =
+          new InterruptedIOException("Interrupted while waiting for a read buffer");
+      exception.initCause(ex);
+      throw exception;
+    }
+  }
+}
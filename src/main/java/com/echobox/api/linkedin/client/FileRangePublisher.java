@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes a byte range of a file as read-only memory-mapped slices, so that the
+ * {@link java.net.http.HttpClient} can write it to the connection without copying it to the
+ * heap. Each subscriber maps the range again, so a request can be retried.
+ * @author Joanna
+ */
+class FileRangePublisher implements Flow.Publisher<ByteBuffer> {
+
+  /**
+   * The default number of bytes mapped at a time
+   */
+  static final int DEFAULT_SLICE_SIZE = 1024 * 1024;
+
+  private final Path file;
+
+  private final long offset;
+
+  private final long length;
+
+  private final int sliceSize;
+
+  /**
+   * Publish a range of a file
+   * @param file the file
+   * @param offset the position of the first byte to publish
+   * @param length the number of bytes to publish
+   * @param sliceSize the number of bytes mapped at a time
+   */
+  FileRangePublisher(Path file, long offset, long length, int sliceSize) {
+    this.file = file;
+    this.offset = offset;
+    this.length = length;
+    this.sliceSize = sliceSize;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+    subscriber.onSubscribe(new RangeSubscription(subscriber));
+  }
+
+  /**
+   * Maps and emits one slice per unit of demand. Emission is serialised by the work-in-progress
+   * counter, so request and cancel may be called from any thread, including from onNext.
+   */
+  private class RangeSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+
+    private final AtomicLong demand = new AtomicLong();
+
+    private final AtomicInteger workInProgress = new AtomicInteger();
+
+    private volatile boolean cancelled;
+
+    private volatile Throwable invalidRequest;
+
+    private FileChannel channel;
+
+    private long position = offset;
+
+    private boolean done;
+
+    RangeSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long count) {
+      if (count <= 0) {
+        invalidRequest = new IllegalArgumentException("Requested " + count + " items");
+      } else {
+        demand.getAndAccumulate(count, (current, added) ->
+            current + added < 0 ? Long.MAX_VALUE : current + added);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      drain();
+    }
+
+    private void drain() {
+      if (workInProgress.getAndIncrement() != 0) {
+        return;
+      }
+      do {
+        emit();
+      } while (workInProgress.decrementAndGet() != 0);
+    }
+
+    private void emit() {
+      while (!done) {
+        if (cancelled) {
+          finish();
+          return;
+        }
+        if (invalidRequest != null) {
+          finish();
+          subscriber.onError(invalidRequest);
+          return;
+        }
+        if (position >= offset + length) {
+          finish();
+          subscriber.onComplete();
+          return;
+        }
+        if (demand.get() == 0) {
+          return;
+        }
+
+        ByteBuffer slice;
+        try {
+          slice = nextSlice();
+        } catch (IOException ex) {
+          finish();
+          subscriber.onError(ex);
+          return;
+        }
+        demand.decrementAndGet();
+        subscriber.onNext(slice);
+      }
+    }
+
+    private ByteBuffer nextSlice() throws IOException {
+      if (channel == null) {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        // Reading a mapping beyond the end of the file fails hard, so check the range up front
+        if (channel.size() < offset + length) {
+          throw new EOFException("File " + file + " is shorter than the range to upload");
+        }
+      }
+      long size = Math.min(sliceSize, offset + length - position);
+      ByteBuffer slice = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+      position += size;
+      return slice;
+    }
+
+    private void finish() {
+      done = true;
+      if (channel != null) {
+        try {
+          channel.close();
+        } catch (IOException ex) {
+          // The mapped slices remain valid once the channel is closed
+        }
+        channel = null;
+      }
+    }
+  }
+}
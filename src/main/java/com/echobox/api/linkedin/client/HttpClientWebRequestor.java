@@ -0,0 +1,442 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import static java.lang.String.format;
+
+import com.echobox.api.linkedin.util.ValidationUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of a service that sends HTTP requests to the LinkedIn API endpoint using the JDK
+ * {@link HttpClient}. Requests are sent over HTTP/2 where the server supports it so concurrent
+ * requests to the same host are multiplexed over a single pooled connection.
+ * <p>
+ * The underlying client is thread safe and can be shared between requestors, for example one per
+ * access token, so they all use the same connection pool. It also implements
+ * {@link AsyncWebRequestor} so requests can be sent without blocking a thread while waiting for
+ * the response.
+ * @author Joanna
+ */
+public class HttpClientWebRequestor implements WebRequestor, AsyncWebRequestor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientWebRequestor.class);
+
+  /**
+   * Arbitrary unique boundary marker for multipart {@code POST}s.
+   */
+  private static final String MULTIPART_BOUNDARY =
+      "**boundarystringwhichwill**neverbeencounteredinthewild**";
+
+  private static final String HEADER_AUTHORIZATION = "Authorization";
+
+  private static final String HEADER_CONTENT_TYPE = "Content-Type";
+
+  private static final String JSON_CONTENT_TYPE = "application/json; charset=UTF-8";
+
+  private static final String OCTET_STREAM_CONTENT_TYPE = "application/octet-stream";
+
+  /**
+   * Headers the JDK client manages itself and refuses to have set on a request
+   */
+  private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(
+      Arrays.asList("connection", "content-length", "expect", "host", "upgrade"));
+
+  private static final byte[] NO_CONTENT = new byte[0];
+
+  private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Reads the body as raw bytes, which the JDK collects into a single array sized once the whole
+   * body has arrived. A 204 has no body so it is not read at all.
+   */
+  private static final HttpResponse.BodyHandler<byte[]> BODY_HANDLER =
+      responseInfo -> responseInfo.statusCode() == HttpURLConnection.HTTP_NO_CONTENT
+          ? HttpResponse.BodySubscribers.replacing(NO_CONTENT)
+          : HttpResponse.BodySubscribers.ofByteArray();
+
+  private final HttpClient httpClient;
+
+  private final HttpClientWebRequestorConfig config;
+
+  private final String accessToken;
+
+  /**
+   * Debug info of the most recent response, kept for {@link #getDebugHeaderInfo()}
+   */
+  private volatile DebugHeaderInfo debugHeaderInfo;
+
+  /**
+   * Initialise the web requestor with the default configuration and its own HTTP client
+   * @param accessToken A LinkedIn OAuth access token, can be {@code null} for unauthenticated
+   * requests such as uploads to a pre-signed URL
+   */
+  public HttpClientWebRequestor(String accessToken) {
+    this(accessToken, HttpClientWebRequestorConfig.defaultConfig());
+  }
+
+  /**
+   * Initialise the web requestor with its own HTTP client built from the given configuration
+   * @param accessToken A LinkedIn OAuth access token, can be {@code null}
+   * @param config the HTTP client configuration
+   */
+  public HttpClientWebRequestor(String accessToken, HttpClientWebRequestorConfig config) {
+    this(accessToken, config, config.buildHttpClient());
+  }
+
+  /**
+   * Initialise the web requestor with a shared HTTP client
+   * @param accessToken A LinkedIn OAuth access token, can be {@code null}
+   * @param config the configuration used for per-request settings such as the read timeout
+   * @param httpClient the HTTP client, usually shared between many requestors
+   */
+  public HttpClientWebRequestor(String accessToken, HttpClientWebRequestorConfig config,
+      HttpClient httpClient) {
+    ValidationUtils.verifyParameterPresence("config", config);
+    ValidationUtils.verifyParameterPresence("httpClient", httpClient);
+    this.accessToken = accessToken;
+    this.config = config;
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * Gets the underlying HTTP client so it can be shared with other requestors
+   * @return the HTTP client
+   */
+  public HttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  @Override
+  public Response executeGet(String url) throws IOException {
+    return executeGet(url, null);
+  }
+
+  @Override
+  public Response executeGet(String url, Map<String, String> headers) throws IOException {
+    return send(newRequest(url, headers).GET(), headers);
+  }
+
+  @Override
+  public CompletableFuture<Response> executeGetAsync(String url, Map<String, String> headers) {
+    return sendAsync(newRequest(url, headers).GET(), headers);
+  }
+
+  @Override
+  public Response executePost(String url, String parameters, String jsonBody) throws IOException {
+    return executePost(url, parameters, jsonBody, null, new BinaryAttachment[0]);
+  }
+
+  @Override
+  public Response executePost(String url, String parameters, String jsonBody,
+      Map<String, String> headers, BinaryAttachment... binaryAttachments) throws IOException {
+    return send(newPostRequest(url, parameters, jsonBody, headers, binaryAttachments), headers);
+  }
+
+  @Override
+  public CompletableFuture<Response> executePostAsync(String url, String parameters,
+      String jsonBody, Map<String, String> headers, BinaryAttachment... binaryAttachments) {
+    return sendAsync(newPostRequest(url, parameters, jsonBody, headers, binaryAttachments),
+        headers);
+  }
+
+  @Override
+  public Response executePut(String url, String parameters, String jsonBody,
+      Map<String, String> headers, BinaryAttachment binaryAttachment) throws IOException {
+    return send(newPutRequest(url, parameters, jsonBody, headers, binaryAttachment), headers);
+  }
+
+  @Override
+  public CompletableFuture<Response> executePutAsync(String url, String parameters,
+      String jsonBody, Map<String, String> headers, BinaryAttachment binaryAttachment) {
+    return sendAsync(newPutRequest(url, parameters, jsonBody, headers, binaryAttachment),
+        headers);
+  }
+
+  @Override
+  public Response executeDelete(String url) throws IOException {
+    return executeDelete(url, null);
+  }
+
+  @Override
+  public Response executeDelete(String url, Map<String, String> headers) throws IOException {
+    return send(newRequest(url, headers).DELETE(), headers);
+  }
+
+  @Override
+  public CompletableFuture<Response> executeDeleteAsync(String url,
+      Map<String, String> headers) {
+    return sendAsync(newRequest(url, headers).DELETE(), headers);
+  }
+
+  @Override
+  @Deprecated
+  public DebugHeaderInfo getDebugHeaderInfo() {
+    return debugHeaderInfo;
+  }
+
+  /**
+   * Hook method which allows subclasses to easily customise the HTTP request before it is sent.
+   * This implementation is a no-op.
+   *
+   * @param requestBuilder The request to customize.
+   */
+  protected void customizeRequest(HttpRequest.Builder requestBuilder) {
+    // This implementation is a no-op
+  }
+
+  private HttpRequest.Builder newRequest(String url, Map<String, String> headers) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(RequestUrls.toWireUrl(url)))
+        .timeout(config.getReadTimeout());
+
+    if (accessToken != null) {
+      builder.header(HEADER_AUTHORIZATION, "Bearer " + accessToken);
+    }
+
+    if (headers != null) {
+      headers.forEach((name, value) -> {
+        if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+          builder.header(name, value);
+        }
+      });
+    }
+
+    return builder;
+  }
+
+  private HttpRequest.Builder newPostRequest(String url, String parameters, String jsonBody,
+      Map<String, String> headers, BinaryAttachment... binaryAttachments) {
+    HttpRequest.Builder builder = newRequest(withParameters(url, parameters), headers);
+
+    if (binaryAttachments != null && binaryAttachments.length > 0) {
+      builder.header(HEADER_CONTENT_TYPE, "multipart/form-data; boundary=" + MULTIPART_BOUNDARY);
+      builder.POST(toMultipartBody(binaryAttachments));
+    } else {
+      builder.POST(jsonBodyPublisher(builder, jsonBody));
+    }
+
+    return builder;
+  }
+
+  private HttpRequest.Builder newPutRequest(String url, String parameters, String jsonBody,
+      Map<String, String> headers, BinaryAttachment binaryAttachment) {
+    HttpRequest.Builder builder = newRequest(withParameters(url, parameters), headers);
+
+    if (binaryAttachment != null) {
+      // Assume application/octet-stream if the caller did not provide a content type
+      if (findHeader(headers, HEADER_CONTENT_TYPE) == null) {
+        builder.header(HEADER_CONTENT_TYPE, OCTET_STREAM_CONTENT_TYPE);
+      }
+      builder.PUT(toBodyPublisher(binaryAttachment));
+    } else {
+      builder.PUT(jsonBodyPublisher(builder, jsonBody));
+    }
+
+    return builder;
+  }
+
+  private HttpRequest.BodyPublisher jsonBodyPublisher(HttpRequest.Builder builder,
+      String jsonBody) {
+    if (jsonBody == null) {
+      return HttpRequest.BodyPublishers.noBody();
+    }
+    builder.setHeader(HEADER_CONTENT_TYPE, JSON_CONTENT_TYPE);
+    return HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8);
+  }
+
+  private Response send(HttpRequest.Builder builder, Map<String, String> headers)
+      throws IOException {
+    HttpRequest request = buildRequest(builder, headers);
+    try {
+      return toResponse(httpClient.send(request, BODY_HANDLER));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException interruptedException =
+          new InterruptedIOException("Interrupted while waiting for LinkedIn to respond");
+      interruptedException.initCause(ex);
+      throw interruptedException;
+    }
+  }
+
+  private CompletableFuture<Response> sendAsync(HttpRequest.Builder builder,
+      Map<String, String> headers) {
+    HttpRequest request = buildRequest(builder, headers);
+    return httpClient.sendAsync(request, BODY_HANDLER).thenApply(this::toResponse);
+  }
+
+  private HttpRequest buildRequest(HttpRequest.Builder builder, Map<String, String> headers) {
+    // Allow subclasses to customize the request if they'd like to - set their own headers,
+    // timeouts, etc.
+    customizeRequest(builder);
+    HttpRequest request = builder.build();
+
+    if (LOGGER.isTraceEnabled()) {
+      LOGGER.trace(format("Making a %s request to %s with headers %s", request.method(),
+          request.uri(), headers));
+    }
+
+    return request;
+  }
+
+  private Response toResponse(HttpResponse<byte[]> httpResponse) {
+    Response response = Response.fromBytes(httpResponse.statusCode(),
+        toHeaderMap(httpResponse.headers()), httpResponse.body());
+    debugHeaderInfo = response.getDebugHeaderInfo();
+
+    if (LOGGER.isTraceEnabled()) {
+      LOGGER.trace(format("LinkedIn responded with %s over %s", response,
+          httpResponse.version()));
+    }
+
+    return response;
+  }
+
+  /**
+   * Convert the response headers into the same shape the {@link DefaultWebRequestor} produces:
+   * lower case names, with multi-valued headers rendered as a list.
+   *
+   * @param headers the response headers
+   * @return the header map
+   */
+  private static Map<String, String> toHeaderMap(HttpHeaders headers) {
+    Map<String, String> headerMap = new HashMap<>();
+    for (Map.Entry<String, List<String>> entry : headers.map().entrySet()) {
+      List<String> values = entry.getValue();
+      String value = values.isEmpty() ? "" : values.size() == 1 ? values.get(0)
+          : values.toString();
+      headerMap.put(entry.getKey().toLowerCase(Locale.ROOT), value);
+    }
+    return headerMap;
+  }
+
+  private static String findHeader(Map<String, String> headers, String name) {
+    if (headers == null) {
+      return null;
+    }
+    return headers.entrySet().stream()
+        .filter(entry -> entry.getKey().equalsIgnoreCase(name))
+        .map(Map.Entry::getValue).findFirst().orElse(null);
+  }
+
+  private static String withParameters(String url, String parameters) {
+    return StringUtils.isEmpty(parameters) ? url : url + "?" + parameters;
+  }
+
+  /**
+   * Publish the attachment, streaming it to the socket unless it is already in memory. A file is
+   * published as memory-mapped slices so it is never copied to the heap. The JDK client needs a
+   * known length to send a Content-Length rather than a chunked body.
+   *
+   * @param binaryAttachment the attachment
+   * @return the body publisher
+   */
+  private static HttpRequest.BodyPublisher toBodyPublisher(BinaryAttachment binaryAttachment) {
+    if (binaryAttachment.isInMemory()) {
+      return HttpRequest.BodyPublishers.ofByteArray(binaryAttachment.getData());
+    }
+    if (binaryAttachment.isFile()) {
+      return HttpRequest.BodyPublishers.fromPublisher(binaryAttachment.publishDataFile(),
+          binaryAttachment.getLength());
+    }
+    return withLength(HttpRequest.BodyPublishers.ofInputStream(
+        binaryAttachment::getDataInputStream), binaryAttachment.getLength());
+  }
+
+  /**
+   * Publish the attachments as a multipart body, streaming each attachment in turn so that none
+   * of them has to be held in memory.
+   *
+   * @param binaryAttachments the attachments
+   * @return the body publisher
+   */
+  private static HttpRequest.BodyPublisher toMultipartBody(BinaryAttachment[] binaryAttachments) {
+    List<Supplier<InputStream>> parts = new ArrayList<>();
+    long length = 0;
+    for (BinaryAttachment binaryAttachment : binaryAttachments) {
+      byte[] partHeader = format("--%s\r\nContent-Disposition: form-data; name=\"%s\"; "
+              + "filename=\"%s\"\r\nContent-Type: %s\r\n\r\n", MULTIPART_BOUNDARY,
+          formFieldName(binaryAttachment), binaryAttachment.getFilename(),
+          binaryAttachment.getContentType()).getBytes(StandardCharsets.UTF_8);
+      parts.add(() -> new ByteArrayInputStream(partHeader));
+      parts.add(binaryAttachment::getDataInputStream);
+      parts.add(() -> new ByteArrayInputStream(CRLF));
+      length = length < 0 || binaryAttachment.getLength() < 0 ? -1
+          : length + partHeader.length + binaryAttachment.getLength() + CRLF.length;
+    }
+    byte[] trailer = format("--%s--\r\n", MULTIPART_BOUNDARY).getBytes(StandardCharsets.UTF_8);
+    parts.add(() -> new ByteArrayInputStream(trailer));
+    length = length < 0 ? -1 : length + trailer.length;
+
+    return withLength(HttpRequest.BodyPublishers.ofInputStream(() -> {
+      // Only open each part once the previous one has been sent
+      Iterator<Supplier<InputStream>> iterator = parts.iterator();
+      return new SequenceInputStream(new Enumeration<InputStream>() {
+        @Override
+        public boolean hasMoreElements() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public InputStream nextElement() {
+          return iterator.next().get();
+        }
+      });
+    }), length);
+  }
+
+  private static HttpRequest.BodyPublisher withLength(HttpRequest.BodyPublisher publisher,
+      long length) {
+    return length < 0 ? publisher : HttpRequest.BodyPublishers.fromPublisher(publisher, length);
+  }
+
+  private static String formFieldName(BinaryAttachment binaryAttachment) {
+    if (binaryAttachment.getFieldName() != null) {
+      return binaryAttachment.getFieldName();
+    }
+    String name = binaryAttachment.getFilename();
+    int fileExtensionIndex = name.lastIndexOf('.');
+    return fileExtensionIndex > 0 ? name.substring(0, fileExtensionIndex) : name;
+  }
+}
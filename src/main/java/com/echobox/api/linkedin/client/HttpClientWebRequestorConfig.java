@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for the {@link HttpClientWebRequestor} and the {@link HttpClient} connection pool
+ * it sends requests through.
+ * <p>
+ * The JDK client does not expose its connection pool through the builder. The pool size and idle
+ * keep-alive timeout can only be set JVM-wide, with the {@code jdk.httpclient.connectionPoolSize}
+ * and {@code jdk.httpclient.keepalive.timeout} system properties set before the first client in
+ * the JVM is created.
+ * @author Joanna
+ */
+@Builder
+@Getter
+public class HttpClientWebRequestorConfig {
+
+  /**
+   * The preferred HTTP version, HTTP/2 falls back to HTTP/1.1 if the server does not support it
+   */
+  @Builder.Default
+  private final HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+
+  /**
+   * How long to wait for a connection to be established
+   */
+  @Builder.Default
+  private final Duration connectTimeout = Duration.ofSeconds(30);
+
+  /**
+   * How long to wait for a response
+   */
+  @Builder.Default
+  private final Duration readTimeout = Duration.ofMillis(180000);
+
+  /**
+   * The executor used by the client for asynchronous tasks, {@code null} uses the JDK default
+   */
+  private final Executor executor;
+
+  /**
+   * Creates the default configuration
+   * @return the default configuration
+   */
+  public static HttpClientWebRequestorConfig defaultConfig() {
+    return HttpClientWebRequestorConfig.builder().build();
+  }
+
+  /**
+   * Build a new HTTP client from this configuration. Clients are expensive to create as each one
+   * owns its own connection pool and selector thread, so build one and share it.
+   * @return a new HTTP client
+   */
+  public HttpClient buildHttpClient() {
+    HttpClient.Builder builder = HttpClient.newBuilder()
+        .version(httpVersion)
+        .connectTimeout(connectTimeout)
+        .followRedirects(HttpClient.Redirect.NORMAL);
+    if (executor != null) {
+      builder.executor(executor);
+    }
+    return builder.build();
+  }
+}
@@ -25,6 +25,8 @@ package com.echobox.api.linkedin.client;
 
 import static java.lang.String.format;
 
+import com.echobox.api.linkedin.exception.DefaultLinkedInExceptionMapper;
+import com.echobox.api.linkedin.exception.LinkedInExceptionMapper;
 import com.echobox.api.linkedin.jsonmapper.JsonMapper;
 import com.echobox.api.linkedin.jsonmapper.JsonMapper.JsonMappingCompleted;
 import com.echobox.api.linkedin.jsonmapper.LinkedIn;
@@ -258,6 +260,29 @@ public interface LinkedInClient {
    */
   String getVersionedMonth();
 
+  /**
+   * Gets the {@code LinkedInExceptionMapper} used to turn LinkedIn errors into exceptions. By
+   * default a {@link DefaultLinkedInExceptionMapper} is returned.
+   *
+   * @return The {@code LinkedInExceptionMapper} used to turn LinkedIn errors into exceptions.
+   */
+  default LinkedInExceptionMapper getLinkedInExceptionMapper() {
+    return new DefaultLinkedInExceptionMapper();
+  }
+
+  /**
+   * Adds the field projection of the given type to the parameters of a GET request if the client
+   * sends field projections and the parameters do not already include one. By default the
+   * parameters are returned unchanged.
+   *
+   * @param type The type the response is mapped to.
+   * @param parameters The parameters of the request.
+   * @return The parameters to send.
+   */
+  default Parameter[] withFieldProjection(Class<?> type, Parameter... parameters) {
+    return parameters;
+  }
+
   /**
    * Represents an access token/expiration date pair.
    * <p>
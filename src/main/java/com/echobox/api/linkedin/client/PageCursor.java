@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import com.eclipsesource.json.ParseException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The position of a page of a connection, which can be saved and later used to resume iterating
+ * the connection from that page without reading the pages before it. Cursors are immutable and
+ * can be serialized with Java serialization or as JSON.
+ * @author Joanna
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class PageCursor implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final String START = "start";
+
+  private static final String COUNT = "count";
+
+  /**
+   * The URL of the connection without its query string
+   */
+  private final String endpoint;
+
+  /**
+   * The query parameters of the connection other than start and count, in the order they were
+   * sent and as they appear in the URL, e.g. {@code q=author}
+   */
+  private final List<String> parameters;
+
+  /**
+   * The index of the first element of the page
+   */
+  private final int start;
+
+  /**
+   * The number of elements requested for each page, or {@code null} to use LinkedIn's default
+   */
+  private final Integer count;
+
+  /**
+   * The LinkedIn version month the connection was read with, or {@code null} if it is not
+   * versioned
+   */
+  private final String versionMonth;
+
+  /**
+   * Creates a page cursor
+   * @param endpoint the URL of the connection without its query string
+   * @param parameters the query parameters other than start and count
+   * @param start the index of the first element of the page
+   * @param count the number of elements for each page, or {@code null}
+   * @param versionMonth the LinkedIn version month, or {@code null}
+   */
+  public PageCursor(String endpoint, List<String> parameters, int start, Integer count,
+      String versionMonth) {
+    if (StringUtils.isBlank(endpoint)) {
+      throw new IllegalArgumentException("The endpoint of a page cursor cannot be blank");
+    }
+    if (start < 0) {
+      throw new IllegalArgumentException("The start of a page cursor cannot be negative");
+    }
+    this.endpoint = endpoint;
+    this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+    this.start = start;
+    this.count = count;
+    this.versionMonth = versionMonth;
+  }
+
+  /**
+   * Creates the cursor of the page with the given URL. A URL without a start parameter is the
+   * first page of the connection.
+   * @param pageUrl the URL of the page
+   * @param versionMonth the LinkedIn version month, or {@code null}
+   * @return the page cursor
+   */
+  public static PageCursor fromPageUrl(String pageUrl, String versionMonth) {
+    int query = pageUrl.indexOf('?');
+    if (query < 0) {
+      return new PageCursor(pageUrl, Collections.emptyList(), 0, null, versionMonth);
+    }
+    List<String> parameters = new ArrayList<>();
+    int start = 0;
+    Integer count = null;
+    for (String parameter : pageUrl.substring(query + 1).split("&")) {
+      if (parameter.startsWith(START + "=")) {
+        start = Integer.parseInt(parameter.substring(START.length() + 1));
+      } else if (parameter.startsWith(COUNT + "=")) {
+        count = Integer.valueOf(parameter.substring(COUNT.length() + 1));
+      } else if (!parameter.isEmpty()) {
+        parameters.add(parameter);
+      }
+    }
+    return new PageCursor(pageUrl.substring(0, query), parameters, start, count, versionMonth);
+  }
+
+  /**
+   * Creates a page cursor from the JSON written by {@link #toJson()}
+   * @param json the JSON
+   * @return the page cursor
+   * @throws IllegalArgumentException if the JSON is not a page cursor
+   */
+  public static PageCursor fromJson(String json) {
+    try {
+      JsonObject object = Json.parse(json).asObject();
+      List<String> parameters = new ArrayList<>();
+      for (JsonValue parameter : object.get("parameters").asArray()) {
+        parameters.add(parameter.asString());
+      }
+      JsonValue count = object.get(COUNT);
+      JsonValue versionMonth = object.get("versionMonth");
+      return new PageCursor(object.getString("endpoint", null), parameters,
+          object.getInt(START, 0), count == null || count.isNull() ? null : count.asInt(),
+          versionMonth == null || versionMonth.isNull() ? null : versionMonth.asString());
+    } catch (ParseException | UnsupportedOperationException | NullPointerException ex) {
+      throw new IllegalArgumentException("Invalid page cursor JSON: " + json, ex);
+    }
+  }
+
+  /**
+   * Writes the cursor as JSON
+   * @return the JSON
+   */
+  public String toJson() {
+    JsonArray jsonParameters = new JsonArray();
+    parameters.forEach(jsonParameters::add);
+    JsonObject object = new JsonObject()
+        .add("endpoint", endpoint)
+        .add("parameters", jsonParameters)
+        .add(START, start)
+        .add(COUNT, count == null ? Json.NULL : Json.value(count))
+        .add("versionMonth", versionMonth == null ? Json.NULL : Json.value(versionMonth));
+    return object.toString();
+  }
+
+  /**
+   * Builds the URL of the page
+   * @return the page URL
+   */
+  public String toPageUrl() {
+    StringBuilder url = new StringBuilder(endpoint);
+    char separator = '?';
+    for (String parameter : parameters) {
+      url.append(separator).append(parameter);
+      separator = '&';
+    }
+    url.append(separator).append(START).append('=').append(start);
+    if (count != null) {
+      url.append('&').append(COUNT).append('=').append(count);
+    }
+    return url.toString();
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.util.ValidationUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Iterator over connection pages that fetches the following pages in the background while the
+ * caller processes the current one, so that network time overlaps with processing.
+ * <p>
+ * As the URL of a page is only known once the page before it has been received, pages are
+ * fetched one after the other, but up to the look-ahead depth of them are fetched ahead of the
+ * caller. Close the iterator if iteration stops early, so that no further page is fetched.
+ *
+ * @param <T> type of the connection iterator
+ * @author Joanna
+ */
+public class PrefetchingConnectionIterator<T> implements ConnectionIterator<T>, AutoCloseable {
+
+  private final Executor executor;
+
+  private final int lookAhead;
+
+  private final Deque<CompletableFuture<Connection<T>>> pages = new ArrayDeque<>();
+
+  private Connection<T> connection;
+
+  private boolean initialPage = true;
+
+  private boolean closed;
+
+  /**
+   * Creates an iterator over the pages of a connection, starting to fetch the following pages
+   * straight away
+   *
+   * @param connection the connection over which to iterate
+   * @param lookAhead the number of pages to fetch ahead of the caller
+   * @param executor the executor pages are fetched on
+   */
+  public PrefetchingConnectionIterator(Connection<T> connection, int lookAhead,
+      Executor executor) {
+    ValidationUtils.verifyParameterPresence("connection", connection);
+    ValidationUtils.verifyParameterPresence("executor", executor);
+    if (lookAhead < 1) {
+      throw new IllegalArgumentException("The look-ahead depth must be at least 1");
+    }
+    this.connection = connection;
+    this.lookAhead = lookAhead;
+    this.executor = executor;
+    synchronized (pages) {
+      prefetch();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !closed && (initialPage || connection.hasNext());
+  }
+
+  @Override
+  public List<T> next() {
+    if (initialPage && !closed) {
+      initialPage = false;
+      return connection.getData();
+    }
+    if (!hasNext()) {
+      throw new NoSuchElementException("There are no more pages in the connection.");
+    }
+
+    CompletableFuture<Connection<T>> page;
+    synchronized (pages) {
+      page = pages.pollFirst();
+      prefetch();
+    }
+    connection = join(page);
+    return connection.getData();
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException(PrefetchingConnectionIterator.class.getSimpleName()
+        + " doesn't support the remove() operation.");
+  }
+
+  @Override
+  public Connection<T> snapshot() {
+    return connection;
+  }
+
+  @Override
+  public PageCursor cursor() {
+    return initialPage ? connection.getCursor() : connection.getNextCursor();
+  }
+
+  /**
+   * Gets the number of pages fetched, or being fetched, ahead of the caller
+   *
+   * @return the number of pages
+   */
+  public int getPrefetchedPages() {
+    synchronized (pages) {
+      return pages.size();
+    }
+  }
+
+  /**
+   * Stop fetching pages ahead of the caller, discarding the pages that have been fetched. A page
+   * that is being fetched is not interrupted, but no page is fetched after it.
+   */
+  @Override
+  public void close() {
+    synchronized (pages) {
+      closed = true;
+      pages.forEach(page -> page.cancel(false));
+      pages.clear();
+    }
+  }
+
+  /**
+   * Chain fetches onto the last page known until the look-ahead depth is reached. A fetch
+   * completes with {@code null} once there are no more pages.
+   */
+  private void prefetch() {
+    while (!closed && pages.size() < lookAhead) {
+      CompletableFuture<Connection<T>> last = pages.peekLast();
+      CompletableFuture<Connection<T>> next;
+      if (last == null) {
+        next = connection.hasNext()
+            ? CompletableFuture.supplyAsync(connection::fetchNextPage, executor)
+            : CompletableFuture.completedFuture(null);
+      } else if (last.isDone() && !last.isCompletedExceptionally() && last.join() == null) {
+        return;
+      } else {
+        next = last.thenApplyAsync(page -> page != null && page.hasNext()
+            ? page.fetchNextPage() : null, executor);
+      }
+      pages.addLast(next);
+    }
+  }
+
+  private Connection<T> join(CompletableFuture<Connection<T>> page) {
+    try {
+      Connection<T> next = page.join();
+      if (next == null) {
+        throw new NoSuchElementException("There are no more pages in the connection.");
+      }
+      return next;
+    } catch (CancellationException ex) {
+      throw new NoSuchElementException("The iterator has been closed.");
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A request to the LinkedIn API that has been validated and built but not yet sent, so the same
+ * request can be sent through either a {@link WebRequestor} or an {@link AsyncWebRequestor}.
+ * @author Joanna
+ */
+@Getter
+class PreparedRequest {
+
+  private final RequestType requestType;
+
+  private final String fullEndpoint;
+
+  private final String parameterString;
+
+  private final String body;
+
+  private final Map<String, String> headers;
+
+  private final BinaryAttachment[] attachments;
+
+  /**
+   * Initialise the prepared request
+   * @param requestType the web request type to execute
+   * @param fullEndpoint the full endpoint URL without any parameters
+   * @param parameterString the URL encoded parameters
+   * @param body the JSON body, or {@code null}
+   * @param headers the request headers
+   * @param attachments the binary attachments, or {@code null}
+   */
+  PreparedRequest(RequestType requestType, String fullEndpoint, String parameterString,
+      String body, Map<String, String> headers, BinaryAttachment[] attachments) {
+    if (requestType == null) {
+      throw new IllegalArgumentException("The request type parameter is required");
+    }
+    this.requestType = requestType;
+    this.fullEndpoint = fullEndpoint;
+    this.parameterString = parameterString;
+    this.body = body;
+    this.headers = headers;
+    this.attachments = attachments;
+  }
+
+  /**
+   * Gets the full URL including the parameters, as used for GET and DELETE requests
+   * @return the full URL
+   */
+  String getUrl() {
+    return StringUtils.isBlank(parameterString) ? fullEndpoint
+        : fullEndpoint + (fullEndpoint.indexOf('?') < 0 ? "?" : "&") + parameterString;
+  }
+
+  /**
+   * Send the request and wait for the response
+   * @param webRequestor the web requestor to send the request with
+   * @return the response
+   * @throws IOException if the request fails
+   */
+  WebRequestor.Response execute(WebRequestor webRequestor) throws IOException {
+    switch (requestType) {
+      case GET:
+        return webRequestor.executeGet(getUrl(), headers);
+      case PUT:
+        return webRequestor.executePut(fullEndpoint, parameterString, body, headers,
+            getFirstAttachment());
+      case POST:
+        return webRequestor.executePost(fullEndpoint, parameterString, body, headers,
+            attachments);
+      default:
+        return webRequestor.executeDelete(getUrl(), headers);
+    }
+  }
+
+  /**
+   * Send the request without waiting for the response
+   * @param webRequestor the asynchronous web requestor to send the request with
+   * @return a future that completes with the response
+   */
+  CompletableFuture<WebRequestor.Response> executeAsync(AsyncWebRequestor webRequestor) {
+    switch (requestType) {
+      case GET:
+        return webRequestor.executeGetAsync(getUrl(), headers);
+      case PUT:
+        return webRequestor.executePutAsync(fullEndpoint, parameterString, body, headers,
+            getFirstAttachment());
+      case POST:
+        return webRequestor.executePostAsync(fullEndpoint, parameterString, body, headers,
+            attachments);
+      default:
+        return webRequestor.executeDeleteAsync(getUrl(), headers);
+    }
+  }
+
+  /**
+   * Whether the request can be sent again, i.e. none of its attachments is streamed from an input
+   * stream that has been read by the first attempt
+   * @return true if the request can be retried
+   */
+  boolean isRepeatable() {
+    if (attachments != null) {
+      for (BinaryAttachment attachment : attachments) {
+        if (!attachment.isRepeatable()) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private BinaryAttachment getFirstAttachment() {
+    return attachments == null || attachments.length == 0 ? null : attachments[0];
+  }
+}
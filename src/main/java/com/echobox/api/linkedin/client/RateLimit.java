@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.util.ValidationUtils;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * A budget of calls: up to {@code permits} calls in each {@code period}, of which up to
+ * {@code burst} can be made back to back. The budget is refilled evenly over the period rather
+ * than all at once at the start of each period.
+ * @author Joanna
+ */
+@Getter
+public class RateLimit {
+
+  private final long permits;
+
+  private final Duration period;
+
+  private final long burst;
+
+  private RateLimit(long permits, Duration period, long burst) {
+    ValidationUtils.verifyParameterPresence("period", period);
+    if (permits < 1 || burst < 1 || period.isNegative() || period.isZero()) {
+      throw new IllegalArgumentException("A rate limit needs a positive number of permits, "
+          + "burst and period");
+    }
+    this.permits = permits;
+    this.period = period;
+    this.burst = burst;
+  }
+
+  /**
+   * Creates a budget of {@code permits} calls per {@code period}, which can all be made back to
+   * back
+   * @param permits the number of calls allowed per period
+   * @param period the period
+   * @return the rate limit
+   */
+  public static RateLimit of(long permits, Duration period) {
+    return new RateLimit(permits, period, permits);
+  }
+
+  /**
+   * Creates a budget of {@code permits} calls per day, matching LinkedIn's daily quotas
+   * @param permits the number of calls allowed per day
+   * @return the rate limit
+   */
+  public static RateLimit perDay(long permits) {
+    return of(permits, Duration.ofDays(1));
+  }
+
+  /**
+   * Creates a copy of this budget that allows at most {@code burst} calls back to back
+   * @param burst the maximum number of calls made back to back
+   * @return the rate limit
+   */
+  public RateLimit withBurst(long burst) {
+    return new RateLimit(permits, period, burst);
+  }
+
+  /**
+   * The time it takes to refill one permit
+   * @return the refill interval in nanoseconds
+   */
+  long getIntervalNanos() {
+    return Math.max(1, period.toNanos() / permits);
+  }
+
+  @Override
+  public String toString() {
+    return permits + " per " + period + " (burst " + burst + ")";
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.exception.LinkedInNetworkException;
+import com.echobox.api.linkedin.exception.LinkedInQuotaExceededException;
+import com.echobox.api.linkedin.util.HashUtils;
+import com.echobox.api.linkedin.util.ValidationUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Meters calls to the LinkedIn API against the budgets of a {@link RateLimiterConfig} before
+ * they are sent, so that a used up quota is noticed without waiting for LinkedIn to respond with
+ * a 429.
+ * <p>
+ * Each call takes a permit from the budget of its resource path shared by the application and
+ * from the budget of its resource path for its access token. When either budget is used up the
+ * call waits for it to refill, or fails with a {@link LinkedInQuotaExceededException} if the
+ * limiter fails fast or the wait would be longer than the maximum wait. Budgets are lock-free
+ * token buckets, so the limiter can be shared by every client and thread. The budgets of access
+ * tokens are kept by a SHA-256 digest of the token, and dropped once they have not been used for
+ * longer than it takes to refill them.
+ * @author Joanna
+ */
+public class RateLimiter {
+
+  private static final String KEY_SEPARATOR = "\n";
+
+  private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final RateLimiterConfig config;
+
+  private final Map<String, RateLimit> applicationLimits;
+
+  private final Map<String, RateLimit> memberLimits;
+
+  private final ConcurrentMap<String, TokenBucket> applicationBuckets = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<String, TokenBucket> memberBuckets = new ConcurrentHashMap<>();
+
+  private final LongAdder throttledCalls = new LongAdder();
+
+  private final LongAdder rejectedCalls = new LongAdder();
+
+  private final LongAdder throttledNanos = new LongAdder();
+
+  private final AtomicLong nextSweepNanos = new AtomicLong(System.nanoTime());
+
+  /**
+   * Creates a rate limiter
+   * @param config the budgets to enforce
+   */
+  public RateLimiter(RateLimiterConfig config) {
+    ValidationUtils.verifyParameterPresence("config", config);
+    this.config = config;
+    this.applicationLimits = normalise(config.getApplicationLimits());
+    this.memberLimits = normalise(config.getMemberLimits());
+  }
+
+  private static Map<String, RateLimit> normalise(Map<String, RateLimit> limits) {
+    Map<String, RateLimit> normalised = new HashMap<>();
+    limits.forEach((resourcePath, limit) -> normalised.put(
+        resourcePath.startsWith("/") ? resourcePath : "/" + resourcePath, limit));
+    return normalised;
+  }
+
+  /**
+   * Take a permit for a call, waiting for the budgets to refill if they are used up
+   * @param accessToken the access token the call is made with, or {@code null} if unknown
+   * @param resourcePath the resource path of the call, e.g. {@code /posts}
+   * @throws LinkedInQuotaExceededException if a budget is used up and the call cannot wait for it
+   */
+  public void acquire(String accessToken, String resourcePath) {
+    acquireForMember(getMemberKey(accessToken), resourcePath);
+  }
+
+  /**
+   * Gets the key the member budgets of an access token are kept by, which clients compute once
+   * rather than for every call
+   * @param accessToken the access token, or {@code null} if unknown
+   * @return the SHA-256 digest of the access token
+   */
+  static String getMemberKey(String accessToken) {
+    return HashUtils.sha256Hex(accessToken == null ? "" : accessToken);
+  }
+
+  /**
+   * Take a permit for a call, waiting for the budgets to refill if they are used up
+   * @param memberKey the {@link #getMemberKey(String) member key} of the access token
+   * @param resourcePath the resource path of the call, e.g. {@code /posts}
+   * @throws LinkedInQuotaExceededException if a budget is used up and the call cannot wait for it
+   */
+  void acquireForMember(String memberKey, String resourcePath) {
+    long waitNanos = reserve(memberKey, resourcePath);
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new LinkedInNetworkException("Interrupted while waiting for the call budget of "
+            + resourcePath, ex);
+      }
+    }
+  }
+
+  /**
+   * Take a permit for a call without waiting, reserving a future permit if the budgets are used
+   * up and the call can wait for them to refill
+   * @param memberKey the {@link #getMemberKey(String) member key} of the access token
+   * @param resourcePath the resource path of the call, e.g. {@code /posts}
+   * @return how many nanoseconds to wait before making the call
+   * @throws LinkedInQuotaExceededException if a budget is used up and the call cannot wait for it
+   */
+  long reserve(String memberKey, String resourcePath) {
+    TokenBucket applicationBucket = getBucket(applicationBuckets, resourcePath,
+        applicationLimits.getOrDefault(resourcePath, config.getDefaultApplicationLimit()));
+    RateLimit memberLimit = memberLimits.getOrDefault(resourcePath,
+        config.getDefaultMemberLimit());
+    TokenBucket memberBucket = memberLimit == null ? null : getBucket(memberBuckets,
+        memberKey + KEY_SEPARATOR + resourcePath, memberLimit);
+    if (applicationBucket == null && memberBucket == null) {
+      return 0;
+    }
+
+    long nowNanos = System.nanoTime();
+    sweepIdleMemberBuckets(nowNanos);
+    long maxWaitNanos = config.isFailFast() ? 0 : config.getMaxWait().toNanos();
+    long applicationWait = applicationBucket == null ? 0
+        : applicationBucket.reserve(nowNanos, maxWaitNanos);
+    long memberWait = memberBucket == null || applicationWait < 0 ? 0
+        : memberBucket.reserve(nowNanos, maxWaitNanos);
+    if (applicationWait < 0 || memberWait < 0) {
+      if (memberWait < 0 && applicationBucket != null) {
+        applicationBucket.cancel();
+      }
+      rejectedCalls.increment();
+      throw new LinkedInQuotaExceededException(resourcePath,
+          TimeUnit.NANOSECONDS.toMillis(-Math.min(applicationWait, memberWait)));
+    }
+
+    long waitNanos = Math.max(applicationWait, memberWait);
+    if (waitNanos > 0) {
+      throttledCalls.increment();
+      throttledNanos.add(waitNanos);
+    }
+    return waitNanos;
+  }
+
+  private static TokenBucket getBucket(ConcurrentMap<String, TokenBucket> buckets, String key,
+      RateLimit limit) {
+    if (limit == null) {
+      return null;
+    }
+    TokenBucket bucket = buckets.get(key);
+    return bucket != null ? bucket
+        : buckets.computeIfAbsent(key, ignored -> new TokenBucket(limit, System.nanoTime()));
+  }
+
+  /**
+   * Drop the member buckets that are full because they have not been used for a while, at most
+   * once per sweep interval. A call racing with the removal of its bucket may take a permit from
+   * the dropped bucket, which is at most one permit more than the budget.
+   * @param nowNanos the current {@link System#nanoTime()}
+   */
+  private void sweepIdleMemberBuckets(long nowNanos) {
+    long nextSweep = nextSweepNanos.get();
+    if (nowNanos - nextSweep < 0
+        || !nextSweepNanos.compareAndSet(nextSweep, nowNanos + SWEEP_INTERVAL_NANOS)) {
+      return;
+    }
+    removeIdleMemberBuckets(nowNanos);
+  }
+
+  /**
+   * Drop the member buckets that have not been used for longer than it takes to refill them
+   * @param nowNanos the current {@link System#nanoTime()}
+   */
+  void removeIdleMemberBuckets(long nowNanos) {
+    memberBuckets.values().removeIf(bucket -> bucket.isIdle(nowNanos));
+  }
+
+  /**
+   * The number of member buckets kept, one for each access token and resource path used recently
+   * @return the number of member buckets
+   */
+  int getMemberBucketCount() {
+    return memberBuckets.size();
+  }
+
+  /**
+   * The number of calls that had to wait for a budget to refill
+   * @return the number of throttled calls
+   */
+  public long getThrottledCalls() {
+    return throttledCalls.sum();
+  }
+
+  /**
+   * The number of calls that failed because a budget was used up
+   * @return the number of rejected calls
+   */
+  public long getRejectedCalls() {
+    return rejectedCalls.sum();
+  }
+
+  /**
+   * The total time calls have waited for budgets to refill
+   * @return the total wait in milliseconds
+   */
+  public long getThrottledMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(throttledNanos.sum());
+  }
+}
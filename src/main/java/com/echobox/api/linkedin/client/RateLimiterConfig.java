@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configuration of the call budgets a {@link RateLimiter} enforces.
+ * <p>
+ * LinkedIn applies a daily quota per endpoint to the whole application and another to each
+ * member, i.e. access token. Budgets are keyed by the resource path, the first segment of the
+ * path after the API version, e.g. {@code /posts} or
+ * {@code /organizationalEntityShareStatistics}. Resource paths without a budget of their own
+ * use the default budget, and are not limited if there is none.
+ * @author Joanna
+ */
+@Builder
+@Getter
+public class RateLimiterConfig {
+
+  /**
+   * The budgets shared by every access token, by resource path
+   */
+  @Builder.Default
+  private final Map<String, RateLimit> applicationLimits = Collections.emptyMap();
+
+  /**
+   * The budget shared by every access token for resource paths without their own budget, or
+   * {@code null} for no limit
+   */
+  private final RateLimit defaultApplicationLimit;
+
+  /**
+   * The budgets of each access token, by resource path
+   */
+  @Builder.Default
+  private final Map<String, RateLimit> memberLimits = Collections.emptyMap();
+
+  /**
+   * The budget of each access token for resource paths without their own budget, or
+   * {@code null} for no limit
+   */
+  private final RateLimit defaultMemberLimit;
+
+  /**
+   * Whether a call over budget fails straight away rather than waiting for the budget to refill
+   */
+  private final boolean failFast;
+
+  /**
+   * The longest a call waits for the budget to refill before failing
+   */
+  @Builder.Default
+  private final Duration maxWait = Duration.ofSeconds(30);
+}
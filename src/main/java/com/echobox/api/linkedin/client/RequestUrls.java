@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.google.api.client.http.GenericUrl;
+
+/**
+ * Builds the URL sent on the wire for a request URL. Query values are decoded and re-encoded by
+ * {@link GenericUrl} so that Rest.li syntax such as {@code fields=name:(localized)} reaches
+ * LinkedIn unescaped. Rest.li {@code List(...)} values are kept exactly as they were encoded,
+ * because decoding the keys inside them, e.g. the colons of a URN, would change their meaning.
+ * @author Joanna
+ */
+final class RequestUrls {
+
+  private static final String LIST_VALUE = "List(";
+
+  private RequestUrls() {
+  }
+
+  /**
+   * Builds the URL sent on the wire
+   * @param url the request URL
+   * @return the URL to send, to be parsed verbatim
+   */
+  static String toWireUrl(String url) {
+    int query = url.indexOf('?');
+    if (query < 0 || url.indexOf(LIST_VALUE, query) < 0) {
+      return new GenericUrl(url).build();
+    }
+    StringBuilder others = new StringBuilder(url.length());
+    StringBuilder lists = new StringBuilder();
+    for (String parameter : url.substring(query + 1).split("&")) {
+      int value = parameter.indexOf('=');
+      boolean isList = value >= 0 && parameter.startsWith(LIST_VALUE, value + 1);
+      StringBuilder target = isList ? lists : others;
+      if (!parameter.isEmpty()) {
+        target.append(target.length() == 0 ? "" : "&").append(parameter);
+      }
+    }
+    String wireUrl = new GenericUrl(others.length() == 0 ? url.substring(0, query)
+        : url.substring(0, query + 1) + others).build();
+    return wireUrl + (wireUrl.indexOf('?') < 0 ? '?' : '&') + lists;
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.util.ValidationUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the responses to GET requests that carry an {@code ETag} or {@code Last-Modified}
+ * header, so that a {@link CachingWebRequestor} can revalidate them with a conditional request
+ * and serve the kept body when LinkedIn answers {@code 304 Not Modified}.
+ * <p>
+ * The cache is bounded by the bytes of the bodies it keeps and by its number of entries,
+ * evicting the least recently used responses first. Responses are also indexed by the path of
+ * their URL, so invalidating a path only touches its own responses.
+ * @author Joanna
+ */
+public class ResponseCache {
+
+  /**
+   * Rough number of bytes an entry takes besides its body and key
+   */
+  private static final int ENTRY_OVERHEAD = 128;
+
+  private final ResponseCacheConfig config;
+
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private final Map<String, Set<String>> keysByPath = new HashMap<>();
+
+  private long bytes;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder revalidations = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a response cache
+   * @param config the bounds of the cache
+   */
+  public ResponseCache(ResponseCacheConfig config) {
+    ValidationUtils.verifyParameterPresence("config", config);
+    this.config = config;
+  }
+
+  /**
+   * Gets the number of conditional requests answered with {@code 304 Not Modified}, whose body
+   * was served from the cache
+   * @return the number of hits
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of GET requests sent without a cached response to revalidate
+   * @return the number of misses
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets the number of conditional requests sent to revalidate a cached response
+   * @return the number of revalidations
+   */
+  public long getRevalidations() {
+    return revalidations.sum();
+  }
+
+  /**
+   * Gets the number of responses evicted to keep the cache within its bounds
+   * @return the number of evictions
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Gets the number of responses kept
+   * @return the number of responses
+   */
+  public synchronized int getSize() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the estimated number of bytes the kept responses take
+   * @return the number of bytes
+   */
+  public synchronized long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * Remove every kept response
+   */
+  public synchronized void clear() {
+    entries.clear();
+    keysByPath.clear();
+    bytes = 0;
+  }
+
+  /**
+   * Remove the kept responses of a URL, whatever their query parameters
+   * @param url the URL
+   */
+  public synchronized void invalidate(String url) {
+    Set<String> keys = keysByPath.remove(stripQuery(url));
+    if (keys != null) {
+      for (String key : keys) {
+        bytes -= entries.remove(key).size;
+      }
+    }
+  }
+
+  /**
+   * Gets the kept response of a request, counting a miss if there is none
+   * @param key the key of the request
+   * @return the kept response, or {@code null}
+   */
+  synchronized Entry get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      misses.increment();
+    } else {
+      revalidations.increment();
+    }
+    return entry;
+  }
+
+  /**
+   * Count a conditional request answered with {@code 304 Not Modified}
+   */
+  void recordHit() {
+    hits.increment();
+  }
+
+  /**
+   * Keep a response, replacing the response kept for the request before
+   * @param key the key of the request
+   * @param url the URL requested
+   * @param entry the response and its validators
+   */
+  synchronized void put(String key, String url, Entry entry) {
+    remove(key);
+    entry.path = stripQuery(url);
+    entry.size = entry.response.getBodyBytes().length + 2L * key.length() + ENTRY_OVERHEAD;
+    if (entry.size > config.getMaxBytes()) {
+      return;
+    }
+    entries.put(key, entry);
+    keysByPath.computeIfAbsent(entry.path, ignored -> new HashSet<>()).add(key);
+    bytes += entry.size;
+
+    Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+    while (bytes > config.getMaxBytes() || entries.size() > config.getMaxEntries()) {
+      Map.Entry<String, Entry> evicted = eldest.next();
+      eldest.remove();
+      unindex(evicted.getKey(), evicted.getValue());
+      evictions.increment();
+    }
+  }
+
+  /**
+   * Remove the kept response of a request
+   * @param key the key of the request
+   */
+  synchronized void remove(String key) {
+    Entry removed = entries.remove(key);
+    if (removed != null) {
+      unindex(key, removed);
+    }
+  }
+
+  /**
+   * Account for an entry that has been removed from the entries
+   * @param key the key of the entry
+   * @param removed the entry
+   */
+  private void unindex(String key, Entry removed) {
+    bytes -= removed.size;
+    Set<String> keys = keysByPath.get(removed.path);
+    if (keys != null && keys.remove(key) && keys.isEmpty()) {
+      keysByPath.remove(removed.path);
+    }
+  }
+
+  private static String stripQuery(String url) {
+    int query = url.indexOf('?');
+    return query < 0 ? url : url.substring(0, query);
+  }
+
+  /**
+   * A kept response and the validators to revalidate it with
+   */
+  static final class Entry {
+
+    private final WebRequestor.Response response;
+
+    private final String etag;
+
+    private final String lastModified;
+
+    private String path;
+
+    private long size;
+
+    /**
+     * Creates an entry
+     * @param response the response
+     * @param etag the {@code ETag} of the response, or {@code null}
+     * @param lastModified the {@code Last-Modified} date of the response, or {@code null}
+     */
+    Entry(WebRequestor.Response response, String etag, String lastModified) {
+      this.response = response;
+      this.etag = etag;
+      this.lastModified = lastModified;
+    }
+
+    WebRequestor.Response getResponse() {
+      return response;
+    }
+
+    String getEtag() {
+      return etag;
+    }
+
+    String getLastModified() {
+      return lastModified;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration of how much a {@link ResponseCache} keeps in memory
+ * @author Joanna
+ */
+@Builder
+@Getter
+public class ResponseCacheConfig {
+
+  /**
+   * The most bytes of response bodies kept, the least recently used responses are evicted once
+   * the cache holds more
+   */
+  @Builder.Default
+  private final long maxBytes = 16L * 1024 * 1024;
+
+  /**
+   * The most responses kept
+   */
+  @Builder.Default
+  private final int maxEntries = 10_000;
+
+  /**
+   * Creates the default configuration
+   * @return the default configuration
+   */
+  public static ResponseCacheConfig defaultConfig() {
+    return ResponseCacheConfig.builder().build();
+  }
+}
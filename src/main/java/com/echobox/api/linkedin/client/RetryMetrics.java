@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of how a {@link RetryPolicy} has handled failed requests. The counters are cumulative
+ * and safe to read while requests are being made.
+ * @author Joanna
+ */
+public class RetryMetrics {
+
+  private final LongAdder retries = new LongAdder();
+
+  private final LongAdder retriesAfterRetryAfter = new LongAdder();
+
+  private final LongAdder giveUps = new LongAdder();
+
+  private final LongAdder retryDelayMillis = new LongAdder();
+
+  /**
+   * Record that a failed request will be retried
+   * @param delayMillis how long the retry waits for
+   * @param fromRetryAfter whether the delay came from a Retry-After header
+   */
+  void recordRetry(long delayMillis, boolean fromRetryAfter) {
+    retries.increment();
+    if (fromRetryAfter) {
+      retriesAfterRetryAfter.increment();
+    }
+    retryDelayMillis.add(delayMillis);
+  }
+
+  /**
+   * Record that a request failed with a transient error but will not be retried
+   */
+  void recordGiveUp() {
+    giveUps.increment();
+  }
+
+  /**
+   * The number of retries made
+   * @return the number of retries
+   */
+  public long getRetries() {
+    return retries.sum();
+  }
+
+  /**
+   * The number of retries whose delay was set by a Retry-After header
+   * @return the number of retries that honored Retry-After
+   */
+  public long getRetriesAfterRetryAfter() {
+    return retriesAfterRetryAfter.sum();
+  }
+
+  /**
+   * The number of requests that failed with a transient error and were not retried, because the
+   * request is not safe to retry or the attempt or time budget was used up
+   * @return the number of give-ups
+   */
+  public long getGiveUps() {
+    return giveUps.sum();
+  }
+
+  /**
+   * The total time spent waiting to retry requests
+   * @return the total retry delay in milliseconds
+   */
+  public long getRetryDelayMillis() {
+    return retryDelayMillis.sum();
+  }
+}
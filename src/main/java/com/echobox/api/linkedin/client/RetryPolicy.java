@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpStatus;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether and when a LinkedIn API request that failed with a transient error is retried.
+ * <p>
+ * Transient errors are network failures and the {@link #getRetryableStatusCodes() retryable
+ * status codes}, by default 429, 500, 502, 503 and 504. They are retried with an exponential
+ * backoff and full jitter, i.e. a random delay between zero and
+ * {@code min(maxDelay, initialDelay * 2^(retry - 1))}, unless the response has a
+ * {@code Retry-After} header, which is honored instead. A request is given up once it has been
+ * attempted {@link #getMaxAttempts()} times or the next retry would end after
+ * {@link #getMaxElapsedTime()}, and the last failure is reported as it would be without retries.
+ * <p>
+ * GET, DELETE and PUT requests are idempotent and are retried freely. POST requests are only
+ * retried if {@link #isRetryNonIdempotentRequests()} is set, as LinkedIn may already have acted
+ * on a request whose response was lost. Requests with an attachment streamed from an input
+ * stream are never retried, as the stream cannot be read again.
+ * @author Joanna
+ */
+@Builder
+@Getter
+public class RetryPolicy {
+
+  private static final String HEADER_RETRY_AFTER = "retry-after";
+
+  /**
+   * The maximum number of times a request is sent, including the first attempt
+   */
+  @Builder.Default
+  private final int maxAttempts = 3;
+
+  /**
+   * The cap on the backoff before the first retry, doubled for each further retry
+   */
+  @Builder.Default
+  private final Duration initialDelay = Duration.ofMillis(500);
+
+  /**
+   * The maximum backoff between two attempts when there is no Retry-After header
+   */
+  @Builder.Default
+  private final Duration maxDelay = Duration.ofSeconds(30);
+
+  /**
+   * The time budget of a request, from the first attempt, that a retry must start within
+   */
+  @Builder.Default
+  private final Duration maxElapsedTime = Duration.ofMinutes(2);
+
+  /**
+   * Whether to honor the Retry-After header of a response
+   */
+  @Builder.Default
+  private final boolean honorRetryAfter = true;
+
+  /**
+   * Whether to retry network failures, where no response was received
+   */
+  @Builder.Default
+  private final boolean retryNetworkErrors = true;
+
+  /**
+   * Whether to retry POST requests, which may not be idempotent
+   */
+  private final boolean retryNonIdempotentRequests;
+
+  /**
+   * The response status codes that are retried
+   */
+  @Builder.Default
+  private final Set<Integer> retryableStatusCodes = Collections.unmodifiableSet(new HashSet<>(
+      Arrays.asList(HttpStatus.SC_TOO_MANY_REQUESTS, HttpStatus.SC_INTERNAL_SERVER_ERROR,
+          HttpStatus.SC_BAD_GATEWAY, HttpStatus.SC_SERVICE_UNAVAILABLE,
+          HttpStatus.SC_GATEWAY_TIMEOUT)));
+
+  /**
+   * The metrics of the requests made with this policy
+   */
+  @Builder.Default
+  private final RetryMetrics metrics = new RetryMetrics();
+
+  /**
+   * Creates a policy that never retries, which is what the LinkedIn clients use by default
+   * @return a policy that never retries
+   */
+  public static RetryPolicy noRetries() {
+    return RetryPolicy.builder().maxAttempts(1).build();
+  }
+
+  /**
+   * Creates the default policy
+   * @return the default policy
+   */
+  public static RetryPolicy defaultPolicy() {
+    return RetryPolicy.builder().build();
+  }
+
+  /**
+   * Whether a request of the given type may be retried
+   * @param requestType the request type, or {@code null} if unknown
+   * @return true if the request is idempotent or retrying non-idempotent requests is enabled
+   */
+  public boolean isRetryable(RequestType requestType) {
+    return RequestType.GET == requestType || RequestType.DELETE == requestType
+        || RequestType.PUT == requestType || retryNonIdempotentRequests;
+  }
+
+  /**
+   * Decide whether to retry an attempt, recording the decision in the metrics
+   * @param retryable whether the request may be retried at all
+   * @param attempt the number of the attempt that was made, starting from 1
+   * @param elapsedMillis the time since the first attempt was started
+   * @param response the response received, or {@code null} if the request failed
+   * @param failure the failure if no response was received
+   * @return how long to wait before retrying, or -1 to not retry
+   */
+  long getRetryDelayMillis(boolean retryable, int attempt, long elapsedMillis,
+      WebRequestor.Response response, Throwable failure) {
+    boolean transientFailure = response == null
+        ? failure != null && retryNetworkErrors
+        : retryableStatusCodes.contains(response.getStatusCode());
+    if (!transientFailure) {
+      return -1;
+    }
+
+    long retryAfterMillis = honorRetryAfter ? getRetryAfterMillis(response) : -1;
+    long delayMillis = retryAfterMillis >= 0 ? retryAfterMillis : getBackoffMillis(attempt);
+    if (!retryable || attempt >= maxAttempts
+        || elapsedMillis + delayMillis > maxElapsedTime.toMillis()) {
+      metrics.recordGiveUp();
+      return -1;
+    }
+    metrics.recordRetry(delayMillis, retryAfterMillis >= 0);
+    return delayMillis;
+  }
+
+  private long getBackoffMillis(int attempt) {
+    long capMillis = initialDelay.toMillis() << Math.min(attempt - 1, 30);
+    if (capMillis < 0 || capMillis > maxDelay.toMillis()) {
+      capMillis = maxDelay.toMillis();
+    }
+    return ThreadLocalRandom.current().nextLong(capMillis + 1);
+  }
+
+  /**
+   * Read the Retry-After header, which is either a number of seconds or an HTTP date
+   * @param response the response
+   * @return the delay in milliseconds, or -1 if there is no valid header
+   */
+  static long getRetryAfterMillis(WebRequestor.Response response) {
+    String retryAfter = response == null ? null : response.getHeaders().get(HEADER_RETRY_AFTER);
+    if (StringUtils.isBlank(retryAfter)) {
+      return -1;
+    }
+    retryAfter = retryAfter.trim();
+    try {
+      return Math.max(0, Long.parseLong(retryAfter) * 1000);
+    } catch (NumberFormatException ex) {
+      // Not a number of seconds, so try an HTTP date
+    }
+    try {
+      ZonedDateTime date = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+      return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+    } catch (DateTimeParseException ex) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses identical GET requests that are in flight at the same time into a single request,
+ * sharing its response, or its error, with every caller that asked for it.
+ * <p>
+ * Requests are identical when they have the same URL and headers, which include the
+ * {@code Linkedin-Version}, and are made with the same access token. Resources whose responses
+ * do not depend on the access token, such as public organizations, can be shared across tokens
+ * by naming their resource paths. Only requests that are in flight are shared, a request made
+ * after the response has been received is sent again. A single flight can be shared by several
+ * clients.
+ * @author Joanna
+ */
+public class SingleFlight {
+
+  private final Set<String> tokenIndependentResourcePaths;
+
+  private final ConcurrentMap<List<Object>, CompletableFuture<WebRequestor.Response>> flights =
+      new ConcurrentHashMap<>();
+
+  private final LongAdder requests = new LongAdder();
+
+  private final LongAdder sharedRequests = new LongAdder();
+
+  /**
+   * Creates a single flight that only shares requests made with the same access token
+   */
+  public SingleFlight() {
+    this(Collections.emptySet());
+  }
+
+  /**
+   * Creates a single flight
+   * @param tokenIndependentResourcePaths the resource paths, e.g. {@code /organizations}, whose
+   *          requests are shared across access tokens
+   */
+  public SingleFlight(Collection<String> tokenIndependentResourcePaths) {
+    Set<String> resourcePaths = new HashSet<>();
+    tokenIndependentResourcePaths.forEach(resourcePath -> resourcePaths.add(
+        resourcePath.startsWith("/") ? resourcePath : "/" + resourcePath));
+    this.tokenIndependentResourcePaths = Collections.unmodifiableSet(resourcePaths);
+  }
+
+  /**
+   * Whether the requests of a resource path are shared across access tokens
+   * @param resourcePath the resource path, e.g. {@code /organizations}
+   * @return true if the responses of the resource path do not depend on the access token
+   */
+  public boolean isTokenIndependent(String resourcePath) {
+    return tokenIndependentResourcePaths.contains(resourcePath);
+  }
+
+  /**
+   * Gets the number of requests made through the single flight
+   * @return the number of requests
+   */
+  public long getRequests() {
+    return requests.sum();
+  }
+
+  /**
+   * Gets the number of requests that were not sent because an identical request was in flight
+   * @return the number of shared requests
+   */
+  public long getSharedRequests() {
+    return sharedRequests.sum();
+  }
+
+  /**
+   * Gets the number of requests in flight
+   * @return the number of requests in flight
+   */
+  public int getInFlight() {
+    return flights.size();
+  }
+
+  /**
+   * Send a request, or wait for the response of the identical request in flight
+   * @param key what identifies the request, it must include the scope of the access token
+   * @param request sends the request and processes its response
+   * @return the response
+   */
+  WebRequestor.Response execute(List<Object> key, Supplier<WebRequestor.Response> request) {
+    requests.increment();
+    CompletableFuture<WebRequestor.Response> flight = new CompletableFuture<>();
+    CompletableFuture<WebRequestor.Response> inFlight = flights.putIfAbsent(key, flight);
+    if (inFlight != null) {
+      sharedRequests.increment();
+      try {
+        return inFlight.join();
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        }
+        if (ex.getCause() instanceof Error) {
+          throw (Error) ex.getCause();
+        }
+        throw ex;
+      }
+    }
+
+    try {
+      WebRequestor.Response response = request.get();
+      flight.complete(response);
+      return response;
+    } catch (RuntimeException | Error ex) {
+      flight.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      flights.remove(key, flight);
+    }
+  }
+}
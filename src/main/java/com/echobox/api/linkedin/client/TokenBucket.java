@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket, implemented as the generic cell rate algorithm: the bucket only holds
+ * the theoretical arrival time of the next call, which each call pushes forward by the refill
+ * interval with a single compare-and-set. Calls are allowed while that time is no further ahead
+ * than the burst.
+ * @author Joanna
+ */
+class TokenBucket {
+
+  private final long intervalNanos;
+
+  private final long burstNanos;
+
+  private final AtomicLong theoreticalArrivalNanos;
+
+  /**
+   * Creates a full bucket
+   * @param limit the budget to enforce
+   * @param nowNanos the current {@link System#nanoTime()}
+   */
+  TokenBucket(RateLimit limit, long nowNanos) {
+    this.intervalNanos = limit.getIntervalNanos();
+    this.burstNanos = intervalNanos * limit.getBurst();
+    this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * Take a permit, reserving a future one if the bucket is empty and it will be refilled within
+   * {@code maxWaitNanos}
+   * @param nowNanos the current {@link System#nanoTime()}
+   * @param maxWaitNanos the longest the caller is willing to wait for a permit
+   * @return how long to wait before using the permit, or, if no permit was taken, minus how long
+   *          it would have been
+   */
+  long reserve(long nowNanos, long maxWaitNanos) {
+    while (true) {
+      long current = theoreticalArrivalNanos.get();
+      long next = Math.max(current, nowNanos) + intervalNanos;
+      long waitNanos = next - nowNanos - burstNanos;
+      if (waitNanos > maxWaitNanos) {
+        return -waitNanos;
+      }
+      if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+        return Math.max(0, waitNanos);
+      }
+    }
+  }
+
+  /**
+   * Return a permit taken by {@link #reserve(long, long)} that was not used
+   */
+  void cancel() {
+    theoreticalArrivalNanos.addAndGet(-intervalNanos);
+  }
+
+  /**
+   * Whether the bucket has not been used for longer than it takes to refill it, in which case it
+   * is full and can be replaced by a new bucket
+   * @param nowNanos the current {@link System#nanoTime()}
+   * @return whether the bucket is idle
+   */
+  boolean isIdle(long nowNanos) {
+    return nowNanos - theoreticalArrivalNanos.get() > burstNanos;
+  }
+}
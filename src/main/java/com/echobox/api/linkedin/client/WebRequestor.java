@@ -28,6 +28,8 @@ import static java.lang.String.format;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -45,14 +47,27 @@ public interface WebRequestor {
     /**
      * HTTP response status code (e.g. 200).
      */
-    private Integer statusCode;
+    private final Integer statusCode;
 
     /**
-     * HTTP response body as text.
+     * HTTP response body as received, encoded on first use if the response was created from text.
      */
-    private String body;
+    private volatile byte[] bodyBytes;
+
+    /**
+     * HTTP response body as text, decoded on first use if the response was created from bytes.
+     */
+    private volatile String body;
     
-    private Map<String, String> headers;
+    /**
+     * HTTP response headers, keyed by lower case header name.
+     */
+    private final Map<String, String> headers;
+    
+    /**
+     * LinkedIn debug information parsed from the response headers.
+     */
+    private final DebugHeaderInfo debugHeaderInfo;
 
     /**
      * Creates a response with the given HTTP status code and response body as text.
@@ -60,14 +75,39 @@ public interface WebRequestor {
      * @param statusCode
      *          The HTTP status code of the response.
      * @param headers
-     *          The headers from the response
+     *          The headers from the response, keyed by lower case header name
      * @param body
      *          The response body as text.
      */
     public Response(Integer statusCode, Map<String, String> headers, String body) {
       this.statusCode = statusCode;
-      this.headers = headers;
+      this.headers = headers == null ? Collections.emptyMap() : headers;
       this.body = StringUtils.trimToEmpty(body);
+      this.debugHeaderInfo = DebugHeaderInfo.fromHeaders(this.headers);
+    }
+
+    private Response(Integer statusCode, Map<String, String> headers, byte[] bodyBytes) {
+      this.statusCode = statusCode;
+      this.headers = headers == null ? Collections.emptyMap() : headers;
+      this.bodyBytes = bodyBytes == null ? new byte[0] : bodyBytes;
+      this.debugHeaderInfo = DebugHeaderInfo.fromHeaders(this.headers);
+    }
+
+    /**
+     * Creates a response with the given HTTP status code and raw UTF-8 response body. The body is
+     * only decoded to text if {@link #getBody()} is called.
+     *
+     * @param statusCode
+     *          The HTTP status code of the response.
+     * @param headers
+     *          The headers from the response, keyed by lower case header name
+     * @param bodyBytes
+     *          The response body as received.
+     * @return the response
+     */
+    public static Response fromBytes(Integer statusCode, Map<String, String> headers,
+        byte[] bodyBytes) {
+      return new Response(statusCode, headers, bodyBytes);
     }
 
     /**
@@ -85,12 +125,47 @@ public interface WebRequestor {
      * @return The HTTP response body as text.
      */
     public String getBody() {
-      return body;
+      String decodedBody = body;
+      if (decodedBody == null) {
+        decodedBody = StringUtils.trimToEmpty(new String(bodyBytes, StandardCharsets.UTF_8));
+        body = decodedBody;
+      }
+      return decodedBody;
+    }
+
+    /**
+     * Gets the HTTP response body without decoding it. The returned array must not be modified.
+     *
+     * @return The HTTP response body as UTF-8 bytes.
+     */
+    public byte[] getBodyBytes() {
+      byte[] encodedBody = bodyBytes;
+      if (encodedBody == null) {
+        encodedBody = body.getBytes(StandardCharsets.UTF_8);
+        bodyBytes = encodedBody;
+      }
+      return encodedBody;
     }
     
+    /**
+     * Gets the headers of this response.
+     *
+     * @return The HTTP response headers, keyed by lower case header name.
+     */
     public Map<String, String> getHeaders() {
       return headers;
     }
+    
+    /**
+     * Gets the LinkedIn debug header information of this response. Unlike
+     * {@link WebRequestor#getDebugHeaderInfo()} this always belongs to this response, even when
+     * the web requestor is shared between threads.
+     *
+     * @return container with the explained LinkedIn debug header information
+     */
+    public DebugHeaderInfo getDebugHeaderInfo() {
+      return debugHeaderInfo;
+    }
 
     /**
      * @see java.lang.Object#toString()
@@ -198,9 +273,14 @@ public interface WebRequestor {
   Response executeDelete(String url, Map<String, String> headers) throws IOException;
   
   /**
-   * Provides access to the LinkedIn header information.
+   * Provides access to the LinkedIn header information of the most recent response received by
+   * this requestor. When the requestor is shared between threads the most recent response may
+   * belong to another thread's request.
    * 
    * @return container with the explained LinkedIn debug header information
+   * @deprecated use {@link Response#getDebugHeaderInfo()}, which is always accurate for the
+   *             request that produced it
    */
+  @Deprecated
   DebugHeaderInfo getDebugHeaderInfo();
 }
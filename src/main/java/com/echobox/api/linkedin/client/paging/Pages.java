@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client.paging;
+
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * The previous and next page URLs discovered in a page of a connection. Pages are immutable, so
+ * a paging strategy can be shared by every thread building connections.
+ * @author Joanna
+ */
+@Getter
+public final class Pages {
+
+  /**
+   * Pages of a connection that has neither a previous nor a next page
+   */
+  public static final Pages NONE = new Pages(null, null);
+
+  /**
+   * The index of the first element of the page, or {@code null} if it is unknown
+   */
+  private final Integer start;
+
+  /**
+   * The number of elements requested for each page, or {@code null} if it is unknown
+   */
+  private final Integer count;
+
+  /**
+   * The total number of elements of the connection, or {@code null} if LinkedIn did not return it
+   */
+  private final Integer total;
+
+  /**
+   * The previous page URL, or {@code null} if there is no previous page
+   */
+  private final String previousPageUrl;
+
+  /**
+   * The next page URL, or {@code null} if there is no next page
+   */
+  private final String nextPageUrl;
+
+  /**
+   * Creates the pages of a connection
+   * @param previousPageUrl the previous page URL, or {@code null}
+   * @param nextPageUrl the next page URL, or {@code null}
+   */
+  public Pages(String previousPageUrl, String nextPageUrl) {
+    this(previousPageUrl, nextPageUrl, null, null, null);
+  }
+
+  /**
+   * Creates the pages of a connection whose offsets are known
+   * @param previousPageUrl the previous page URL, or {@code null}
+   * @param nextPageUrl the next page URL, or {@code null}
+   * @param start the index of the first element of the page, or {@code null}
+   * @param count the number of elements requested for each page, or {@code null}
+   * @param total the total number of elements, or {@code null}
+   */
+  public Pages(String previousPageUrl, String nextPageUrl, Integer start, Integer count,
+      Integer total) {
+    this.previousPageUrl = previousPageUrl;
+    this.nextPageUrl = nextPageUrl;
+    this.start = start;
+    this.count = count;
+    this.total = total;
+  }
+
+  @Override
+  public String toString() {
+    return "Pages[previousPageUrl=" + previousPageUrl + ", nextPageUrl=" + nextPageUrl
+        + ", start=" + start + ", count=" + count + ", total=" + total + "]";
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof Pages)) {
+      return false;
+    }
+    Pages other = (Pages) object;
+    return Objects.equals(previousPageUrl, other.previousPageUrl)
+        && Objects.equals(nextPageUrl, other.nextPageUrl) && Objects.equals(start, other.start)
+        && Objects.equals(count, other.count) && Objects.equals(total, other.total);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(previousPageUrl, nextPageUrl, start, count, total);
+  }
+}
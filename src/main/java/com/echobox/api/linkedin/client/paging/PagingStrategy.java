@@ -17,45 +17,33 @@
 
 package com.echobox.api.linkedin.client.paging;
 
-import com.echobox.api.linkedin.util.URLUtils;
 import com.eclipsesource.json.JsonObject;
-import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 
 /**
- * Discover and build the previous and next page URL if paging is available in the JSON object
+ * Discover and build the previous and next page URL if paging is available in the JSON object.
+ * Strategies hold no state of their own, so a single strategy is shared by every thread building
+ * connections.
  * @author Joanna
  *
  */
 public abstract class PagingStrategy {
 
-  /**
-   * The previous page URL
-   */
-  @Getter
-  protected String previousPageUrl;
+  private static final String START = "start";
 
-  /**
-   * The next page URL
-   */
-  @Getter
-  protected String nextPageUrl;
+  private static final String COUNT = "count";
 
   /**
    * Discover the paging URLs for the given JSON object and build it for the full endpoint
    * @param jsonObject The JSON object to discover the paging
    * @param fullEndpoint The full endpoint to build the next page URL
+   * @return the previous and next page URLs
    */
-  public void populatePages(JsonObject jsonObject, String fullEndpoint) {
+  public Pages populatePages(JsonObject jsonObject, String fullEndpoint) {
     if (StringUtils.isBlank(fullEndpoint)) {
       throw new IllegalStateException("The fullEndpoint cannot be blank to discover pages.");
     }
-    if (jsonObject == null) {
-      previousPageUrl = null;
-      nextPageUrl = null;
-    } else {
-      discoverPages(jsonObject, fullEndpoint);
-    }
+    return jsonObject == null ? Pages.NONE : discoverPages(jsonObject, fullEndpoint);
   }
   
   /**
@@ -69,42 +57,124 @@ public abstract class PagingStrategy {
    *
    * @param jsonObject   The JSON object to discover the paging
    * @param fullEndpoint The full endpoint to build the next page URL
+   * @return the previous and next page URLs
    */
-  protected abstract void discoverPages(JsonObject jsonObject, String fullEndpoint);
+  protected abstract Pages discoverPages(JsonObject jsonObject, String fullEndpoint);
 
   /**
-   * Sets next page url.
+   * Create the next page url.
    *
    * @param fullEndpoint The full endpoint to build the next page URL
    * @param start        The index of the first item you want results for
    * @param count        The number of items needed to be included on each page of results.
+   * @return the next page URL
    */
-  protected void setNextPageURL(String fullEndpoint, int start, int count) {
-    nextPageUrl = createPagedURL(fullEndpoint, start + count, count);
+  protected String createNextPageURL(String fullEndpoint, int start, int count) {
+    return createPagedURL(fullEndpoint, start + count, count);
   }
 
   /**
-   * Sets previous page url.
+   * Create the previous page url.
    *
    * @param fullEndpoint The full endpoint
    * @param start        The index of the first item you want results for
    * @param count        The number of items needed to be included on each page of results.
+   * @return the previous page URL, or {@code null} if there is no previous page
    */
-  protected void setPreviousPageURL(String fullEndpoint, int start, int count) {
-    if (start > 0) {
-      // There's a previous page
-      previousPageUrl = createPagedURL(fullEndpoint, start - count, count);
-    } else {
-      previousPageUrl = null;
+  protected String createPreviousPageURL(String fullEndpoint, int start, int count) {
+    // There's a previous page if this page does not start at the beginning
+    return start > 0 ? createPagedURL(fullEndpoint, start - count, count) : null;
+  }
+
+  /**
+   * Create the URL of the page of a connection starting at the given offset
+   *
+   * @param fullEndpoint The full endpoint of any page of the connection
+   * @param start        The index of the first item you want results for
+   * @param count        The number of items needed to be included on each page of results.
+   * @return the page URL
+   */
+  public String createPageURL(String fullEndpoint, int start, int count) {
+    return createPagedURL(fullEndpoint, start, count);
+  }
+
+  /**
+   * Get the first value of a query parameter of a URL as it appears in the URL, without
+   * splitting the whole query string
+   *
+   * @param url  The URL
+   * @param name The name of the query parameter
+   * @return the value, or {@code null} if the URL does not have the query parameter
+   */
+  protected static String getQueryParameter(String url, String name) {
+    int query = url.indexOf('?');
+    if (query < 0) {
+      return null;
     }
+    int end = url.indexOf('#', query);
+    end = end < 0 ? url.length() : end;
+    int parameter = query + 1;
+    while (parameter < end) {
+      int next = url.indexOf('&', parameter);
+      next = next < 0 || next > end ? end : next;
+      if (isParameter(url, parameter, next, name)) {
+        return url.substring(parameter + name.length() + 1, next);
+      }
+      parameter = next + 1;
+    }
+    return null;
   }
-  
-  private String createPagedURL(String fullEndpoint, int start, int count) {
-    fullEndpoint = URLUtils.replaceOrAddQueryParameter(fullEndpoint, "start",
-        Integer.toString(start));
-    fullEndpoint = URLUtils.replaceOrAddQueryParameter(fullEndpoint, "count",
-        Integer.toString(count));
-    return fullEndpoint;
+
+  /**
+   * Set the start and count query parameters of a URL in a single pass, replacing them if they
+   * are already present and appending them otherwise
+   *
+   * @param fullEndpoint The full endpoint
+   * @param start        The index of the first item you want results for
+   * @param count        The number of items needed to be included on each page of results.
+   * @return the paged URL
+   */
+  static String createPagedURL(String fullEndpoint, int start, int count) {
+    int query = fullEndpoint.indexOf('?');
+    StringBuilder url = new StringBuilder(fullEndpoint.length() + 24);
+    boolean hasStart = false;
+    boolean hasCount = false;
+    if (query < 0) {
+      url.append(fullEndpoint);
+    } else {
+      url.append(fullEndpoint, 0, query);
+      char separator = '?';
+      int parameter = query + 1;
+      while (parameter <= fullEndpoint.length()) {
+        int next = fullEndpoint.indexOf('&', parameter);
+        next = next < 0 ? fullEndpoint.length() : next;
+        if (next > parameter) {
+          url.append(separator);
+          separator = '&';
+          if (isParameter(fullEndpoint, parameter, next, START)) {
+            url.append(START).append('=').append(start);
+            hasStart = true;
+          } else if (isParameter(fullEndpoint, parameter, next, COUNT)) {
+            url.append(COUNT).append('=').append(count);
+            hasCount = true;
+          } else {
+            url.append(fullEndpoint, parameter, next);
+          }
+        }
+        parameter = next + 1;
+      }
+    }
+    if (!hasStart) {
+      url.append(url.indexOf("?") < 0 ? '?' : '&').append(START).append('=').append(start);
+    }
+    if (!hasCount) {
+      url.append('&').append(COUNT).append('=').append(count);
+    }
+    return url.toString();
   }
 
+  private static boolean isParameter(String url, int parameter, int next, String name) {
+    return next - parameter > name.length() && url.charAt(parameter + name.length()) == '='
+        && url.startsWith(name, parameter);
+  }
 }
@@ -17,13 +17,9 @@
 
 package com.echobox.api.linkedin.client.paging;
 
-import com.echobox.api.linkedin.util.URLUtils;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 
-import java.util.List;
-import java.util.Map;
-
 /**
  * The paging strategy for V1 JSON responses
  * @author Joanna
@@ -39,52 +35,40 @@ public class V2PagingImpl extends PagingStrategy {
   }
 
   @Override
-  protected void discoverPages(JsonObject jsonObject, String fullEndpoint) {
-    if (jsonObject.get(DATA_KEY) != null) {
-      JsonArray elements = jsonObject.get(DATA_KEY).asArray();
-
-      // Pull out paging info, if present
-      if (jsonObject.get("paging") != null) {
-        JsonObject jsonPaging = jsonObject.get("paging").asObject();
+  protected Pages discoverPages(JsonObject jsonObject, String fullEndpoint) {
+    if (jsonObject.get(DATA_KEY) == null || jsonObject.get("paging") == null) {
+      return Pages.NONE;
+    }
+    JsonArray elements = jsonObject.get(DATA_KEY).asArray();
 
-        if (jsonPaging.get("count") != null && jsonPaging.get("start") != null) {
-          int count = jsonPaging.getInt("count", 0);
-          int start = jsonPaging.getInt("start", 0);
-          // You will know that you have reached the end of the dataset when your response
-          // contains less elements in the entities block of the response than your count
-          // parameter requested.
-          Map<String, List<String>> extractParametersFromUrl =
-              URLUtils.extractParametersFromUrl(fullEndpoint);
-          if (extractParametersFromUrl.containsKey("count")) {
-            // Check if the count is less than the elements returned - if so we're at the last page
-            int requestedCount = Integer.parseInt(extractParametersFromUrl.get("count").get(0));
-            if (elements.size() < requestedCount) {
-              nextPageUrl = null;
-              setPreviousPageURL(fullEndpoint, start, count);
-              return;
-            }
-          } else {
-            // No explicit count was requested, check if there are no more datapoints
-            if (elements.size() != count) {
-              nextPageUrl = null;
-              setPreviousPageURL(fullEndpoint, start, count);
-              return;
-            }
-          }
-  
-          // Paging is available
-          setNextPageURL(fullEndpoint, start, count);
-          setPreviousPageURL(fullEndpoint, start, count);
-        }
+    // Pull out paging info, if present
+    JsonObject jsonPaging = jsonObject.get("paging").asObject();
+    if (jsonPaging.get("count") == null || jsonPaging.get("start") == null) {
+      return Pages.NONE;
+    }
+    int count = jsonPaging.getInt("count", 0);
+    int start = jsonPaging.getInt("start", 0);
+    Integer total = jsonPaging.get("total") == null || jsonPaging.get("total").isNull() ? null
+        : jsonPaging.getInt("total", 0);
+    String previousPageUrl = createPreviousPageURL(fullEndpoint, start, count);
 
-      } else {
-        previousPageUrl = null;
-        nextPageUrl = null;
+    // You will know that you have reached the end of the dataset when your response
+    // contains less elements in the entities block of the response than your count
+    // parameter requested.
+    String requestedCount = getQueryParameter(fullEndpoint, "count");
+    if (requestedCount != null) {
+      // Check if the count is less than the elements returned - if so we're at the last page
+      if (elements.size() < Integer.parseInt(requestedCount)) {
+        return new Pages(previousPageUrl, null, start, count, total);
       }
-    } else {
-      previousPageUrl = null;
-      nextPageUrl = null;
+    } else if (elements.size() != count) {
+      // No explicit count was requested, check if there are no more datapoints
+      return new Pages(previousPageUrl, null, start, count, total);
     }
+
+    // Paging is available
+    return new Pages(previousPageUrl, createNextPageURL(fullEndpoint, start, count), start,
+        count, total);
   }
 
 }
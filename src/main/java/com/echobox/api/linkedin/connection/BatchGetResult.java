@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.exception.LinkedInException;
+import com.echobox.api.linkedin.types.urn.URN;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The outcome of a Rest.li {@code BATCH_GET}: the entity of each URN that was found and the
+ * error of each URN that was not. Every requested URN is in exactly one of the two maps, so one
+ * failing key, or one failing request when the URNs were split into several requests, does not
+ * fail the others.
+ * @param <T> the type of entity
+ * @author Joanna
+ */
+public class BatchGetResult<T> {
+
+  private final Map<URN, T> results = new LinkedHashMap<>();
+
+  private final Map<URN, LinkedInException> errors = new LinkedHashMap<>();
+
+  /**
+   * Record the entity of a URN
+   * @param urn the URN
+   * @param result the entity
+   */
+  void addResult(URN urn, T result) {
+    results.put(urn, result);
+  }
+
+  /**
+   * Record why the entity of a URN could not be retrieved
+   * @param urn the URN
+   * @param error the error
+   */
+  void addError(URN urn, LinkedInException error) {
+    errors.put(urn, error);
+  }
+
+  /**
+   * Gets the entities that were retrieved
+   * @return the entities by URN, in the order they were requested
+   */
+  public Map<URN, T> getResults() {
+    return Collections.unmodifiableMap(results);
+  }
+
+  /**
+   * Gets the errors of the URNs whose entity could not be retrieved
+   * @return the errors by URN
+   */
+  public Map<URN, LinkedInException> getErrors() {
+    return Collections.unmodifiableMap(errors);
+  }
+
+  /**
+   * Whether the entity of every URN was retrieved
+   * @return true if there are no errors
+   */
+  public boolean isSuccessful() {
+    return errors.isEmpty();
+  }
+
+  /**
+   * Gets the entity of a URN, throwing its error if it could not be retrieved
+   * @param urn the URN
+   * @return the entity, or {@code null} if the URN was not requested
+   * @throws LinkedInException the error of the URN
+   */
+  public T get(URN urn) {
+    LinkedInException error = errors.get(urn);
+    if (error != null) {
+      throw error;
+    }
+    return results.get(urn);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.client.Parameter;
+import com.echobox.api.linkedin.types.organization.Organization;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.util.ValidationUtils;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Looks up organizations one at a time, as with
+ * {@link OrganizationConnection#retrieveOrganization(URN, Parameter)}, but combines lookups made
+ * at about the same time into a single {@link OrganizationConnection#retrieveOrganizations
+ * BATCH_GET}. Each lookup completes with its own organization, or with its own error.
+ * <p>
+ * Close the connection once it is no longer needed to stop its threads.
+ * @author Joanna
+ */
+public class BatchingOrganizationConnection implements AutoCloseable {
+
+  private final MicroBatcher<Optional<Parameter>, Organization> batcher;
+
+  /**
+   * Creates a batching connection
+   * @param organizationConnection the connection batches are sent with
+   * @param config the batch window and maximum batch size
+   */
+  public BatchingOrganizationConnection(OrganizationConnection organizationConnection,
+      MicroBatchConfig config) {
+    ValidationUtils.verifyParameterPresence("organizationConnection", organizationConnection);
+    this.batcher = new MicroBatcher<>(config, (fields, urns) ->
+        organizationConnection.retrieveOrganizations(urns, fields.orElse(null)));
+  }
+
+  /**
+   * Look up an organization in the next batch
+   * @param organizationURN the organization URN
+   * @param fields the fields to project, lookups are only batched with lookups of the same
+   *          fields
+   * @return a future that completes with the organization
+   */
+  public CompletableFuture<Organization> retrieveOrganization(URN organizationURN,
+      Parameter fields) {
+    return batcher.get(Optional.ofNullable(fields), organizationURN);
+  }
+
+  /**
+   * Gets the metrics of the batches sent
+   * @return the metrics
+   */
+  public MicroBatchMetrics getMetrics() {
+    return batcher.getMetrics();
+  }
+
+  /**
+   * Send the lookups that are waiting and stop the threads of the connection. Lookups made after
+   * it is closed fail straight away.
+   */
+  @Override
+  public void close() {
+    batcher.close();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.types.posts.Post;
+import com.echobox.api.linkedin.types.posts.ViewContext;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.util.ValidationUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Looks up posts one at a time, as with {@link PostConnection#retrievePost(URN, ViewContext)},
+ * but combines lookups made at about the same time into a single
+ * {@link PostConnection#retrievePosts BATCH_GET}. Each lookup completes with its own post, or
+ * with its own error.
+ * <p>
+ * Close the connection once it is no longer needed to stop its threads.
+ * @author Joanna
+ */
+public class BatchingPostConnection implements AutoCloseable {
+
+  private final MicroBatcher<ViewContext, Post> batcher;
+
+  /**
+   * Creates a batching connection
+   * @param postConnection the connection batches are sent with
+   * @param config the batch window and maximum batch size
+   */
+  public BatchingPostConnection(PostConnection postConnection, MicroBatchConfig config) {
+    ValidationUtils.verifyParameterPresence("postConnection", postConnection);
+    this.batcher = new MicroBatcher<>(config,
+        (viewContext, urns) -> postConnection.retrievePosts(urns, viewContext));
+  }
+
+  /**
+   * Look up a post in the next batch
+   * @param postURN the share or ugcPost URN of the post
+   * @param viewContext the view context, lookups are only batched with lookups of the same view
+   *          context
+   * @return a future that completes with the post
+   */
+  public CompletableFuture<Post> retrievePost(URN postURN, ViewContext viewContext) {
+    ValidationUtils.verifyParameterPresence("viewContext", viewContext);
+    return batcher.get(viewContext, postURN);
+  }
+
+  /**
+   * Gets the metrics of the batches sent
+   * @return the metrics
+   */
+  public MicroBatchMetrics getMetrics() {
+    return batcher.getMetrics();
+  }
+
+  /**
+   * Send the lookups that are waiting and stop the threads of the connection
+   */
+  @Override
+  public void close() {
+    batcher.close();
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.client.LinkedInClient;
+import com.echobox.api.linkedin.client.Parameter;
+import com.echobox.api.linkedin.types.organization.AccessControl;
+import com.echobox.api.linkedin.types.organization.Organization;
+import com.echobox.api.linkedin.types.organization.OrganizationBrand;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.util.ValidationUtils;
+import com.eclipsesource.json.JsonObject;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An {@link OrganizationConnection} that keeps organizations, organization brands, access
+ * controls and follower counts in an {@link ObjectCache}, so they are only requested again once
+ * they are stale. Every other method is sent as it would be by the organization connection.
+ * <p>
+ * Organizations, brands and access controls depend on the access token, e.g. only administrators
+ * are sent some organization fields, so they are only shared by connections using the same
+ * client. Follower counts are shared by every connection using the same cache. The responses are
+ * cached as JSON and mapped again for every call, so callers can modify what they are returned
+ * without changing what other callers get. The TTL of each is configured by its resource:
+ * {@code /organizations}, {@code /organizationBrands}, {@code /organizationAcls} and
+ * {@code /networkSizes}.
+ * @author Joanna
+ */
+public class CachingOrganizationConnection extends OrganizationConnection {
+
+  /**
+   * The resource organizations are cached under
+   */
+  public static final String ORGANIZATIONS_RESOURCE = "/organizations";
+
+  /**
+   * The resource organization brands are cached under
+   */
+  public static final String ORGANIZATION_BRANDS_RESOURCE = "/organizationBrands";
+
+  /**
+   * The resource access controls are cached under
+   */
+  public static final String ORGANIZATION_ACLS_RESOURCE = "/organizationAcls";
+
+  /**
+   * The resource follower counts are cached under
+   */
+  public static final String NETWORK_SIZES_RESOURCE = "/networkSizes";
+
+  private final ObjectCache cache;
+
+  /**
+   * Creates a caching organization connection
+   * @param linkedinClient the LinkedIn client
+   * @param cache the cache, which can be shared with other connections
+   */
+  public CachingOrganizationConnection(LinkedInClient linkedinClient, ObjectCache cache) {
+    super(linkedinClient);
+    ValidationUtils.verifyParameterPresence("cache", cache);
+    this.cache = cache;
+  }
+
+  /**
+   * Gets the cache values are kept in, e.g. to read its hit rate
+   * @return the cache
+   */
+  public ObjectCache getCache() {
+    return cache;
+  }
+
+  @Override
+  public Organization retrieveOrganization(URN organizationURN, Parameter fields) {
+    String json = cache.get(ORGANIZATIONS_RESOURCE,
+        Arrays.asList(linkedinClient, organizationURN, fields),
+        () -> toJson(super.retrieveOrganization(organizationURN, fields, JsonObject.class)));
+    return toJavaObject(json, Organization.class);
+  }
+
+  @Override
+  public OrganizationBrand retrieveOrganizationBrand(URN organizationBrandURN, Parameter fields) {
+    String json = cache.get(ORGANIZATION_BRANDS_RESOURCE,
+        Arrays.asList(linkedinClient, organizationBrandURN, fields),
+        () -> toJson(super.retrieveOrganizationBrand(organizationBrandURN, fields,
+            JsonObject.class)));
+    return toJavaObject(json, OrganizationBrand.class);
+  }
+
+  @Override
+  public List<OrganizationBrand> retrieveOrganizationBrandByParentOrganization(
+      URN organizationURN) {
+    List<String> json = cache.get(ORGANIZATION_BRANDS_RESOURCE,
+        Arrays.asList(linkedinClient, organizationURN),
+        () -> toJson(super.streamOrganizationBrandByParentOrganization(organizationURN,
+            JsonObject.class)));
+    return toJavaList(json, OrganizationBrand.class);
+  }
+
+  @Override
+  public List<AccessControl> retrieveMemberOrganizationAccessControl(String role, String state,
+      Integer count) {
+    List<String> json = cache.get(ORGANIZATION_ACLS_RESOURCE,
+        Arrays.asList(linkedinClient, role, state),
+        () -> toJson(super.streamMemberOrganizationAccessControl(role, state, count,
+            JsonObject.class)));
+    return toJavaList(json, AccessControl.class);
+  }
+
+  @Override
+  public List<AccessControl> findOrganizationAccessControl(URN organizationURN, String role,
+      String state, Integer count) {
+    List<String> json = cache.get(ORGANIZATION_ACLS_RESOURCE,
+        Arrays.asList(linkedinClient, organizationURN, role, state),
+        () -> toJson(super.streamOrganizationAccessControl(organizationURN, role, state, count,
+            JsonObject.class)));
+    return toJavaList(json, AccessControl.class);
+  }
+
+  @Override
+  public Long retrieveOrganizationFollowerCount(URN organizationURN) {
+    return cache.get(NETWORK_SIZES_RESOURCE, organizationURN,
+        () -> super.retrieveOrganizationFollowerCount(organizationURN));
+  }
+
+  private static String toJson(JsonObject jsonObject) {
+    return jsonObject == null ? null : jsonObject.toString();
+  }
+
+  private static List<String> toJson(Stream<JsonObject> jsonObjects) {
+    return Collections.unmodifiableList(
+        jsonObjects.map(JsonObject::toString).collect(Collectors.toList()));
+  }
+
+  private <T> T toJavaObject(String json, Class<T> type) {
+    return json == null ? null : linkedinClient.getJsonMapper().toJavaObject(json, type);
+  }
+
+  private <T> List<T> toJavaList(List<String> json, Class<T> type) {
+    return json.stream().map(element -> toJavaObject(element, type))
+        .collect(Collectors.toList());
+  }
+}
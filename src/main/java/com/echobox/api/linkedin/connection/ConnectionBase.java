@@ -20,13 +20,26 @@ package com.echobox.api.linkedin.connection;
 import com.echobox.api.linkedin.client.Connection;
 import com.echobox.api.linkedin.client.LinkedInClient;
 import com.echobox.api.linkedin.client.Parameter;
+import com.echobox.api.linkedin.exception.LinkedInException;
 import com.echobox.api.linkedin.types.urn.URN;
 import com.echobox.api.linkedin.types.urn.URNEntityType;
+import com.echobox.api.linkedin.util.URLUtils;
 import com.echobox.api.linkedin.util.ValidationUtils;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import org.apache.http.HttpStatus;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The connection base class
@@ -35,6 +48,29 @@ import java.util.List;
  */
 public abstract class ConnectionBase {
 
+  /**
+   * The most keys requested in a single Rest.li {@code BATCH_GET}
+   */
+  protected static final int MAX_BATCH_GET_SIZE = 100;
+
+  /**
+   * The longest request URL sent for a Rest.li {@code BATCH_GET}, well within what LinkedIn
+   * accepts once the host and version are added
+   */
+  protected static final int MAX_BATCH_GET_URL_LENGTH = 4000;
+
+  private static final String BATCH_RESULTS = "results";
+
+  private static final String BATCH_STATUSES = "statuses";
+
+  private static final String BATCH_ERRORS = "errors";
+
+  private static final String BATCH_ERROR_STATUS = "status";
+
+  private static final String BATCH_ERROR_CODE = "serviceErrorCode";
+
+  private static final String BATCH_ERROR_MESSAGE = "message";
+
   /**
    * The LinkedIn client.
    */
@@ -74,6 +110,122 @@ public abstract class ConnectionBase {
     return resultList;
   }
 
+  /**
+   * Stream the results of a query lazily: the first page is only fetched once the stream is
+   * consumed, and each following page once the elements of the page before it have been
+   * consumed.
+   *
+   * @param <T>            the type parameter
+   * @param object         The name of the connection
+   * @param connectionType the connection type
+   * @param parameters     URL parameters to include in the API call
+   * @return the stream of results
+   */
+  protected <T> Stream<T> getStreamFromQuery(String object, Class<T> connectionType,
+      Parameter... parameters) {
+    return StreamSupport.stream(() -> linkedinClient.fetchConnection(object, connectionType,
+        parameters).stream().spliterator(), Spliterator.ORDERED, false);
+  }
+
+  /**
+   * Retrieve the entities of several URNs with Rest.li {@code BATCH_GET} requests, i.e.
+   * {@code GET endpoint?ids=List(key1,key2)}. The URNs are split into as many requests as it
+   * takes to keep each within {@link #MAX_BATCH_GET_SIZE} keys and
+   * {@link #MAX_BATCH_GET_URL_LENGTH} characters.
+   *
+   * @param <T>        the type of entity
+   * @param endpoint   the endpoint of the collection, e.g. {@code /posts}
+   * @param urns       the URNs of the entities
+   * @param keyMapper  maps a URN to its key in the collection, as LinkedIn returns it
+   * @param type       the type of entity
+   * @param parameters URL parameters to include in each request
+   * @return the entity or error of each URN
+   */
+  protected <T> BatchGetResult<T> batchGet(String endpoint, Collection<URN> urns,
+      Function<URN, String> keyMapper, Class<T> type, Parameter... parameters) {
+    ValidationUtils.verifyParameterPresence("urns", urns);
+    Map<String, URN> urnsByKey = new LinkedHashMap<>();
+    for (URN urn : urns) {
+      ValidationUtils.verifyParameterPresence("urn", urn);
+      urnsByKey.putIfAbsent(keyMapper.apply(urn), urn);
+    }
+    parameters = linkedinClient.withFieldProjection(type, parameters);
+
+    int fixedLength = endpoint.length() + "?ids=List()".length();
+    for (Parameter parameter : parameters) {
+      fixedLength += parameter.name.length() + URLUtils.urlEncode(parameter.value).length() + 2;
+    }
+
+    BatchGetResult<T> result = new BatchGetResult<>();
+    List<String> batch = new ArrayList<>();
+    int batchLength = fixedLength;
+    for (String key : urnsByKey.keySet()) {
+      String encodedKey = URLUtils.urlEncode(key);
+      if (!batch.isEmpty() && (batch.size() >= MAX_BATCH_GET_SIZE
+          || batchLength + encodedKey.length() + 1 > MAX_BATCH_GET_URL_LENGTH)) {
+        sendBatchGet(endpoint, batch, urnsByKey, type, result, parameters);
+        batch.clear();
+        batchLength = fixedLength;
+      }
+      batch.add(key);
+      batchLength += encodedKey.length() + 1;
+    }
+    if (!batch.isEmpty()) {
+      sendBatchGet(endpoint, batch, urnsByKey, type, result, parameters);
+    }
+    return result;
+  }
+
+  private <T> void sendBatchGet(String endpoint, List<String> keys, Map<String, URN> urnsByKey,
+      Class<T> type, BatchGetResult<T> result, Parameter... parameters) {
+    String ids = keys.stream().map(URLUtils::urlEncode).collect(Collectors.joining(","));
+    JsonObject response;
+    try {
+      response = linkedinClient.fetchObject(endpoint + "?ids=List(" + ids + ")",
+          JsonObject.class, parameters);
+    } catch (LinkedInException ex) {
+      keys.forEach(key -> result.addError(urnsByKey.get(key), ex));
+      return;
+    }
+
+    JsonObject results = getObject(response, BATCH_RESULTS);
+    JsonObject statuses = getObject(response, BATCH_STATUSES);
+    JsonObject errors = getObject(response, BATCH_ERRORS);
+    for (String key : keys) {
+      URN urn = urnsByKey.get(key);
+      JsonValue entity = results.get(key);
+      JsonValue error = errors.get(key);
+      if (entity != null && entity.isObject() && error == null) {
+        try {
+          result.addResult(urn, linkedinClient.getJsonMapper().toJavaObject(entity.toString(),
+              type));
+        } catch (LinkedInException ex) {
+          result.addError(urn, ex);
+        }
+      } else {
+        result.addError(urn, toBatchGetError(key, statuses.get(key), error));
+      }
+    }
+  }
+
+  private static JsonObject getObject(JsonObject json, String name) {
+    JsonValue value = json == null ? null : json.get(name);
+    return value != null && value.isObject() ? value.asObject() : new JsonObject();
+  }
+
+  private LinkedInException toBatchGetError(String key, JsonValue status, JsonValue error) {
+    JsonObject errorObject = error != null && error.isObject() ? error.asObject()
+        : new JsonObject();
+    JsonValue errorStatus = errorObject.get(BATCH_ERROR_STATUS);
+    Integer httpStatusCode = errorStatus != null && errorStatus.isNumber() ? errorStatus.asInt()
+        : status != null && status.isNumber() ? status.asInt() : HttpStatus.SC_NOT_FOUND;
+    JsonValue errorCode = errorObject.get(BATCH_ERROR_CODE);
+    return linkedinClient.getLinkedInExceptionMapper().exceptionForTypeAndMessage(
+        errorCode != null && errorCode.isNumber() ? errorCode.asInt() : null, httpStatusCode,
+        errorObject.getString(BATCH_ERROR_MESSAGE, "No entity returned for " + key), false,
+        errorObject);
+  }
+
   /**
    * Validate URN.
    *
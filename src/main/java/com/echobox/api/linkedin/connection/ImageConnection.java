@@ -32,6 +32,7 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -141,4 +142,15 @@ public class ImageConnection extends Connection {
     return linkedinClient.fetchObject(IMAGES + "/" + URLUtils.urlEncode(imageURN.toString()),
         ImageDetails.class);
   }
+
+  /**
+   * Retrieve the details of several images with Rest.li {@code BATCH_GET} requests, splitting the
+   * URNs into as many requests as needed
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/shares/images-api#batch-get-images">Batch Get Images</a>
+   * @param imageURNs the image URNs
+   * @return the image details or error of each URN
+   */
+  public BatchGetResult<ImageDetails> retrieveImageDetails(Collection<URN> imageURNs) {
+    return batchGet(IMAGES, imageURNs, URN::toString, ImageDetails.class);
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration of how concurrent single-entity lookups are combined into Rest.li
+ * {@code BATCH_GET} requests
+ * @author Joanna
+ */
+@Builder
+@Getter
+public class MicroBatchConfig {
+
+  /**
+   * How long the first lookup of a batch waits for other lookups to join it
+   */
+  @Builder.Default
+  private final Duration window = Duration.ofMillis(5);
+
+  /**
+   * The number of waiting lookups that sends a batch straight away
+   */
+  @Builder.Default
+  private final int maxBatchSize = 50;
+
+  /**
+   * The executor batches are sent on, {@code null} creates a thread pool that is shut down when
+   * the batching connection is closed
+   */
+  private final Executor executor;
+
+  /**
+   * Creates the default configuration
+   * @return the default configuration
+   */
+  public static MicroBatchConfig defaultConfig() {
+    return MicroBatchConfig.builder().build();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of how well concurrent lookups are being combined into batches
+ * @author Joanna
+ */
+public class MicroBatchMetrics {
+
+  private final int maxBatchSize;
+
+  private final LongAdder batches = new LongAdder();
+
+  private final LongAdder lookups = new LongAdder();
+
+  private final LongAdder fullBatches = new LongAdder();
+
+  /**
+   * Creates the metrics of a batcher
+   * @param maxBatchSize the maximum batch size of the batcher
+   */
+  MicroBatchMetrics(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Record that a batch was sent
+   * @param size the number of lookups in the batch
+   */
+  void recordBatch(int size) {
+    batches.increment();
+    lookups.add(size);
+    if (size >= maxBatchSize) {
+      fullBatches.increment();
+    }
+  }
+
+  /**
+   * The number of batches sent
+   * @return the number of batches
+   */
+  public long getBatches() {
+    return batches.sum();
+  }
+
+  /**
+   * The number of lookups sent in batches
+   * @return the number of lookups
+   */
+  public long getLookups() {
+    return lookups.sum();
+  }
+
+  /**
+   * The number of batches sent because they reached the maximum batch size rather than at the
+   * end of the window
+   * @return the number of full batches
+   */
+  public long getFullBatches() {
+    return fullBatches.sum();
+  }
+
+  /**
+   * How full batches are on average, from just above 0 when every lookup is sent on its own to 1
+   * when every batch reaches the maximum batch size
+   * @return the fill ratio, or 0 if no batch has been sent
+   */
+  public double getFillRatio() {
+    long batchCount = batches.sum();
+    return batchCount == 0 ? 0 : (double) lookups.sum() / (batchCount * maxBatchSize);
+  }
+}
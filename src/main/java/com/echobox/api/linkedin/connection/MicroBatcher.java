@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.util.ValidationUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Combines single-entity lookups made at about the same time into one Rest.li
+ * {@code BATCH_GET}. The first lookup of a batch opens a window, and the batch is sent when the
+ * window ends or as soon as it reaches the maximum batch size. Lookups are batched separately for
+ * each group, i.e. for each set of request parameters.
+ * @param <K> the type of group
+ * @param <T> the type of entity
+ * @author Joanna
+ */
+class MicroBatcher<K, T> implements AutoCloseable {
+
+  private final BiFunction<K, List<URN>, BatchGetResult<T>> loader;
+
+  private final long windowNanos;
+
+  private final int maxBatchSize;
+
+  private final Executor executor;
+
+  private final ExecutorService ownedExecutor;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final MicroBatchMetrics metrics;
+
+  private final Map<K, List<Lookup<T>>> pending = new HashMap<>();
+
+  private boolean closed;
+
+  /**
+   * Creates a batcher
+   * @param config the window and maximum batch size
+   * @param loader sends a batch of a group
+   */
+  MicroBatcher(MicroBatchConfig config, BiFunction<K, List<URN>, BatchGetResult<T>> loader) {
+    ValidationUtils.verifyParameterPresence("config", config);
+    if (config.getMaxBatchSize() < 1
+        || config.getMaxBatchSize() > ConnectionBase.MAX_BATCH_GET_SIZE) {
+      throw new IllegalArgumentException("maxBatchSize must be between 1 and "
+          + ConnectionBase.MAX_BATCH_GET_SIZE);
+    }
+    this.loader = loader;
+    this.windowNanos = config.getWindow().toNanos();
+    this.maxBatchSize = config.getMaxBatchSize();
+    this.ownedExecutor = config.getExecutor() == null
+        ? Executors.newCachedThreadPool(MicroBatcher::newBatchThread) : null;
+    this.executor = ownedExecutor != null ? ownedExecutor : config.getExecutor();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(MicroBatcher::newBatchThread);
+    this.metrics = new MicroBatchMetrics(maxBatchSize);
+  }
+
+  private static Thread newBatchThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "linkedin-micro-batch");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Gets the metrics of the batches sent
+   * @return the metrics
+   */
+  MicroBatchMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Look up the entity of a URN in the next batch of its group
+   * @param group the group
+   * @param urn the URN
+   * @return a future that completes with the entity, or with the error of the URN. It fails
+   *          with an {@link IllegalStateException} if the batcher is closed.
+   */
+  CompletableFuture<T> get(K group, URN urn) {
+    ValidationUtils.verifyParameterPresence("urn", urn);
+    Lookup<T> lookup = new Lookup<>(urn);
+    List<Lookup<T>> fullBatch = null;
+    synchronized (pending) {
+      if (closed) {
+        lookup.future.completeExceptionally(
+            new IllegalStateException("The micro-batcher is closed"));
+        return lookup.future;
+      }
+      List<Lookup<T>> batch = pending.computeIfAbsent(group, ignored -> new ArrayList<>());
+      batch.add(lookup);
+      if (batch.size() >= maxBatchSize) {
+        fullBatch = pending.remove(group);
+      } else if (batch.size() == 1) {
+        scheduler.schedule(() -> flush(group, batch), windowNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+    if (fullBatch != null) {
+      send(group, fullBatch);
+    }
+    return lookup.future;
+  }
+
+  private void flush(K group, List<Lookup<T>> batch) {
+    synchronized (pending) {
+      // The batch may already have been sent because it filled up
+      if (!pending.remove(group, batch)) {
+        return;
+      }
+    }
+    send(group, batch);
+  }
+
+  private void send(K group, List<Lookup<T>> batch) {
+    metrics.recordBatch(batch.size());
+    try {
+      executor.execute(() -> load(group, batch));
+    } catch (RuntimeException ex) {
+      batch.forEach(lookup -> lookup.future.completeExceptionally(ex));
+    }
+  }
+
+  private void load(K group, List<Lookup<T>> batch) {
+    BatchGetResult<T> result;
+    try {
+      result = loader.apply(group, batch.stream().map(lookup -> lookup.urn)
+          .collect(Collectors.toList()));
+    } catch (RuntimeException ex) {
+      batch.forEach(lookup -> lookup.future.completeExceptionally(ex));
+      return;
+    }
+    for (Lookup<T> lookup : batch) {
+      if (result.getErrors().containsKey(lookup.urn)) {
+        lookup.future.completeExceptionally(result.getErrors().get(lookup.urn));
+      } else {
+        lookup.future.complete(result.getResults().get(lookup.urn));
+      }
+    }
+  }
+
+  /**
+   * Send the batches that are waiting and stop the threads of the batcher. Lookups made after
+   * it is closed fail straight away.
+   */
+  @Override
+  public void close() {
+    Map<K, List<Lookup<T>>> batches;
+    synchronized (pending) {
+      closed = true;
+      batches = new HashMap<>(pending);
+      pending.clear();
+    }
+    batches.forEach(this::send);
+    scheduler.shutdownNow();
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+  }
+
+  /**
+   * A lookup waiting for its batch
+   * @param <T> the type of entity
+   */
+  private static final class Lookup<T> {
+
+    private final URN urn;
+
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+
+    private Lookup(URN urn) {
+      this.urn = urn;
+    }
+  }
+}
@@ -0,0 +1,414 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.util.ValidationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory cache of values that change rarely, such as organizations and their brands, access
+ * controls and follower counts, that connections can put in front of their requests.
+ * <p>
+ * A value is fresh for the TTL of its resource. Once it is stale it is still returned straight
+ * away for the stale-while-revalidate period, while a single background refresh loads it again.
+ * After that it is loaded before it is returned, once however many lookups of the key are
+ * waiting for it. A value loaded or refreshed while its key is invalidated is returned to the
+ * lookups waiting for it, but not cached. The cache is bounded by the weight of its values
+ * and split into segments, each with its own lock and least recently used order, so lookups of
+ * different keys rarely contend.
+ * <p>
+ * Values are returned as they were cached, so they must not be modified by callers.
+ * @author Joanna
+ */
+public class ObjectCache implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ObjectCache.class);
+
+  private static final int SEGMENTS = 16;
+
+  private final ObjectCacheConfig config;
+
+  private final Segment[] segments = new Segment[SEGMENTS];
+
+  private final Executor executor;
+
+  private final ExecutorService ownedExecutor;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder staleHits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder refreshes = new LongAdder();
+
+  private final LongAdder refreshFailures = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates an object cache
+   * @param config the TTLs and bounds of the cache
+   */
+  public ObjectCache(ObjectCacheConfig config) {
+    ValidationUtils.verifyParameterPresence("config", config);
+    this.config = config;
+    long segmentWeight = Math.max(1, config.getMaxWeight() / SEGMENTS);
+    for (int segment = 0; segment < SEGMENTS; segment++) {
+      segments[segment] = new Segment(segmentWeight);
+    }
+    this.ownedExecutor = config.getExecutor() == null
+        ? Executors.newCachedThreadPool(ObjectCache::newRefreshThread) : null;
+    this.executor = ownedExecutor != null ? ownedExecutor : config.getExecutor();
+  }
+
+  private static Thread newRefreshThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "linkedin-object-cache-refresh");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Get the value of a key, loading it if it is not cached and refreshing it in the background
+   * if it is stale. {@code null} values are not cached.
+   * @param resource the resource of the value, e.g. {@code /organizations}, which decides its
+   *          TTL
+   * @param key what identifies the value within the resource, e.g. its URN and fields
+   * @param loader loads the value
+   * @param <T> the type of value
+   * @return the value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String resource, Object key, Supplier<T> loader) {
+    ValidationUtils.verifyParameterPresence("resource", resource);
+    ValidationUtils.verifyParameterPresence("loader", loader);
+    List<Object> cacheKey = Arrays.asList(resource, key);
+    Segment segment = getSegment(cacheKey);
+    Entry entry = segment.get(cacheKey);
+    long now = System.nanoTime();
+    if (entry != null && now - entry.freshUntil < 0) {
+      hits.increment();
+      return (T) entry.value;
+    }
+    if (entry != null && now - entry.staleUntil < 0) {
+      staleHits.increment();
+      if (entry.refreshing.compareAndSet(false, true)) {
+        refresh(segment, cacheKey, resource, entry, loader);
+      }
+      return (T) entry.value;
+    }
+
+    misses.increment();
+    return (T) load(segment, cacheKey, resource, loader);
+  }
+
+  /**
+   * Remove the value of a key
+   * @param resource the resource of the value
+   * @param key what identifies the value within the resource
+   */
+  public void invalidate(String resource, Object key) {
+    List<Object> cacheKey = Arrays.asList(resource, key);
+    getSegment(cacheKey).invalidate(cacheKey);
+  }
+
+  /**
+   * Remove every value
+   */
+  public void invalidateAll() {
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  /**
+   * Gets the number of lookups answered with a fresh value
+   * @return the number of hits
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of lookups answered with a stale value while it was refreshed
+   * @return the number of stale hits
+   */
+  public long getStaleHits() {
+    return staleHits.sum();
+  }
+
+  /**
+   * Gets the number of lookups that had to load their value
+   * @return the number of misses
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets the share of lookups answered from the cache, fresh or stale
+   * @return the hit rate between 0 and 1, or 0 if there has been no lookup
+   */
+  public double getHitRate() {
+    long cached = hits.sum() + staleHits.sum();
+    long lookups = cached + misses.sum();
+    return lookups == 0 ? 0 : (double) cached / lookups;
+  }
+
+  /**
+   * Gets the number of background refreshes started
+   * @return the number of refreshes
+   */
+  public long getRefreshes() {
+    return refreshes.sum();
+  }
+
+  /**
+   * Gets the number of background refreshes that failed, leaving the stale value in the cache
+   * @return the number of failed refreshes
+   */
+  public long getRefreshFailures() {
+    return refreshFailures.sum();
+  }
+
+  /**
+   * Gets the number of values evicted to keep the cache within its maximum weight
+   * @return the number of evictions
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Gets the number of values cached
+   * @return the number of values
+   */
+  public int getSize() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * Stop the threads refreshing values, the cache can still be used but stale values are no
+   * longer refreshed in the background once its own thread pool has been shut down
+   */
+  @Override
+  public void close() {
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdownNow();
+    }
+  }
+
+  private Segment getSegment(Object cacheKey) {
+    int hash = cacheKey.hashCode();
+    return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+  }
+
+  private Object load(Segment segment, List<Object> cacheKey, String resource,
+      Supplier<?> loader) {
+    long generation = segment.getGeneration();
+    CompletableFuture<Object> load = new CompletableFuture<>();
+    CompletableFuture<Object> inFlight = segment.startLoad(cacheKey, load);
+    if (inFlight != null) {
+      try {
+        return inFlight.join();
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        }
+        throw ex;
+      }
+    }
+
+    try {
+      Object value = loader.get();
+      put(segment, cacheKey, resource, value, generation);
+      load.complete(value);
+      return value;
+    } catch (RuntimeException | Error ex) {
+      load.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      segment.finishLoad(cacheKey, load);
+    }
+  }
+
+  private <T> void refresh(Segment segment, List<Object> cacheKey, String resource, Entry stale,
+      Supplier<T> loader) {
+    refreshes.increment();
+    long generation = segment.getGeneration();
+    try {
+      executor.execute(() -> {
+        try {
+          put(segment, cacheKey, resource, loader.get(), generation);
+        } catch (RuntimeException ex) {
+          refreshFailures.increment();
+          LOGGER.debug("Failed to refresh the cached value of {}", cacheKey, ex);
+        } finally {
+          stale.refreshing.set(false);
+        }
+      });
+    } catch (RuntimeException ex) {
+      refreshFailures.increment();
+      stale.refreshing.set(false);
+      LOGGER.debug("Failed to schedule the refresh of the cached value of {}", cacheKey, ex);
+    }
+  }
+
+  private void put(Segment segment, List<Object> cacheKey, String resource, Object value,
+      long generation) {
+    if (value == null) {
+      segment.remove(cacheKey, generation);
+      return;
+    }
+    long now = System.nanoTime();
+    long freshUntil = now + config.getTtl(resource).toNanos();
+    long weight = Math.max(0, config.getWeigher().applyAsLong(value));
+    evictions.add(segment.put(cacheKey, new Entry(value, weight, freshUntil,
+        freshUntil + config.getStaleWhileRevalidate().toNanos()), generation));
+  }
+
+  /**
+   * A part of the cache with its own lock and least recently used order. Its generation changes
+   * whenever keys are invalidated, so loads started before then are not cached.
+   */
+  private static final class Segment {
+
+    private final long maxWeight;
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<Object, CompletableFuture<Object>> loads = new HashMap<>();
+
+    private long weight;
+
+    private long generation;
+
+    private Segment(long maxWeight) {
+      this.maxWeight = maxWeight;
+    }
+
+    private synchronized Entry get(Object key) {
+      return entries.get(key);
+    }
+
+    private synchronized long getGeneration() {
+      return generation;
+    }
+
+    private synchronized CompletableFuture<Object> startLoad(Object key,
+        CompletableFuture<Object> load) {
+      return loads.putIfAbsent(key, load);
+    }
+
+    private synchronized void finishLoad(Object key, CompletableFuture<Object> load) {
+      loads.remove(key, load);
+    }
+
+    private synchronized int put(Object key, Entry entry, long loadGeneration) {
+      if (loadGeneration != generation) {
+        return 0;
+      }
+      remove(key);
+      if (entry.weight > maxWeight) {
+        return 0;
+      }
+      entries.put(key, entry);
+      weight += entry.weight;
+
+      int evicted = 0;
+      Iterator<Entry> eldest = entries.values().iterator();
+      while (weight > maxWeight) {
+        weight -= eldest.next().weight;
+        eldest.remove();
+        evicted++;
+      }
+      return evicted;
+    }
+
+    private synchronized void remove(Object key, long loadGeneration) {
+      if (loadGeneration == generation) {
+        remove(key);
+      }
+    }
+
+    private synchronized void remove(Object key) {
+      Entry removed = entries.remove(key);
+      if (removed != null) {
+        weight -= removed.weight;
+      }
+    }
+
+    private synchronized void invalidate(Object key) {
+      generation++;
+      remove(key);
+    }
+
+    private synchronized void clear() {
+      generation++;
+      entries.clear();
+      weight = 0;
+    }
+
+    private synchronized int size() {
+      return entries.size();
+    }
+  }
+
+  /**
+   * A cached value and when it stops being fresh
+   */
+  private static final class Entry {
+
+    private final Object value;
+
+    private final long weight;
+
+    private final long freshUntil;
+
+    private final long staleUntil;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private Entry(Object value, long weight, long freshUntil, long staleUntil) {
+      this.value = value;
+      this.weight = weight;
+      this.freshUntil = freshUntil;
+      this.staleUntil = staleUntil;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.ToLongFunction;
+
+/**
+ * Configuration of how long an {@link ObjectCache} keeps values and how much it keeps
+ * @author Joanna
+ */
+@Builder
+@Getter
+public class ObjectCacheConfig {
+
+  /**
+   * How long a value is fresh for, by resource, e.g. {@code /organizations}. Resources without a
+   * TTL of their own use the default TTL.
+   */
+  @Builder.Default
+  private final Map<String, Duration> ttls = Collections.emptyMap();
+
+  /**
+   * How long a value is fresh for if its resource has no TTL of its own
+   */
+  @Builder.Default
+  private final Duration defaultTtl = Duration.ofMinutes(5);
+
+  /**
+   * How long after a value stops being fresh it is still returned straight away while it is
+   * refreshed in the background. Once this has passed too the value is loaded again before it
+   * is returned.
+   */
+  @Builder.Default
+  private final Duration staleWhileRevalidate = Duration.ofMinutes(1);
+
+  /**
+   * The total weight of the values kept, the least recently used values are evicted once the
+   * cache holds more
+   */
+  @Builder.Default
+  private final long maxWeight = 10_000;
+
+  /**
+   * The weight of a value, by default every value weighs 1 so the maximum weight is the maximum
+   * number of values
+   */
+  @Builder.Default
+  private final ToLongFunction<Object> weigher = value -> 1;
+
+  /**
+   * The executor values are refreshed on, {@code null} creates a thread pool that is shut down
+   * when the cache is closed
+   */
+  private final Executor executor;
+
+  /**
+   * Creates the default configuration
+   * @return the default configuration
+   */
+  public static ObjectCacheConfig defaultConfig() {
+    return ObjectCacheConfig.builder().build();
+  }
+
+  /**
+   * Gets how long a value of a resource is fresh for
+   * @param resource the resource
+   * @return the TTL of the resource
+   */
+  public Duration getTtl(String resource) {
+    return ttls.getOrDefault(resource, defaultTtl);
+  }
+}
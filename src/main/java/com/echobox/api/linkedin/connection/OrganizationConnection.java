@@ -38,8 +38,10 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Organization connection class to handle organization operations
@@ -106,13 +108,45 @@ public class OrganizationConnection extends Connection {
    * @return the requested organization
    */
   public Organization retrieveOrganization(URN organizationURN, Parameter fields) {
+    return retrieveOrganization(organizationURN, fields, Organization.class);
+  }
+  
+  /**
+   * Find an organization, mapping it to the given type
+   * @param organizationURN The organization URN
+   * @param fields the fields to project
+   * @param type the type to map the organization to, e.g. {@code JsonObject}
+   * @param <T> the type of organization
+   * @return the requested organization
+   */
+  <T> T retrieveOrganization(URN organizationURN, Parameter fields, Class<T> type) {
     validateOrganizationURN("organizationURN", organizationURN);
     List<Parameter> parameters = new ArrayList<>();
     if (fields != null) {
       parameters.add(fields);
     }
-    return linkedinClient.fetchObject(ORGANIZATIONS + "/" + organizationURN.getId(),
-        Organization.class, parameters.toArray(new Parameter[0]));
+    return linkedinClient.fetchObject(ORGANIZATIONS + "/" + organizationURN.getId(), type,
+        parameters.toArray(new Parameter[0]));
+  }
+  
+  /**
+   * Retrieve several organizations with Rest.li {@code BATCH_GET} requests, splitting the URNs
+   * into as many requests as needed
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/organization-lookup-api#batch-retrieve-organizations">Batch retrieve organizations</a>
+   * @param organizationURNs The organization URNs
+   * @param fields the fields to project
+   * @return the organization or error of each URN
+   */
+  public BatchGetResult<Organization> retrieveOrganizations(Collection<URN> organizationURNs,
+      Parameter fields) {
+    ValidationUtils.verifyParameterPresence("organizationURNs", organizationURNs);
+    organizationURNs.forEach(urn -> validateOrganizationURN("organizationURN", urn));
+    List<Parameter> parameters = new ArrayList<>();
+    if (fields != null) {
+      parameters.add(fields);
+    }
+    return batchGet(ORGANIZATIONS, organizationURNs, URN::getId, Organization.class,
+        parameters.toArray(new Parameter[0]));
   }
   
   /**
@@ -126,6 +160,21 @@ public class OrganizationConnection extends Connection {
    */
   public List<OrganizationBase> findOrganizationByVanityName(String vanityName, Parameter fields,
       Integer count) {
+    return streamOrganizationByVanityName(vanityName, fields, count).collect(Collectors.toList());
+  }
+  
+  /**
+   * Lookup an organization by vanity name
+   * The pages are only fetched as the stream is consumed.
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/organization-lookup-api?view=li-lms-2022-11&tabs=http#find-organization-by-vanity-name">
+   * Retrieve organization</a>
+   * @param vanityName the vanity name for the organization
+   * @param fields the fields to request
+   * @param count the number of entries to be returned per paged request
+   * @return a lazy stream of the organizations with the vanity name
+   */
+  public Stream<OrganizationBase> streamOrganizationByVanityName(String vanityName,
+      Parameter fields, Integer count) {
     ValidationUtils.verifyParameterPresence(VANITY_NAME_VALUE, vanityName);
     
     List<Parameter> parameters = new ArrayList<>();
@@ -135,11 +184,10 @@ public class OrganizationConnection extends Connection {
     parameters.add(Parameter.with(QUERY_KEY, VANITY_NAME_VALUE));
     parameters.add(Parameter.with(VANITY_NAME_KEY, vanityName));
     addStartAndCountParams(parameters, null, count);
-    List<OrganizationResult> organizationList = getListFromQuery(ORGANIZATIONS,
+    Stream<OrganizationResult> organizations = getStreamFromQuery(ORGANIZATIONS,
         OrganizationResult.class, parameters.toArray(new Parameter[0]));
     
-    return organizationList.stream().map(OrganizationResult::getOrganization)
-        .collect(Collectors.toList());
+    return organizations.map(OrganizationResult::getOrganization);
   }
   
   /**
@@ -153,6 +201,21 @@ public class OrganizationConnection extends Connection {
    */
   public List<Organization> findOrganizationByEmailDomain(String emailDomain, Parameter fields,
       Integer count) {
+    return streamOrganizationByEmailDomain(emailDomain, fields, count).collect(Collectors.toList());
+  }
+  
+  /**
+   * Lookup an organization by email domain
+   * The pages are only fetched as the stream is consumed.
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/organization-lookup-api?view=li-lms-2022-11&tabs=http#find-organization-by-email-domain">
+   * Find Organization by Email Domain</a>
+   * @param emailDomain the email domain for the organization
+   * @param fields the fields to request
+   * @param count the number of entries to be returned per paged request
+   * @return a lazy stream of the organizations with the email domain
+   */
+  public Stream<Organization> streamOrganizationByEmailDomain(String emailDomain, Parameter fields,
+      Integer count) {
     ValidationUtils.verifyParameterPresence("emailDomain", emailDomain);
     
     List<Parameter> parameters = new ArrayList<>();
@@ -162,7 +225,7 @@ public class OrganizationConnection extends Connection {
     parameters.add(Parameter.with(QUERY_KEY, EMAIL_DOMAIN_VALUE));
     parameters.add(Parameter.with(EMAIL_DOMAIN_KEY, emailDomain));
     addStartAndCountParams(parameters, null, count);
-    return getListFromQuery(ORGANIZATIONS, Organization.class,
+    return getStreamFromQuery(ORGANIZATIONS, Organization.class,
         parameters.toArray(new Parameter[0]));
   }
   
@@ -175,14 +238,26 @@ public class OrganizationConnection extends Connection {
    * @return the organization brand
    */
   public OrganizationBrand retrieveOrganizationBrand(URN organizationBrandURN, Parameter fields) {
+    return retrieveOrganizationBrand(organizationBrandURN, fields, OrganizationBrand.class);
+  }
+  
+  /**
+   * Find an organization brand, mapping it to the given type
+   * @param organizationBrandURN organizationBrandURN
+   * @param fields the fields to request
+   * @param type the type to map the organization brand to, e.g. {@code JsonObject}
+   * @param <T> the type of organization brand
+   * @return the organization brand
+   */
+  <T> T retrieveOrganizationBrand(URN organizationBrandURN, Parameter fields, Class<T> type) {
     validateOrganizationBrandURN("organizationBrandURN", organizationBrandURN);
     List<Parameter> parameters = new ArrayList<>();
     if (fields != null) {
       parameters.add(fields);
     }
     String id = organizationBrandURN.getId();
-    return linkedinClient.fetchObject(ORGANIZATIONS_BRANDS + "/" + id,
-        OrganizationBrand.class, parameters.toArray(new Parameter[0]));
+    return linkedinClient.fetchObject(ORGANIZATIONS_BRANDS + "/" + id, type,
+        parameters.toArray(new Parameter[0]));
   }
   
   /**
@@ -195,14 +270,40 @@ public class OrganizationConnection extends Connection {
    */
   public List<OrganizationBrand> retrieveOrganizationBrandByParentOrganization(
       URN organizationURN) {
+    return streamOrganizationBrandByParentOrganization(organizationURN)
+        .collect(Collectors.toList());
+  }
+  
+  /**
+   * Use organization parent URN to get a list of array of brands that belong to the specified
+   * parent
+   * The pages are only fetched as the stream is consumed.
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/organization-lookup-api?view=li-lms-2022-11&tabs=http#find-administered-organization-brands-by-parent-organization">
+   * Retrieve Organization Brand by Parent Organization</a>
+   * @param organizationURN parent organization URN
+   * @return a lazy stream of all the organization brands
+   */
+  public Stream<OrganizationBrand> streamOrganizationBrandByParentOrganization(
+      URN organizationURN) {
+    return streamOrganizationBrandByParentOrganization(organizationURN, OrganizationBrand.class);
+  }
+  
+  /**
+   * Use organization parent URN to get the brands that belong to the specified parent, mapping
+   * them to the given type
+   * @param organizationURN parent organization URN
+   * @param type the type to map the organization brands to, e.g. {@code JsonObject}
+   * @param <T> the type of organization brand
+   * @return a lazy stream of all the organization brands
+   */
+  <T> Stream<T> streamOrganizationBrandByParentOrganization(URN organizationURN, Class<T> type) {
     validateOrganizationURN("organizationURN", organizationURN);
     
     List<Parameter> parameters = new ArrayList<>();
     parameters.add(Parameter.with(QUERY_KEY, PARENT_ORGANIZATION_VALUE));
     parameters.add(Parameter.with(PARENT_KEY, organizationURN.toString()));
     
-    return getListFromQuery(ORGANIZATIONS, OrganizationBrand.class,
-        parameters.toArray(new Parameter[0]));
+    return getStreamFromQuery(ORGANIZATIONS, type, parameters.toArray(new Parameter[0]));
   }
   
   /**
@@ -217,13 +318,42 @@ public class OrganizationConnection extends Connection {
    */
   public List<AccessControl> retrieveMemberOrganizationAccessControl(String role, String state,
       Integer count) {
+    return streamMemberOrganizationAccessControl(role, state, count).collect(Collectors.toList());
+  }
+  
+  /**
+   * Find a Member's Organization Access Control Information
+   * E.g. https://api.linkedin.com/rest/organizationAcls?q=roleAssignee
+   * The pages are only fetched as the stream is consumed.
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/organization-access-control-by-role?view=li-lms-2022-11&tabs=http">
+   * Access Control</a>
+   * @param role Limit results to specific roles, such as ADMINISTRATOR.
+   * @param state Limit results to specific role states, such as APPROVED.
+   * @param count the number of entries to be returned per paged request
+   * @return a lazy stream of the access controls for a given role and state for the member
+   */
+  public Stream<AccessControl> streamMemberOrganizationAccessControl(String role, String state,
+      Integer count) {
+    return streamMemberOrganizationAccessControl(role, state, count, AccessControl.class);
+  }
+  
+  /**
+   * Find a member's organization access control information, mapping it to the given type
+   * @param role Limit results to specific roles, such as ADMINISTRATOR.
+   * @param state Limit results to specific role states, such as APPROVED.
+   * @param count the number of entries to be returned per paged request
+   * @param type the type to map the access controls to, e.g. {@code JsonObject}
+   * @param <T> the type of access control
+   * @return a lazy stream of the access controls for a given role and state for the member
+   */
+  <T> Stream<T> streamMemberOrganizationAccessControl(String role, String state, Integer count,
+      Class<T> type) {
     List<Parameter> params = new ArrayList<>();
     params.add(Parameter.with(QUERY_KEY, ROLE_ASSIGNEE_VALUE));
     addRoleStateParams(role, state, params);
     addStartAndCountParams(params, null, count);
     
-    return getListFromQuery(ORGANIZATION_ACLS, AccessControl.class,
-        params.toArray(new Parameter[0]));
+    return getStreamFromQuery(ORGANIZATION_ACLS, type, params.toArray(new Parameter[0]));
   }
   
   /**
@@ -239,6 +369,41 @@ public class OrganizationConnection extends Connection {
    */
   public List<AccessControl> findOrganizationAccessControl(URN organizationURN, String role,
       String state, Integer count) {
+    return streamOrganizationAccessControl(organizationURN, role, state, count)
+        .collect(Collectors.toList());
+  }
+  
+  /**
+   * Find an Organization's Access Control Information
+   * The pages are only fetched as the stream is consumed.
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/organization-access-control-by-role?view=li-lms-2022-11&tabs=http#find-organization-administrators">
+   * Access Control</a>
+   * @param organizationURN The organization for which access control information
+   * is retrieved.
+   * @param role Limit results to specific roles
+   * @param state Limit results to specific role states
+   * @param count the number of entries to be returned per paged request
+   * @return a lazy stream of the access controls for an organization
+   */
+  public Stream<AccessControl> streamOrganizationAccessControl(URN organizationURN, String role,
+      String state, Integer count) {
+    return streamOrganizationAccessControl(organizationURN, role, state, count,
+        AccessControl.class);
+  }
+  
+  /**
+   * Find an organization's access control information, mapping it to the given type
+   * @param organizationURN The organization for which access control information
+   * is retrieved.
+   * @param role Limit results to specific roles
+   * @param state Limit results to specific role states
+   * @param count the number of entries to be returned per paged request
+   * @param type the type to map the access controls to, e.g. {@code JsonObject}
+   * @param <T> the type of access control
+   * @return a lazy stream of the access controls for an organization
+   */
+  <T> Stream<T> streamOrganizationAccessControl(URN organizationURN, String role, String state,
+      Integer count, Class<T> type) {
     validateOrganizationURN("organization", organizationURN);
     
     List<Parameter> parameters = new ArrayList<>();
@@ -247,8 +412,7 @@ public class OrganizationConnection extends Connection {
     addRoleStateParams(role, state, parameters);
     addStartAndCountParams(parameters, null, count);
     
-    return getListFromQuery(ORGANIZATION_ACLS, AccessControl.class,
-        parameters.toArray(new Parameter[0]));
+    return getStreamFromQuery(ORGANIZATION_ACLS, type, parameters.toArray(new Parameter[0]));
   }
   
   /**
@@ -262,13 +426,52 @@ public class OrganizationConnection extends Connection {
    */
   public List<OrganizationFollowerStatistics> retrieveOrganizationFollowerStatistics(
       URN organizationURN, Integer count) {
+    return streamOrganizationFollowerStatistics(organizationURN, count)
+        .collect(Collectors.toList());
+  }
+  
+  /**
+   * Retrieve both lifetime and time-bound statistics on followers for an organization.
+   * Lifetime follower statistics: To retrieve lifetime follower statistics, omit the
+   * timeIntervals query parameter. The API returns follower counts segmented by various facets
+   * such as region and industry.
+   *
+   * Time-bound follower statistics: To retrieve time-bound follower statistics, include the
+   * timeIntervals query parameter. The API returns the aggregate follower count for both paid
+   * and organic followers during the days or months of the selected date range, based on the
+   * specified timeIntervals.timeGranularityType.
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/follower-statistics?view=li-lms-2022-11&tabs=http#retrieve-time-bound-follower-statistics">
+   * Organization Follower Statistics</a>
+   * @param organizationURN the organization RUN
+   * @param timeInterval the time interval for time bound follower statistics
+   * @param count the number of entries to be returned per paged request
+   * @return a list of organization follower statistics
+   */
+  public List<FollowerStatistic> retrieveOrganizationFollowerStatistics(URN organizationURN,
+      TimeInterval timeInterval, Integer count) {
+    return streamOrganizationFollowerStatistics(organizationURN, timeInterval, count)
+        .collect(Collectors.toList());
+  }
+  
+  /**
+   * Retrieve the lifetime follower statistics. Providing the time interval will retrieve
+   * time-bounded follower statistics, otherwise the lifetime follower statistics will be returned
+   * The pages are only fetched as the stream is consumed.
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/follower-statistics?view=li-lms-2022-11&tabs=http#retrieve-lifetime-follower-statistics">
+   * Organization Follower Statistics</a>
+   * @param organizationURN the organization URN to retrieve the follower statistics
+   * @param count the number of entries to be returned per paged request
+   * @return a lazy stream of the organization's follower statistics
+   */
+  public Stream<OrganizationFollowerStatistics> streamOrganizationFollowerStatistics(
+      URN organizationURN, Integer count) {
     validateOrganizationURN("organizationURN", organizationURN);
     List<Parameter> parameters = new ArrayList<>();
     
     addParametersForStatistics(organizationURN, null, parameters);
     addStartAndCountParams(parameters, null, count);
   
-    return getListFromQuery(ORGANIZATIONAL_ENTITY_FOLLOWER_STATS,
+    return getStreamFromQuery(ORGANIZATIONAL_ENTITY_FOLLOWER_STATS,
         OrganizationFollowerStatistics.class, parameters.toArray(new Parameter[0]));
   }
   
@@ -282,14 +485,15 @@ public class OrganizationConnection extends Connection {
    * timeIntervals query parameter. The API returns the aggregate follower count for both paid
    * and organic followers during the days or months of the selected date range, based on the
    * specified timeIntervals.timeGranularityType.
+   * The pages are only fetched as the stream is consumed.
    * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/follower-statistics?view=li-lms-2022-11&tabs=http#retrieve-time-bound-follower-statistics">
    * Organization Follower Statistics</a>
    * @param organizationURN the organization RUN
    * @param timeInterval the time interval for time bound follower statistics
    * @param count the number of entries to be returned per paged request
-   * @return a list of organization follower statistics
+   * @return a lazy stream of the organization follower statistics
    */
-  public List<FollowerStatistic> retrieveOrganizationFollowerStatistics(URN organizationURN,
+  public Stream<FollowerStatistic> streamOrganizationFollowerStatistics(URN organizationURN,
       TimeInterval timeInterval, Integer count) {
     validateOrganizationURN("organizationURN", organizationURN);
     
@@ -298,7 +502,7 @@ public class OrganizationConnection extends Connection {
     addParametersForStatistics(organizationURN, timeInterval, parameters);
     addStartAndCountParams(parameters, null, count);
     
-    return getListFromQuery(ORGANIZATIONAL_ENTITY_FOLLOWER_STATS, FollowerStatistic.class,
+    return getStreamFromQuery(ORGANIZATIONAL_ENTITY_FOLLOWER_STATS, FollowerStatistic.class,
         parameters.toArray(new Parameter[0]));
   }
   
@@ -316,6 +520,25 @@ public class OrganizationConnection extends Connection {
    */
   public List<Statistics.OrganizationStatistics> retrieveOrganizationPageStatistics(
       URN organizationURN, TimeInterval timeInterval, Integer count) {
+    return streamOrganizationPageStatistics(organizationURN, timeInterval, count)
+        .collect(Collectors.toList());
+  }
+  
+  /**
+   * Retrieve the lifetime follower statistics. Providing the time interval will retrieve
+   * time-bounded follower statistics, otherwise the lifetime follower statistics will be returned
+   * The pages are only fetched as the stream is consumed.
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/page-statistics?view=li-lms-2022-11&tabs=http#retrieve-lifetime-organization-page-statistics">
+   * Organization Page Statistics - Lifetime</a>
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/page-statistics?view=li-lms-2022-11&tabs=http#retrieve-time-bound-organization-page-statistics">
+   * Organization Page Statistics - time-bound</a>
+   * @param organizationURN the organization URN to retrieve the page statistics
+   * @param timeInterval the time interval  for time-bound follower statistics
+   * @param count the number of entries to be returned per paged request
+   * @return a lazy stream of the organization's page statistics
+   */
+  public Stream<Statistics.OrganizationStatistics> streamOrganizationPageStatistics(
+      URN organizationURN, TimeInterval timeInterval, Integer count) {
     validateOrganizationURN("organizationURN", organizationURN);
     
     List<Parameter> parameters = new ArrayList<>();
@@ -325,7 +548,7 @@ public class OrganizationConnection extends Connection {
     addTimeIntervalToParams(parameters, timeInterval);
     addStartAndCountParams(parameters, null, count);
     
-    return getListFromQuery(ORGANIZATIONAL_PAGE_STATS, Statistics.OrganizationStatistics.class,
+    return getStreamFromQuery(ORGANIZATIONAL_PAGE_STATS, Statistics.OrganizationStatistics.class,
         parameters.toArray(new Parameter[0]));
   }
   
@@ -357,6 +580,25 @@ public class OrganizationConnection extends Connection {
    */
   public List<ShareStatistic> retrieveShareStatistics(URN organizationURN,
       TimeInterval timeInterval, List<URN> shareURNs, Integer count) {
+    return streamShareStatistics(organizationURN, timeInterval, shareURNs, count)
+        .collect(Collectors.toList());
+  }
+  
+  /**
+   * retrieve both lifetime and time-bound organic statistics on shares for an organization,
+   * including specific organization share URNs. This endpoint returns organic statistics only.
+   * Sponsored activity is not counted in this endpoint.
+   * The pages are only fetched as the stream is consumed.
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/organizations/share-statistics?view=li-lms-2022-11&tabs=http#retrieve-time-bound-share-statistics">
+   * Organization Share Statistics</a>
+   * @param organizationURN the organizational entity URN for which the statistics represents
+   * @param timeInterval Time restriction for the query. When omitted, lifetime stats are returned
+   * @param shareURNs References to one or more shares for which statistics are returned
+   * @param count the number of entries to be returned per paged request
+   * @return a lazy stream of aggregated stats for an organization's shares
+   */
+  public Stream<ShareStatistic> streamShareStatistics(URN organizationURN,
+      TimeInterval timeInterval, List<URN> shareURNs, Integer count) {
     validateOrganizationOrBrandURN("organizationURN", organizationURN);
     
     List<Parameter> params = new ArrayList<>();
@@ -377,7 +619,7 @@ public class OrganizationConnection extends Connection {
     addTimeIntervalToParams(params, timeInterval);
     addStartAndCountParams(params, null, count);
     
-    return getListFromQuery(SHARE_STATISTICS, ShareStatistic.class,
+    return getStreamFromQuery(SHARE_STATISTICS, ShareStatistic.class,
         params.toArray(new Parameter[0]));
   }
   
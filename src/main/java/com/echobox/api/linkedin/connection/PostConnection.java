@@ -27,6 +27,7 @@ import com.echobox.api.linkedin.util.URLUtils;
 import com.echobox.api.linkedin.util.ValidationUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -81,6 +82,20 @@ public class PostConnection extends Connection {
         Post.class, viewContextParam);
   }
   
+  /**
+   * Retrieve several posts with Rest.li {@code BATCH_GET} requests, splitting the URNs into as
+   * many requests as needed
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/shares/posts-api#batch-get-posts">Batch Get Posts</a>
+   *
+   * @param postURNs the share or ugcPost URNs of the posts
+   * @param viewContext the view context
+   * @return the post or error of each URN
+   */
+  public BatchGetResult<Post> retrievePosts(Collection<URN> postURNs, ViewContext viewContext) {
+    return batchGet(POSTS, postURNs, URN::toString, Post.class,
+        Parameter.with(VIEW_CONTEXT, viewContext));
+  }
+  
   /**
    * Retrieve posts by author (organization)
    * @see
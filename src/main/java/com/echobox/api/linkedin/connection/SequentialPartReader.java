@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.client.BinaryAttachment;
+import com.echobox.api.linkedin.types.videos.InitializeUploadResponse;
+import org.apache.http.entity.ContentType;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+/**
+ * Reads the parts of a video from a stream, such as a remote video being downloaded, in the
+ * order of their upload instructions. Each part is read into its own buffer only when the worker
+ * uploading it is ready, so the download overlaps with the upload of earlier parts and at most
+ * one part per worker is held in memory.
+ * @author Joanna
+ */
+class SequentialPartReader {
+
+  private final String filename;
+
+  private final InputStream inputStream;
+
+  private int nextPart;
+
+  private long position;
+
+  private IOException failure;
+
+  /**
+   * Read parts from a stream
+   * @param filename the filename of the parts
+   * @param inputStream the stream, positioned at the start of the video
+   */
+  SequentialPartReader(String filename, InputStream inputStream) {
+    this.filename = filename;
+    this.inputStream = inputStream;
+  }
+
+  /**
+   * Read a part, waiting for the parts before it to be read first
+   * @param part the index of the part's upload instruction
+   * @param instruction the upload instruction
+   * @return the data of the part
+   * @throws IOException if the stream cannot be read, ends early or an earlier part failed
+   */
+  synchronized BinaryAttachment readPart(int part,
+      InitializeUploadResponse.UploadInstruction instruction) throws IOException {
+    while (nextPart != part && failure == null) {
+      try {
+        wait();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting to read video part " + part);
+      }
+    }
+    if (failure != null) {
+      throw new IOException("Unable to read video part " + part, failure);
+    }
+
+    try {
+      byte[] bytes = readRange(instruction.getFirstByte(), instruction.getLastByte());
+      nextPart++;
+      return BinaryAttachment.with(filename, bytes,
+          ContentType.APPLICATION_OCTET_STREAM.toString());
+    } catch (IOException ex) {
+      failure = ex;
+      throw ex;
+    } finally {
+      notifyAll();
+    }
+  }
+
+  private byte[] readRange(long firstByte, long lastByte) throws IOException {
+    if (firstByte < position) {
+      throw new IOException(String.format("Video part starting at byte %d is out of order, the "
+          + "stream is already at byte %d", firstByte, position));
+    }
+    while (position < firstByte) {
+      long skipped = inputStream.skip(firstByte - position);
+      if (skipped <= 0) {
+        if (inputStream.read() < 0) {
+          throw endedEarly(lastByte);
+        }
+        skipped = 1;
+      }
+      position += skipped;
+    }
+
+    int length = Math.toIntExact(lastByte - firstByte + 1);
+    byte[] bytes = inputStream.readNBytes(length);
+    position += bytes.length;
+    if (bytes.length < length) {
+      throw endedEarly(lastByte);
+    }
+    return bytes;
+  }
+
+  private EOFException endedEarly(long lastByte) {
+    return new EOFException(String.format("The video ended at byte %d, expected %d bytes",
+        position, lastByte + 1));
+  }
+}
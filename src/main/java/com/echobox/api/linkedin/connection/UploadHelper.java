@@ -23,7 +23,6 @@ import com.echobox.api.linkedin.exception.LinkedInNetworkException;
 import com.echobox.api.linkedin.exception.LinkedInResponseException;
 import com.echobox.api.linkedin.util.ValidationUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -65,29 +64,17 @@ public class UploadHelper {
   }
   
   public static byte[] convertFileToBytes(File file) throws IOException {
-    try (InputStream videoInputStream = Files.newInputStream(file.toPath())) {
-      byte[] bytes = new byte[(int) file.length()];
-      videoInputStream.read(bytes);
-      return bytes;
-    }
+    return Files.readAllBytes(file.toPath());
   }
   
   public static byte[] convertURLToBytes(URL url) throws IOException {
-    ByteArrayOutputStream baos = new ByteArrayOutputStream();
     try (InputStream inputStream = url.openStream()) {
-      
-      int byteChunk;
-      
-      while ((byteChunk = inputStream.read()) != -1) {
-        baos.write(byteChunk);
-      }
+      return inputStream.readAllBytes();
     } catch (IOException e) {
       throw new IOException(
           String.format("Failed while reading bytes from %s: %s", url.toExternalForm(),
               e.getMessage()));
     }
-    
-    return baos.toByteArray();
   }
   
   public static URL extractUploadURL(String url) {
@@ -21,6 +21,7 @@ import com.echobox.api.linkedin.client.BinaryAttachment;
 import com.echobox.api.linkedin.client.DefaultLinkedInClient;
 import com.echobox.api.linkedin.client.LinkedInClient;
 import com.echobox.api.linkedin.client.Parameter;
+import com.echobox.api.linkedin.client.RetryPolicy;
 import com.echobox.api.linkedin.client.WebRequestor;
 import com.echobox.api.linkedin.types.urn.URN;
 import com.echobox.api.linkedin.types.videos.FinalizeUploadRequest;
@@ -32,17 +33,26 @@ import com.echobox.api.linkedin.util.ValidationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.entity.ContentType;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Videos connection class to handle video operations
@@ -61,66 +71,295 @@ public class VideoConnection extends Connection {
   private static final String INITIALIZE_UPLOAD = "initializeUpload";
   private static final String FINALIZE_UPLOAD = "finalizeUpload";
   
+  /**
+   * The response status codes a video part is retried after
+   */
+  private static final Set<Integer> RETRYABLE_STATUS_CODES =
+      RetryPolicy.defaultPolicy().getRetryableStatusCodes();
+  
   /**
    * Headers
    */
   private static final String HEADER_ETAG = "etag";
   
+  private final VideoUploadConfig uploadConfig;
+  
   /**
    * Instantiates a new connection base.
    *
    * @param linkedinClient the LinkedIn client
    */
   public VideoConnection(LinkedInClient linkedinClient) {
+    this(linkedinClient, VideoUploadConfig.defaultConfig());
+  }
+  
+  /**
+   * Instantiates a new connection base.
+   *
+   * @param linkedinClient the LinkedIn client
+   * @param uploadConfig the configuration for multi-part video uploads
+   */
+  public VideoConnection(LinkedInClient linkedinClient, VideoUploadConfig uploadConfig) {
     super(linkedinClient);
+    ValidationUtils.verifyParameterPresence("uploadConfig", uploadConfig);
+    if (uploadConfig.getPartsInFlight() < 1 || uploadConfig.getMaxPartAttempts() < 1) {
+      throw new IllegalArgumentException("Parts in flight and max part attempts must be positive");
+    }
+    this.uploadConfig = uploadConfig;
   }
   
   public URN uploadVideoFromURL(InitializeUploadRequest initializeUploadRequest, String videoURL,
       String thumbnailImageURL) throws IOException {
   
     URL url = UploadHelper.extractUploadURL(videoURL);
-    byte[] fileBytes = UploadHelper.convertURLToBytes(url);
-    long videoFileSizeBytes = fileBytes.length;
-  
-    return getVideoURN(videoFileSizeBytes, initializeUploadRequest, videoURL, fileBytes,
-        thumbnailImageURL);
+    URLConnection urlConnection = url.openConnection();
+    long videoFileSizeBytes = urlConnection.getContentLengthLong();
+    
+    try (InputStream videoInputStream = urlConnection.getInputStream()) {
+      if (videoFileSizeBytes < 0) {
+        // The size is needed to initialize the upload, so the whole video has to be read first
+        byte[] fileBytes = videoInputStream.readAllBytes();
+        return getVideoURN(fileBytes.length, initializeUploadRequest,
+            (part, instruction) -> toChunkAttachment(videoURL, fileBytes, instruction),
+            thumbnailImageURL, null);
+      }
+      
+      // Read each part as the workers reach it, so downloading overlaps with uploading and at
+      // most one part per part in flight is held in memory
+      SequentialPartReader partReader = new SequentialPartReader(videoURL, videoInputStream);
+      return getVideoURN(videoFileSizeBytes, initializeUploadRequest, partReader::readPart,
+          thumbnailImageURL, null);
+    }
   }
   
   public URN uploadVideoFromFile(InitializeUploadRequest initializeUploadRequest, String filePath,
       String thumbnailImageURL) throws IOException {
   
-    File file = new File(filePath);
+    // Each chunk is streamed from its range of the file rather than reading the whole video
     Path videoFilePath = Paths.get(filePath);
-    byte[] fileBytes = UploadHelper.convertFileToBytes(file);
     long videoFileSizeBytes = Files.size(videoFilePath);
     
-    return getVideoURN(videoFileSizeBytes, initializeUploadRequest, filePath,
-        fileBytes, thumbnailImageURL);
+    return getVideoURN(videoFileSizeBytes, initializeUploadRequest,
+        (part, instruction) -> toChunkAttachment(videoFilePath, instruction), thumbnailImageURL,
+        openJournal(videoFilePath, videoFileSizeBytes, initializeUploadRequest));
   }
   
   private URN getVideoURN(long videoFileSizeBytes, InitializeUploadRequest initializeUploadRequest,
-      String videoLocation, byte[] fileBytes, String thumbnailImageURL) throws IOException {
-  
-    initializeUploadRequest.getInitializeUploadRequest().setFileSizeBytes(videoFileSizeBytes);
-    
-    InitializeUploadResponse initializeUploadResponse = initializeUpload(initializeUploadRequest);
-    InitializeUploadResponse.Value value = initializeUploadResponse.getValue();
+      PartSource partSource, String thumbnailImageURL, VideoUploadJournal journal)
+      throws IOException {
   
-    List<String> uploadedPartIds = new ArrayList<>();
-    for (InitializeUploadResponse.UploadInstruction instruction : value.getUploadInstructions()) {
-      String etag = uploadVideoFileChunk(videoLocation, fileBytes, instruction);
-      uploadedPartIds.add(etag);
+    // Resume the upload recorded in the journal, if there is one
+    InitializeUploadResponse.Value value = journal == null ? null : journal.getUpload();
+    if (value == null) {
+      initializeUploadRequest.getInitializeUploadRequest().setFileSizeBytes(videoFileSizeBytes);
+      
+      InitializeUploadResponse initializeUploadResponse = initializeUpload(initializeUploadRequest);
+      value = initializeUploadResponse.getValue();
+      if (journal != null) {
+        journal.start(value);
+      }
     }
   
-    uploadThumbnailImage(thumbnailImageURL, value);
+    List<String> uploadedPartIds = uploadParts(value, partSource, thumbnailImageURL, journal);
   
     FinalizeUploadRequest finalizeUploadRequest =
         new FinalizeUploadRequest(value.getVideo(), value.getUploadToken(), uploadedPartIds);
     finalizeUpload(finalizeUploadRequest);
+    if (journal != null) {
+      journal.delete();
+    }
   
     return value.getVideo();
   }
   
+  /**
+   * Open the journal of an upload from a file, cleaning up the journals of expired uploads
+   *
+   * @param videoFilePath the video file
+   * @param videoFileSizeBytes the size of the video file
+   * @param initializeUploadRequest the request to initialize the upload
+   * @return the journal, or {@code null} if resuming uploads is disabled
+   * @throws IOException if the journal directory cannot be used
+   */
+  private VideoUploadJournal openJournal(Path videoFilePath, long videoFileSizeBytes,
+      InitializeUploadRequest initializeUploadRequest) throws IOException {
+    Path journalDirectory = uploadConfig.getJournalDirectory();
+    if (journalDirectory == null) {
+      return null;
+    }
+    cleanUpUploadJournals();
+    
+    // A modified file must not resume an upload of its previous contents
+    String uploadKey = String.join("|", videoFilePath.toAbsolutePath().toString(),
+        Long.toString(videoFileSizeBytes),
+        Long.toString(Files.getLastModifiedTime(videoFilePath).toMillis()),
+        String.valueOf(initializeUploadRequest.getInitializeUploadRequest().getOwner()),
+        Boolean.toString(initializeUploadRequest.getInitializeUploadRequest().isUploadThumbnail()));
+    return VideoUploadJournal.open(journalDirectory, uploadKey, linkedinClient.getJsonMapper());
+  }
+  
+  /**
+   * Delete the journals of uploads whose upload URLs have expired, so they can no longer be
+   * resumed. This is done automatically before each upload from a file.
+   *
+   * @return the number of journals deleted
+   * @throws IOException if the journal directory cannot be read
+   */
+  public int cleanUpUploadJournals() throws IOException {
+    Path journalDirectory = uploadConfig.getJournalDirectory();
+    return journalDirectory == null ? 0
+        : VideoUploadJournal.cleanUp(journalDirectory, linkedinClient.getJsonMapper());
+  }
+  
+  /**
+   * Upload the parts of the video with up to the configured number of parts in flight on the
+   * configured executor, while the thumbnail is uploaded alongside them. Without an executor the
+   * thumbnail and then each part are uploaded one after the other on the calling thread. Each
+   * worker takes the next part to upload until none are left, and the ETags are returned in the
+   * order of the upload instructions.
+   *
+   * @param value the initialized upload
+   * @param partSource opens the data of each part
+   * @param thumbnailImageURL the thumbnail to upload, if any
+   * @param journal records the progress of the upload, or {@code null}
+   * @return the ETags of the uploaded parts
+   * @throws IOException if a part could not be uploaded
+   */
+  private List<String> uploadParts(InitializeUploadResponse.Value value,
+      PartSource partSource, String thumbnailImageURL, VideoUploadJournal journal)
+      throws IOException {
+    List<InitializeUploadResponse.UploadInstruction> instructions = value.getUploadInstructions();
+    String[] etags = new String[instructions.size()];
+    if (journal != null) {
+      // Parts uploaded by a previous attempt are not sent again
+      journal.getUploadedParts().forEach((part, etag) -> {
+        if (part >= 0 && part < etags.length) {
+          etags[part] = etag;
+        }
+      });
+    }
+    AtomicInteger nextPart = new AtomicInteger();
+    Executor executor = uploadConfig.getExecutor();
+    // Without an executor every task runs on the calling thread, so one worker uploads every part
+    int workers = executor == null ? 1
+        : Math.max(1, Math.min(uploadConfig.getPartsInFlight(), instructions.size()));
+    if (executor == null) {
+      executor = Runnable::run;
+    }
+  
+    List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    if (journal == null || !journal.isThumbnailUploaded()) {
+      tasks.add(CompletableFuture.runAsync(() -> {
+        try {
+          uploadThumbnailImage(thumbnailImageURL, value);
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+        if (journal != null) {
+          journal.recordThumbnail();
+        }
+      }, executor));
+    }
+    for (int i = 0; i < workers; i++) {
+      tasks.add(CompletableFuture.runAsync(() -> {
+        int part;
+        while ((part = nextPart.getAndIncrement()) < etags.length) {
+          if (etags[part] != null) {
+            continue;
+          }
+          try {
+            etags[part] = uploadPart(openPart(partSource, part, instructions.get(part)),
+                instructions.get(part));
+            if (journal != null) {
+              journal.recordPart(part, etags[part]);
+            }
+          } catch (RuntimeException ex) {
+            // Stop the other workers from starting any more parts
+            nextPart.set(etags.length);
+            throw ex;
+          }
+        }
+      }, executor));
+    }
+    awaitUploads(tasks, nextPart, etags.length);
+  
+    return Arrays.asList(etags);
+  }
+  
+  private static void awaitUploads(List<CompletableFuture<Void>> tasks, AtomicInteger nextPart,
+      int parts) throws IOException {
+    try {
+      CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).get();
+    } catch (InterruptedException ex) {
+      nextPart.set(parts);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while uploading the video");
+    } catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException("Failed to upload the video", cause);
+    }
+  }
+  
+  private static BinaryAttachment openPart(PartSource partSource, int part,
+      InitializeUploadResponse.UploadInstruction instruction) {
+    try {
+      return partSource.openPart(part, instruction);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+  
+  /**
+   * Upload a part, retrying it with an exponential backoff after a network error or a 429 or 5xx
+   * response until it succeeds or the maximum number of attempts is reached. Any other failure,
+   * such as an expired upload URL, fails the part at once with the exception the client maps its
+   * status code to.
+   *
+   * @param attachment the data of the part
+   * @param instruction the upload instruction for the part
+   * @return the ETag of the part
+   */
+  private String uploadPart(BinaryAttachment attachment,
+      InitializeUploadResponse.UploadInstruction instruction) {
+    long backoffMillis = uploadConfig.getRetryBackoff().toMillis();
+    for (int attempt = 1; ; attempt++) {
+      boolean lastAttempt = attempt >= uploadConfig.getMaxPartAttempts();
+      try {
+        WebRequestor.Response response = putVideoFileChunk(attachment, instruction);
+        int statusCode = response.getStatusCode();
+        if (statusCode >= 200 && statusCode < 300) {
+          return getETag(response);
+        }
+        if (lastAttempt || !RETRYABLE_STATUS_CODES.contains(statusCode)) {
+          throw linkedinClient.getLinkedInExceptionMapper().exceptionForTypeAndMessage(null,
+              statusCode, "Failed to upload bytes " + instruction.getFirstByte() + " to "
+                  + instruction.getLastByte() + " of the video with HTTP status " + statusCode,
+              false, null);
+        }
+      } catch (IOException ex) {
+        if (lastAttempt) {
+          throw new UncheckedIOException(ex);
+        }
+      }
+  
+      try {
+        Thread.sleep(backoffMillis);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new UncheckedIOException(
+            new InterruptedIOException("Interrupted while waiting to retry a video part"));
+      }
+      backoffMillis *= 2;
+    }
+  }
+  
   public InitializeUploadResponse initializeUpload(
       InitializeUploadRequest initializeUploadRequest) {
     ValidationUtils.validateVideoFileSize(
@@ -131,27 +370,63 @@ public class VideoConnection extends Connection {
   
   public String uploadVideoFileChunk(String filePath, byte[] fileBytes,
       InitializeUploadResponse.UploadInstruction instruction) throws IOException {
+    return uploadVideoFileChunk(toChunkAttachment(filePath, fileBytes, instruction), instruction);
+  }
+  
+  /**
+   * Upload the chunk of the video file described by the upload instruction, streaming it from
+   * the file so that only a small buffer is held in memory
+   *
+   * @param videoFilePath the path of the video file
+   * @param instruction the upload instruction for the chunk
+   * @return the etag of the uploaded chunk
+   * @throws IOException IOException
+   */
+  public String uploadVideoFileChunk(Path videoFilePath,
+      InitializeUploadResponse.UploadInstruction instruction) throws IOException {
+    return uploadVideoFileChunk(toChunkAttachment(videoFilePath, instruction), instruction);
+  }
+  
+  private String uploadVideoFileChunk(BinaryAttachment attachment,
+      InitializeUploadResponse.UploadInstruction instruction) throws IOException {
+    return getETag(putVideoFileChunk(attachment, instruction));
+  }
+  
+  private WebRequestor.Response putVideoFileChunk(BinaryAttachment attachment,
+      InitializeUploadResponse.UploadInstruction instruction) throws IOException {
     WebRequestor webRequestor = linkedinClient.getWebRequestor();
     
     Map<String, String> requestHeaders = new HashMap<>();
     requestHeaders.put(DefaultLinkedInClient.HEADER_NAME_VERSION,
         linkedinClient.getVersionedMonth());
     
-    byte[] chunkBytes = Arrays.copyOfRange(fileBytes,
-        Math.toIntExact(instruction.getFirstByte()),
-        Math.toIntExact(instruction.getLastByte() + 1));
-    BinaryAttachment attachment = BinaryAttachment.with(filePath, chunkBytes,
-        ContentType.APPLICATION_OCTET_STREAM.toString());
-    
     URL url = UploadHelper.extractUploadURL(instruction.getUploadUrl());
-    WebRequestor.Response response =
-        webRequestor.executePut(url.toString(), null, null, requestHeaders, attachment);
+    return webRequestor.executePut(url.toString(), null, null, requestHeaders, attachment);
+  }
+  
+  private static String getETag(WebRequestor.Response response) {
     Map<String, String> responseHeaders = response.getHeaders();
     ValidationUtils.validateRequiredResponseHeader(responseHeaders, HEADER_ETAG);
     
     return responseHeaders.get(HEADER_ETAG);
   }
   
+  private static BinaryAttachment toChunkAttachment(String filePath, byte[] fileBytes,
+      InitializeUploadResponse.UploadInstruction instruction) {
+    byte[] chunkBytes = Arrays.copyOfRange(fileBytes,
+        Math.toIntExact(instruction.getFirstByte()),
+        Math.toIntExact(instruction.getLastByte() + 1));
+    return BinaryAttachment.with(filePath, chunkBytes,
+        ContentType.APPLICATION_OCTET_STREAM.toString());
+  }
+  
+  private static BinaryAttachment toChunkAttachment(Path videoFilePath,
+      InitializeUploadResponse.UploadInstruction instruction) {
+    long chunkLength = instruction.getLastByte() - instruction.getFirstByte() + 1;
+    return BinaryAttachment.with(videoFilePath.getFileName().toString(), videoFilePath,
+        instruction.getFirstByte(), chunkLength, ContentType.APPLICATION_OCTET_STREAM.toString());
+  }
+  
   public void finalizeUpload(FinalizeUploadRequest finalizeUploadRequest) {
     linkedinClient.publish(VIDEOS, finalizeUploadRequest,
         Parameter.with(ACTION_KEY, FINALIZE_UPLOAD));
@@ -179,4 +454,32 @@ public class VideoConnection extends Connection {
     return linkedinClient.fetchObject(
         VIDEOS + "/" + URLUtils.urlEncode(videoURN.toString()), VideoDetails.class);
   }
+
+  /**
+   * Retrieve the details of several videos with Rest.li {@code BATCH_GET} requests, splitting the
+   * URNs into as many requests as needed
+   * @see <a href="https://learn.microsoft.com/en-us/linkedin/marketing/integrations/community-management/shares/videos-api#batch-get-videos">Batch Get Videos</a>
+   * @param videoURNs the video URNs
+   * @return the video details or error of each URN
+   */
+  public BatchGetResult<VideoDetails> retrieveVideoDetails(Collection<URN> videoURNs) {
+    return batchGet(VIDEOS, videoURNs, URN::toString, VideoDetails.class);
+  }
+
+  /**
+   * Opens the data of a single part of a video
+   */
+  interface PartSource {
+    /**
+     * Open the data of a part. This is called once for each part, and the attachment is reused
+     * if the upload of the part is retried. Parts are taken in the order of the upload
+     * instructions, but several parts may be opened at the same time.
+     * @param part the index of the part's upload instruction
+     * @param instruction the upload instruction
+     * @return the data of the part
+     * @throws IOException IOException
+     */
+    BinaryAttachment openPart(int part, InitializeUploadResponse.UploadInstruction instruction)
+        throws IOException;
+  }
 }
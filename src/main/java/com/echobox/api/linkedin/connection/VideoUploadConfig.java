@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for multi-part video uploads made by the {@link VideoConnection}.
+ * <p>
+ * LinkedIn accepts the parts of a video in any order, so several parts can be uploaded at the
+ * same time on an executor supplied by the caller. The ETags are still finalized in the order of
+ * the upload instructions. By default the parts are uploaded one at a time on the calling
+ * thread.
+ * @author Joanna
+ */
+@Builder
+@Getter
+public class VideoUploadConfig {
+
+  /**
+   * The maximum number of parts uploaded at the same time on the executor
+   */
+  @Builder.Default
+  private final int partsInFlight = 1;
+
+  /**
+   * The maximum number of times a part is attempted before the upload fails
+   */
+  @Builder.Default
+  private final int maxPartAttempts = 3;
+
+  /**
+   * How long to wait before retrying a part for the first time, doubling on each further retry
+   */
+  @Builder.Default
+  private final Duration retryBackoff = Duration.ofMillis(500);
+
+  /**
+   * The executor parts and the thumbnail are uploaded on, which should have a thread for each
+   * part in flight plus one for the thumbnail. {@code null} uploads them one after the other on
+   * the calling thread.
+   */
+  private final Executor executor;
+
+  /**
+   * The directory journals of uploads from files are kept in, so that an interrupted upload can
+   * be resumed by uploading the same file again. {@code null} disables resuming uploads.
+   */
+  private final Path journalDirectory;
+
+  /**
+   * Creates the default configuration
+   * @return the default configuration
+   */
+  public static VideoUploadConfig defaultConfig() {
+    return VideoUploadConfig.builder().build();
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.jsonmapper.JsonMapper;
+import com.echobox.api.linkedin.types.videos.InitializeUploadResponse;
+import com.echobox.api.linkedin.util.HashUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A small local journal of a multi-part video upload, so that an upload interrupted by a crash
+ * can be resumed without initializing it again or sending the parts that were already uploaded.
+ * <p>
+ * The first line of the journal is the initialized upload as JSON. Each uploaded part then
+ * appends a line with its index and ETag, synced to disk before the next part is recorded, so a
+ * crash loses at most the parts that were in flight. The journal is deleted once the upload is
+ * finalized, and {@link #cleanUp(Path, JsonMapper)} deletes journals whose upload URLs have
+ * expired. Failing to write the journal is logged rather than failing the upload, which can
+ * then only be resumed from the last record that was written.
+ * @author Joanna
+ */
+class VideoUploadJournal {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(VideoUploadJournal.class);
+
+  private static final String JOURNAL_EXTENSION = ".journal";
+
+  private static final String PART_RECORD = "part";
+
+  private static final String THUMBNAIL_RECORD = "thumbnail";
+
+  private static final String SEPARATOR = "\t";
+
+  /**
+   * How long a journal is kept if LinkedIn did not say when the upload URLs expire
+   */
+  private static final Duration DEFAULT_EXPIRY = Duration.ofDays(1);
+
+  private final Path file;
+
+  private final JsonMapper jsonMapper;
+
+  private InitializeUploadResponse.Value upload;
+
+  private final Map<Integer, String> uploadedParts = new HashMap<>();
+
+  private boolean thumbnailUploaded;
+
+  private VideoUploadJournal(Path file, JsonMapper jsonMapper) {
+    this.file = file;
+    this.jsonMapper = jsonMapper;
+  }
+
+  /**
+   * Open the journal of an upload, reading the progress of a previous attempt if there is one
+   * that has not expired
+   *
+   * @param directory the directory journals are kept in
+   * @param uploadKey identifies the upload, e.g. the file path, size and modification time
+   * @param jsonMapper maps the initialized upload to and from JSON
+   * @return the journal
+   * @throws IOException if the journal directory cannot be created
+   */
+  static VideoUploadJournal open(Path directory, String uploadKey, JsonMapper jsonMapper)
+      throws IOException {
+    Files.createDirectories(directory);
+    VideoUploadJournal journal = new VideoUploadJournal(
+        directory.resolve(HashUtils.sha256Hex(uploadKey) + JOURNAL_EXTENSION), jsonMapper);
+    if (Files.exists(journal.file)) {
+      journal.read();
+      if (journal.upload == null || journal.isExpired()) {
+        journal.delete();
+        journal.upload = null;
+        journal.uploadedParts.clear();
+        journal.thumbnailUploaded = false;
+      }
+    }
+    return journal;
+  }
+
+  /**
+   * Delete the journals in the directory whose uploads have expired or that cannot be read
+   *
+   * @param directory the directory journals are kept in
+   * @param jsonMapper maps the initialized upload from JSON
+   * @return the number of journals deleted
+   * @throws IOException if the directory cannot be listed
+   */
+  static int cleanUp(Path directory, JsonMapper jsonMapper) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return 0;
+    }
+    int deleted = 0;
+    try (DirectoryStream<Path> journals =
+        Files.newDirectoryStream(directory, "*" + JOURNAL_EXTENSION)) {
+      for (Path journalFile : journals) {
+        VideoUploadJournal journal = new VideoUploadJournal(journalFile, jsonMapper);
+        journal.read();
+        if (journal.upload == null || journal.isExpired()) {
+          journal.delete();
+          deleted++;
+        }
+      }
+    }
+    return deleted;
+  }
+
+  /**
+   * The upload recorded by a previous attempt
+   *
+   * @return the initialized upload, or {@code null} if there is nothing to resume
+   */
+  InitializeUploadResponse.Value getUpload() {
+    return upload;
+  }
+
+  /**
+   * The parts uploaded by a previous attempt
+   *
+   * @return the ETags of the uploaded parts, by the index of their upload instruction
+   */
+  Map<Integer, String> getUploadedParts() {
+    return Collections.unmodifiableMap(uploadedParts);
+  }
+
+  /**
+   * Whether a previous attempt uploaded the thumbnail
+   *
+   * @return true if the thumbnail was uploaded
+   */
+  boolean isThumbnailUploaded() {
+    return thumbnailUploaded;
+  }
+
+  /**
+   * Record a newly initialized upload, replacing anything previously recorded
+   *
+   * @param upload the initialized upload
+   */
+  synchronized void start(InitializeUploadResponse.Value upload) {
+    Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      Files.write(tempFile, (jsonMapper.toJson(upload, true) + "\n")
+          .getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE,
+          StandardOpenOption.DSYNC);
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException ex) {
+      LOGGER.warn("Unable to write video upload journal " + file, ex);
+    }
+    this.upload = upload;
+    uploadedParts.clear();
+    thumbnailUploaded = false;
+  }
+
+  /**
+   * Record an uploaded part
+   *
+   * @param part the index of the part's upload instruction
+   * @param etag the ETag of the part
+   */
+  synchronized void recordPart(int part, String etag) {
+    append(PART_RECORD + SEPARATOR + part + SEPARATOR + etag);
+    uploadedParts.put(part, etag);
+  }
+
+  /**
+   * Record that the thumbnail was uploaded
+   */
+  synchronized void recordThumbnail() {
+    append(THUMBNAIL_RECORD);
+    thumbnailUploaded = true;
+  }
+
+  /**
+   * Delete the journal once the upload has been finalized or can no longer be resumed
+   */
+  synchronized void delete() {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ex) {
+      LOGGER.warn("Unable to delete video upload journal " + file, ex);
+    }
+  }
+
+  private void append(String record) {
+    try {
+      Files.write(file, (record + "\n").getBytes(StandardCharsets.UTF_8),
+          StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+    } catch (IOException ex) {
+      LOGGER.warn("Unable to write video upload journal " + file, ex);
+    }
+  }
+
+  private void read() {
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+      if (!lines.isEmpty()) {
+        upload = jsonMapper.toJavaObject(lines.get(0), InitializeUploadResponse.Value.class);
+      }
+    } catch (IOException | RuntimeException ex) {
+      LOGGER.warn("Ignoring unreadable video upload journal " + file, ex);
+      upload = null;
+      return;
+    }
+
+    for (String line : lines.subList(1, lines.size())) {
+      String[] record = line.split(SEPARATOR, 3);
+      if (THUMBNAIL_RECORD.equals(record[0])) {
+        thumbnailUploaded = true;
+      } else if (PART_RECORD.equals(record[0]) && record.length == 3) {
+        // A record cut short by a crash is ignored, so that part is uploaded again
+        try {
+          uploadedParts.put(Integer.parseInt(record[1]), record[2]);
+        } catch (NumberFormatException ex) {
+          LOGGER.warn("Ignoring invalid record in video upload journal " + file);
+        }
+      }
+    }
+  }
+
+  private boolean isExpired() {
+    long now = System.currentTimeMillis();
+    if (upload.getUploadUrlExpiresAt() != null) {
+      return upload.getUploadUrlExpiresAt() <= now;
+    }
+    try {
+      return Files.getLastModifiedTime(file).toMillis() + DEFAULT_EXPIRY.toMillis() <= now;
+    } catch (IOException ex) {
+      return true;
+    }
+  }
+}
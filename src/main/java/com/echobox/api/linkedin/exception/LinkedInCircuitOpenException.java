@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.exception;
+
+/**
+ * Thrown without sending a request when the circuit of its resource is open, because recent
+ * requests to the resource have been failing
+ * @author Joanna
+ */
+public class LinkedInCircuitOpenException extends LinkedInException {
+
+  /**
+   * Default serial version UID
+   */
+  private static final long serialVersionUID = 1L;
+
+  private final String resourcePath;
+
+  private final long retryAfterMillis;
+
+  /**
+   * Initialise the circuit open exception
+   * @param resourcePath the resource path whose circuit is open
+   * @param retryAfterMillis how long until the circuit lets trial requests through
+   */
+  public LinkedInCircuitOpenException(String resourcePath, long retryAfterMillis) {
+    super(String.format("The circuit for %s is open, retry in %dms", resourcePath,
+        retryAfterMillis));
+    this.resourcePath = resourcePath;
+    this.retryAfterMillis = retryAfterMillis;
+  }
+
+  /**
+   * The resource path whose circuit is open
+   * @return the resource path
+   */
+  public String getResourcePath() {
+    return resourcePath;
+  }
+
+  /**
+   * How long until the circuit lets trial requests through
+   * @return the time in milliseconds
+   */
+  public long getRetryAfterMillis() {
+    return retryAfterMillis;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    // Thrown instead of making a request, so keep it cheap
+    return this;
+  }
+}
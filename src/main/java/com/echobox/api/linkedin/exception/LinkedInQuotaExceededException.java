@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.exception;
+
+/**
+ * Thrown without sending a request when the client-side budget for its resource has been used
+ * up, i.e. LinkedIn would most likely have rejected it with a 429
+ * @author Joanna
+ */
+public class LinkedInQuotaExceededException extends LinkedInException {
+
+  /**
+   * Default serial version UID
+   */
+  private static final long serialVersionUID = 1L;
+
+  private final String resourcePath;
+
+  private final long retryAfterMillis;
+
+  /**
+   * Initialise the quota exceeded exception
+   * @param resourcePath the resource path whose budget was used up
+   * @param retryAfterMillis how long until the budget allows another call
+   */
+  public LinkedInQuotaExceededException(String resourcePath, long retryAfterMillis) {
+    super(String.format("The call budget for %s is used up, retry in %dms", resourcePath,
+        retryAfterMillis));
+    this.resourcePath = resourcePath;
+    this.retryAfterMillis = retryAfterMillis;
+  }
+
+  /**
+   * The resource path whose budget was used up
+   * @return the resource path
+   */
+  public String getResourcePath() {
+    return resourcePath;
+  }
+
+  /**
+   * How long until the budget allows another call
+   * @return the time in milliseconds
+   */
+  public long getRetryAfterMillis() {
+    return retryAfterMillis;
+  }
+}
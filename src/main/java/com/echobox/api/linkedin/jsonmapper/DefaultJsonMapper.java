@@ -38,11 +38,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -51,6 +56,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.Collections.unmodifiableList;
@@ -286,60 +292,142 @@ public class DefaultJsonMapper implements JsonMapper {
         return null;
       }
 
-      JsonObject jsonObject = jsonValue.asObject();
+      return mapJsonObject(jsonValue.asObject(), instance, fieldsWithAnnotation,
+          linkedinFieldNamesWithMultipleMappings, () -> json);
+    } catch (LinkedInJsonMappingException e) {
+      throw e;
+    } catch (Exception e) {
+      return handleMappingFailure(json, type, e);
+    }
+  }
 
-      // For each LinkedIn-annotated field on the current Java object, pull data
-      // out of the JSON object and put it in the Java object
-      for (FieldWithAnnotation<LinkedIn> fieldWithAnnotation : fieldsWithAnnotation) {
-        String linkedinFieldName = getLinkedInFieldName(fieldWithAnnotation);
+  /**
+   * Maps UTF-8 encoded JSON objects onto {@link LinkedIn}-annotated types (or {@link JsonObject})
+   * straight from the bytes, without decoding them to a string first. Any other JSON or type is
+   * decoded and mapped by {@link #toJavaObject(String, Class)}, which handles its special cases.
+   *
+   * @see com.echobox.api.linkedin.jsonmapper.JsonMapper#toJavaObject(byte[], java.lang.Class)
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T toJavaObject(byte[] json, Class<T> type) {
+    if (type == null || type.equals(URN.class) || !isJsonObject(json)) {
+      return JsonMapper.super.toJavaObject(json, type);
+    }
 
-        if (jsonObject.get(linkedinFieldName) == null) {
-          LOGGER.trace("No JSON value present for '{}', skipping. JSON is '{}'.", linkedinFieldName, json);
-          continue;
-        }
+    List<FieldWithAnnotation<LinkedIn>> fieldsWithAnnotation =
+        ReflectionUtils.findFieldsWithAnnotation(type, LinkedIn.class);
+    if (fieldsWithAnnotation.isEmpty() && !type.equals(JsonObject.class)) {
+      return JsonMapper.super.toJavaObject(json, type);
+    }
 
-        fieldWithAnnotation.getField().setAccessible(true);
-
-        // Set the Java field's value.
-        //
-        // If we notice that this LinkedIn field name is mapped more than once,
-        // go into a special mode where we swallow any exceptions that occur
-        // when mapping to the Java field. This is because LinkedIn will
-        // sometimes return data in different formats for the same field name.
-        // See issues 56 and 90 for examples of this behavior and discussion.
-        if (linkedinFieldNamesWithMultipleMappings.contains(linkedinFieldName)) {
-          try {
-            fieldWithAnnotation.getField().set(instance,
-              toJavaType(fieldWithAnnotation, jsonObject, linkedinFieldName));
-          } catch (LinkedInJsonMappingException | ParseException | UnsupportedOperationException e) {
-            logMultipleMappingFailedForField(linkedinFieldName, fieldWithAnnotation, json);
-          }
-        } else {
-          try {
-            fieldWithAnnotation.getField().set(instance,
-              toJavaType(fieldWithAnnotation, jsonObject, linkedinFieldName));
-          } catch (Exception e) {
-            if (!jsonMappingErrorHandler.handleMappingError(json, type, e)) {
-              throw e;
-            }
-          }
-        }
+    JsonObject jsonObject;
+    try (Reader reader = new InputStreamReader(new ByteArrayInputStream(json),
+        StandardCharsets.UTF_8)) {
+      jsonObject = Json.parse(reader).asObject();
+    } catch (IOException | ParseException e) {
+      // Report the malformed JSON in the same way as the string mapping
+      return JsonMapper.super.toJavaObject(json, type);
+    }
+
+    try {
+      if (type.equals(JsonObject.class)) {
+        return (T) jsonObject;
       }
 
-      // If there are any methods annotated with @JsonMappingCompleted,
-      // invoke them.
-      invokeJsonMappingCompletedMethods(instance);
+      T instance = ReflectionUtils.createInstance(type);
+      if (instance instanceof JsonObject) {
+        return (T) jsonObject;
+      }
 
-      return instance;
+      return mapJsonObject(jsonObject, instance, fieldsWithAnnotation,
+          linkedInFieldNamesWithMultipleMappings(fieldsWithAnnotation), jsonObject::toString);
     } catch (LinkedInJsonMappingException e) {
       throw e;
     } catch (Exception e) {
-      if (jsonMappingErrorHandler.handleMappingError(json, type, e)) {
-        return null;
+      return handleMappingFailure(jsonObject.toString(), type, e);
+    }
+  }
+
+  private static boolean isJsonObject(byte[] json) {
+    for (byte b : json) {
+      if (!Character.isWhitespace(b)) {
+        return b == '{';
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Pull data out of the JSON object into each {@link LinkedIn}-annotated field of the instance
+   *
+   * @param jsonObject the JSON object to map
+   * @param instance the new instance to map into
+   * @param fieldsWithAnnotation the annotated fields of the instance
+   * @param linkedinFieldNamesWithMultipleMappings the LinkedIn field names mapped to more than one
+   *                                               field
+   * @param json supplies the JSON text for logging and error handling
+   * @param <T> Java type to map to.
+   * @return the mapped instance
+   * @throws Exception if a field cannot be mapped and the error handler does not handle it
+   */
+  private <T> T mapJsonObject(JsonObject jsonObject, T instance,
+      List<FieldWithAnnotation<LinkedIn>> fieldsWithAnnotation,
+      Set<String> linkedinFieldNamesWithMultipleMappings, Supplier<String> json) throws Exception {
+    // For each LinkedIn-annotated field on the current Java object, pull data
+    // out of the JSON object and put it in the Java object
+    for (FieldWithAnnotation<LinkedIn> fieldWithAnnotation : fieldsWithAnnotation) {
+      String linkedinFieldName = getLinkedInFieldName(fieldWithAnnotation);
+
+      if (jsonObject.get(linkedinFieldName) == null) {
+        if (LOGGER.isTraceEnabled()) {
+          LOGGER.trace("No JSON value present for '{}', skipping. JSON is '{}'.", linkedinFieldName,
+              json.get());
+        }
+        continue;
+      }
+
+      fieldWithAnnotation.getField().setAccessible(true);
+
+      // Set the Java field's value.
+      //
+      // If we notice that this LinkedIn field name is mapped more than once,
+      // go into a special mode where we swallow any exceptions that occur
+      // when mapping to the Java field. This is because LinkedIn will
+      // sometimes return data in different formats for the same field name.
+      // See issues 56 and 90 for examples of this behavior and discussion.
+      if (linkedinFieldNamesWithMultipleMappings.contains(linkedinFieldName)) {
+        try {
+          fieldWithAnnotation.getField().set(instance,
+            toJavaType(fieldWithAnnotation, jsonObject, linkedinFieldName));
+        } catch (LinkedInJsonMappingException | ParseException | UnsupportedOperationException e) {
+          logMultipleMappingFailedForField(linkedinFieldName, fieldWithAnnotation, json.get());
+        }
       } else {
-        throw new LinkedInJsonMappingException("Unable to map JSON to Java. Offending JSON is '" + json + "'.", e);
+        try {
+          fieldWithAnnotation.getField().set(instance,
+            toJavaType(fieldWithAnnotation, jsonObject, linkedinFieldName));
+        } catch (Exception e) {
+          if (!jsonMappingErrorHandler.handleMappingError(json.get(), instance.getClass(), e)) {
+            throw e;
+          }
+        }
       }
     }
+
+    // If there are any methods annotated with @JsonMappingCompleted,
+    // invoke them.
+    invokeJsonMappingCompletedMethods(instance);
+
+    return instance;
+  }
+
+  private <T> T handleMappingFailure(String json, Class<T> type, Exception e) {
+    if (jsonMappingErrorHandler.handleMappingError(json, type, e)) {
+      return null;
+    } else {
+      throw new LinkedInJsonMappingException("Unable to map JSON to Java. Offending JSON is '" + json + "'.", e);
+    }
   }
 
   /**
@@ -30,6 +30,7 @@ import com.echobox.api.linkedin.exception.LinkedInJsonMappingException;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -62,6 +63,27 @@ public interface JsonMapper {
    */
   <T> T toJavaObject(String json, Class<T> type);
 
+  /**
+   * Given UTF-8 encoded JSON, create and return a new instance of a corresponding Java object of
+   * type {@code type}. Implementations may parse the bytes directly instead of first decoding
+   * them to a string, which saves a full copy of large responses.
+   * <p>
+   * The Java {@code type} must have a no-argument constructor.
+   * 
+   * @param <T>
+   *          Java type to map to.
+   * @param json
+   *          The UTF-8 encoded JSON to be mapped to a Java type.
+   * @param type
+   *          Java type token.
+   * @return A Java object (of type {@code type}) representation of the JSON input.
+   * @throws LinkedInJsonMappingException
+   *           If an error occurs while mapping JSON to Java.
+   */
+  default <T> T toJavaObject(byte[] json, Class<T> type) {
+    return toJavaObject(new String(json, StandardCharsets.UTF_8).trim(), type);
+  }
+
   /**
    * Given a JSON string, create and return a new instance of a corresponding Java
    * {@link java.util.List} which contains elements of type {@code type}.
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Hashes strings that should not be kept or written as they are, such as access tokens and
+ * upload keys
+ * @author Joanna
+ */
+public final class HashUtils {
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private HashUtils() {
+  }
+
+  /**
+   * Gets the SHA-256 digest of a string as lower case hex
+   * @param value the string, encoded as UTF-8
+   * @return the 64 character hex digest
+   */
+  public static String sha256Hex(String value) {
+    if (value == null) {
+      throw new IllegalArgumentException("The 'value' parameter cannot be null.");
+    }
+    byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not supported", ex);
+    }
+    char[] hex = new char[digest.length * 2];
+    for (int index = 0; index < digest.length; index++) {
+      hex[index * 2] = HEX_DIGITS[(digest[index] >> 4) & 0xF];
+      hex[index * 2 + 1] = HEX_DIGITS[digest[index] & 0xF];
+    }
+    return new String(hex);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.util;
+
+import com.echobox.api.linkedin.jsonmapper.LinkedIn;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.util.ReflectionUtils.FieldWithAnnotation;
+import com.eclipsesource.json.JsonValue;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds Rest.li field projections, e.g. {@code id,name:(localized,preferredLocale)}, from the
+ * {@link LinkedIn}-annotated fields of a type so that LinkedIn only returns the fields the type
+ * maps. The projection of each type is built once and cached.
+ * @author Joanna
+ */
+public final class ProjectionUtils {
+
+  /**
+   * Marks a type that has no annotated fields, as a cache value cannot be null
+   */
+  private static final String NO_PROJECTION = "";
+
+  private static final Map<Class<?>, String> PROJECTIONS = new ConcurrentHashMap<>();
+
+  private ProjectionUtils() {
+  }
+
+  /**
+   * Gets the field projection of a type. Fields whose type has annotated fields of its own are
+   * projected recursively. Lists, maps and types referring back to a type being projected are
+   * requested whole. Decorated fields such as {@code original~} and special fields such as
+   * {@code $URN} cannot be projected by name and are left out, so LinkedIn does not return them
+   * and they are not mapped: a type whose decoration data is needed should be fetched with its
+   * own {@code fields} parameter.
+   *
+   * @param type the type the response is mapped to
+   * @return the field projection, or {@code null} if the type has no annotated fields
+   */
+  public static String getProjection(Class<?> type) {
+    String projection = PROJECTIONS.get(type);
+    if (projection == null) {
+      projection = buildProjection(type, new HashSet<>());
+      PROJECTIONS.putIfAbsent(type, projection);
+    }
+    return projection.isEmpty() ? null : projection;
+  }
+
+  private static String buildProjection(Class<?> type, Set<Class<?>> projecting) {
+    if (!isProjectable(type) || !projecting.add(type)) {
+      return NO_PROJECTION;
+    }
+    // Several fields can map the same LinkedIn field, in which case it is requested whole
+    Map<String, String> fields = new LinkedHashMap<>();
+    for (FieldWithAnnotation<LinkedIn> fieldWithAnnotation
+        : ReflectionUtils.findFieldsWithAnnotation(type, LinkedIn.class)) {
+      String name = StringUtils.defaultIfBlank(fieldWithAnnotation.getAnnotation().value(),
+          fieldWithAnnotation.getField().getName());
+      if (name.startsWith("$") || name.endsWith("~")) {
+        continue;
+      }
+      String nested = buildProjection(fieldWithAnnotation.getField().getType(), projecting);
+      fields.merge(name, nested, (first, second) -> NO_PROJECTION);
+    }
+    projecting.remove(type);
+
+    StringBuilder projection = new StringBuilder();
+    fields.forEach((name, nested) -> {
+      projection.append(projection.length() == 0 ? "" : ",").append(name);
+      if (!nested.isEmpty()) {
+        projection.append(":(").append(nested).append(')');
+      }
+    });
+    return projection.toString();
+  }
+
+  private static boolean isProjectable(Class<?> type) {
+    return !type.isPrimitive() && !type.isEnum() && !type.isArray()
+        && !type.getName().startsWith("java.") && !URN.class.equals(type)
+        && !Date.class.isAssignableFrom(type) && !Collection.class.isAssignableFrom(type)
+        && !Map.class.isAssignableFrom(type) && !JsonValue.class.isAssignableFrom(type);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test for {@link BinaryAttachment}
+ * @author Joanna
+ */
+public class BinaryAttachmentTest {
+
+  private Path file;
+
+  /**
+   * Create a file to attach
+   * @throws IOException IOException
+   */
+  @Before
+  public void createFile() throws IOException {
+    file = Files.createTempFile("attachment", ".mp4");
+    Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Delete the file
+   * @throws IOException IOException
+   */
+  @After
+  public void deleteFile() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Test a file attachment is streamed from the file each time it is read
+   * @throws IOException IOException
+   */
+  @Test
+  public void testFile() throws IOException {
+    BinaryAttachment attachment = BinaryAttachment.with("video.mp4", file, null);
+
+    assertFalse(attachment.isInMemory());
+    assertTrue(attachment.isRepeatable());
+    assertEquals(10, attachment.getLength());
+    assertEquals("video/mp4", attachment.getContentType());
+    assertArrayEquals(readAll(attachment), readAll(attachment));
+    assertEquals("0123456789", new String(readAll(attachment), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Test only the requested range of a file is read
+   * @throws IOException IOException
+   */
+  @Test
+  public void testFileRange() throws IOException {
+    BinaryAttachment attachment =
+        BinaryAttachment.with("video.mp4", file, 3, 4, "application/octet-stream");
+
+    assertEquals(4, attachment.getLength());
+    assertEquals("3456", new String(readAll(attachment), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Test a stream attachment can only be streamed, not read into memory
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testStreamHasNoData() {
+    BinaryAttachment attachment = BinaryAttachment.with("image.png",
+        new ByteArrayInputStream(new byte[] {1, 2, 3}), 3, null);
+
+    assertFalse(attachment.isRepeatable());
+    assertEquals("image/png", attachment.getContentType());
+    attachment.getData();
+  }
+
+  private static byte[] readAll(BinaryAttachment attachment) throws IOException {
+    try (InputStream inputStream = attachment.getDataInputStream()) {
+      return inputStream.readAllBytes();
+    }
+  }
+}
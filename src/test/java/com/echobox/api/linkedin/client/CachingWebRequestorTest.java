@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.organization.Organization;
+import com.echobox.api.linkedin.version.Version;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test for {@link CachingWebRequestor}
+ * @author Joanna
+ */
+public class CachingWebRequestorTest {
+
+  private static final String ORGANIZATION = "/organizations/1";
+
+  /**
+   * Test a repeated GET is revalidated with its ETag and the cached body is mapped on a 304
+   * @throws Exception Exception
+   */
+  @Test
+  public void testNotModifiedServesCachedBody() throws Exception {
+    StubRequestor stub = new StubRequestor();
+    CachingWebRequestor requestor =
+        new CachingWebRequestor(stub, ResponseCacheConfig.defaultConfig());
+    DefaultLinkedInClient client = createClient(requestor);
+
+    Assert.assertEquals(1L, client.fetchObject(ORGANIZATION, Organization.class).getId());
+    Organization organization = client.fetchObject(ORGANIZATION, Organization.class);
+
+    Assert.assertEquals(1L, organization.getId());
+    Assert.assertEquals("Echobox", organization.getLocalizedName());
+    Assert.assertNull(stub.conditions.get(0));
+    Assert.assertEquals("\"v1\"", stub.conditions.get(1));
+    Assert.assertEquals(1, requestor.getCache().getMisses());
+    Assert.assertEquals(1, requestor.getCache().getRevalidations());
+    Assert.assertEquals(1, requestor.getCache().getHits());
+
+    // A changed organization is downloaded and replaces the cached one
+    stub.etag = "\"v2\"";
+    stub.name = "Echobox Ltd";
+    Assert.assertEquals("Echobox Ltd",
+        client.fetchObject(ORGANIZATION, Organization.class).getLocalizedName());
+    client.fetchObject(ORGANIZATION, Organization.class);
+    Assert.assertEquals("\"v2\"", stub.conditions.get(3));
+    Assert.assertEquals(2, requestor.getCache().getHits());
+    Assert.assertEquals(1, requestor.getCache().getSize());
+  }
+
+  /**
+   * Test a DELETE removes the cached response of its URL
+   * @throws Exception Exception
+   */
+  @Test
+  public void testDeleteInvalidates() throws Exception {
+    StubRequestor stub = new StubRequestor();
+    CachingWebRequestor requestor =
+        new CachingWebRequestor(stub, ResponseCacheConfig.defaultConfig());
+    DefaultLinkedInClient client = createClient(requestor);
+
+    client.fetchObject(ORGANIZATION, Organization.class);
+    Assert.assertEquals(1, requestor.getCache().getSize());
+    client.deleteObject(ORGANIZATION);
+    Assert.assertEquals(0, requestor.getCache().getSize());
+
+    client.fetchObject(ORGANIZATION, Organization.class);
+    Assert.assertNull(stub.conditions.get(1));
+    Assert.assertEquals(2, requestor.getCache().getMisses());
+  }
+
+  /**
+   * Test the least recently used responses are evicted to keep within the bounds
+   * @throws Exception Exception
+   */
+  @Test
+  public void testEvictsLeastRecentlyUsed() throws Exception {
+    StubRequestor stub = new StubRequestor();
+    CachingWebRequestor requestor = new CachingWebRequestor(stub,
+        ResponseCacheConfig.builder().maxEntries(2).build());
+    DefaultLinkedInClient client = createClient(requestor);
+
+    client.fetchObject("/organizations/1", Organization.class);
+    client.fetchObject("/organizations/2", Organization.class);
+    client.fetchObject("/organizations/1", Organization.class);
+    client.fetchObject("/organizations/3", Organization.class);
+
+    Assert.assertEquals(2, requestor.getCache().getSize());
+    Assert.assertEquals(1, requestor.getCache().getEvictions());
+    client.fetchObject("/organizations/1", Organization.class);
+    client.fetchObject("/organizations/2", Organization.class);
+    Assert.assertEquals(2, requestor.getCache().getHits());
+    Assert.assertEquals(4, requestor.getCache().getMisses());
+
+    requestor.getCache().clear();
+    Assert.assertEquals(0, requestor.getCache().getBytes());
+  }
+
+  /**
+   * Test invalidating a URL only removes the responses of its path, whatever their query, and
+   * keeps the byte count in step after evictions
+   */
+  @Test
+  public void testInvalidateRemovesOnlyItsPath() {
+    ResponseCache cache = new ResponseCache(ResponseCacheConfig.builder().maxEntries(3).build());
+    for (String url : new String[] {"/posts/1", "/posts/1?fields=id", "/posts/2", "/posts/1"}) {
+      cache.put(url, url, new ResponseCache.Entry(
+          new WebRequestor.Response(200, Collections.emptyMap(), "{}"), "etag", null));
+    }
+    cache.put("/posts/3", "/posts/3", new ResponseCache.Entry(
+        new WebRequestor.Response(200, Collections.emptyMap(), "{}"), "etag", null));
+    Assert.assertEquals(3, cache.getSize());
+    Assert.assertEquals(1, cache.getEvictions());
+
+    cache.invalidate("/posts/1?fields=id");
+    Assert.assertEquals(2, cache.getSize());
+    Assert.assertNotNull(cache.get("/posts/2"));
+    Assert.assertNull(cache.get("/posts/1"));
+
+    cache.invalidate("/posts/2");
+    cache.invalidate("/posts/3");
+    Assert.assertEquals(0, cache.getSize());
+    Assert.assertEquals(0, cache.getBytes());
+  }
+
+  private static DefaultLinkedInClient createClient(WebRequestor requestor) {
+    return new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED);
+  }
+
+  /**
+   * Web requestor that answers a GET with a 304 if it carries the current ETag
+   */
+  private static class StubRequestor extends DefaultWebRequestor {
+
+    private final List<String> conditions = new ArrayList<>();
+
+    private String etag = "\"v1\"";
+
+    private String name = "Echobox";
+
+    StubRequestor() throws GeneralSecurityException, IOException {
+      super("test");
+    }
+
+    @Override
+    public Response executeGet(String url, Map<String, String> headers) {
+      String condition = headers.get("If-None-Match");
+      conditions.add(condition);
+      if (etag.equals(condition)) {
+        return new Response(304, Collections.singletonMap("etag", etag), "");
+      }
+      String id = url.substring(url.lastIndexOf('/') + 1);
+      return new Response(200, Collections.singletonMap("etag", etag),
+          "{\"id\":" + id + ",\"localizedName\":\"" + name + "\"}");
+    }
+
+    @Override
+    public Response executeDelete(String url, Map<String, String> headers) {
+      return new Response(204, Collections.emptyMap(), "");
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.exception.LinkedInCircuitOpenException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for {@link CircuitBreaker}
+ * @author Joanna
+ */
+public class CircuitBreakerTest {
+
+  private static final String STATISTICS = "/organizationalEntityShareStatistics";
+
+  private static final WebRequestor.Response GATEWAY_TIMEOUT =
+      new WebRequestor.Response(504, null, null);
+
+  private static final WebRequestor.Response OK = new WebRequestor.Response(200, null, "{}");
+
+  /**
+   * Test a circuit opens after consecutive failures, only for the failing resource path
+   */
+  @Test
+  public void testOpensAfterConsecutiveFailures() {
+    CircuitBreaker breaker = new CircuitBreaker(CircuitBreakerConfig.builder()
+        .failureThreshold(3).build());
+    List<String> changes = new ArrayList<>();
+    breaker.addListener((resourcePath, from, to) -> changes.add(resourcePath + ":" + to));
+
+    call(breaker, STATISTICS, GATEWAY_TIMEOUT);
+    call(breaker, STATISTICS, GATEWAY_TIMEOUT);
+    call(breaker, STATISTICS, new WebRequestor.Response(404, null, null));
+    call(breaker, STATISTICS, GATEWAY_TIMEOUT);
+    call(breaker, STATISTICS, GATEWAY_TIMEOUT);
+    Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(STATISTICS));
+
+    breaker.acquirePermission(STATISTICS);
+    breaker.onResult(STATISTICS, null, new IOException("Read timed out"));
+    Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState(STATISTICS));
+    Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("/posts"));
+    breaker.acquirePermission("/posts");
+
+    try {
+      breaker.acquirePermission(STATISTICS);
+      Assert.fail("Expected the circuit to be open");
+    } catch (LinkedInCircuitOpenException ex) {
+      Assert.assertEquals(STATISTICS, ex.getResourcePath());
+      Assert.assertTrue(ex.getRetryAfterMillis() > 0);
+    }
+    Assert.assertEquals(1, changes.size());
+    Assert.assertEquals(STATISTICS + ":OPEN", changes.get(0));
+  }
+
+  /**
+   * Test a half-open circuit lets a trial request through and closes if it succeeds
+   * @throws Exception Exception
+   */
+  @Test
+  public void testHalfOpenTrialCloses() throws Exception {
+    CircuitBreaker breaker = openCircuit();
+    Thread.sleep(60);
+
+    breaker.acquirePermission(STATISTICS);
+    Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(STATISTICS));
+    try {
+      breaker.acquirePermission(STATISTICS);
+      Assert.fail("Expected only one trial request");
+    } catch (LinkedInCircuitOpenException ex) {
+      // Expected
+    }
+    breaker.onResult(STATISTICS, OK, null);
+    Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(STATISTICS));
+  }
+
+  /**
+   * Test a half-open circuit opens again if its trial request fails
+   * @throws Exception Exception
+   */
+  @Test
+  public void testHalfOpenTrialReopens() throws Exception {
+    CircuitBreaker breaker = openCircuit();
+    Thread.sleep(60);
+
+    call(breaker, STATISTICS, GATEWAY_TIMEOUT);
+    Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState(STATISTICS));
+  }
+
+  /**
+   * Test an open circuit fails requests through the client without sending them
+   * @throws Exception Exception
+   */
+  @Test
+  public void testClientFailsFast() throws Exception {
+    DefaultLinkedInClient client = new DefaultLinkedInClient("test");
+    client.setCircuitBreaker(new CircuitBreaker(CircuitBreakerConfig.builder()
+        .failureThreshold(2).build()));
+    String url = "https://api.linkedin.com/rest" + STATISTICS + "?q=organizationalEntity";
+    AtomicInteger sent = new AtomicInteger();
+    int rejected = 0;
+    for (int request = 0; request < 5; request++) {
+      try {
+        client.makeRequestAndProcessResponse(url, RequestType.GET, true, () -> {
+          sent.incrementAndGet();
+          return GATEWAY_TIMEOUT;
+        });
+      } catch (LinkedInCircuitOpenException ex) {
+        rejected++;
+      }
+    }
+    Assert.assertEquals(2, sent.get());
+    Assert.assertEquals(3, rejected);
+  }
+
+  private static CircuitBreaker openCircuit() {
+    CircuitBreaker breaker = new CircuitBreaker(CircuitBreakerConfig.builder()
+        .failureThreshold(1).openDuration(Duration.ofMillis(50)).build());
+    call(breaker, STATISTICS, GATEWAY_TIMEOUT);
+    Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState(STATISTICS));
+    return breaker;
+  }
+
+  private static void call(CircuitBreaker breaker, String resourcePath,
+      WebRequestor.Response response) {
+    breaker.acquirePermission(resourcePath);
+    breaker.onResult(resourcePath, response, null);
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for {@link ConcurrencyLimiter} and {@link ConcurrencyLimitingWebRequestor}
+ * @author Joanna
+ */
+public class ConcurrencyLimiterTest {
+
+  private static final String HOST = "api.linkedin.com";
+
+  /**
+   * Test the limit rises while latency is flat and the limit is used
+   * @throws Exception Exception
+   */
+  @Test
+  public void testAdditiveIncrease() throws Exception {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimiterConfig.builder()
+        .initialLimit(2).build());
+    for (int request = 0; request < 20; request++) {
+      limiter.acquire(HOST);
+      limiter.acquire(HOST);
+      limiter.release(HOST, 1_000_000, false);
+      limiter.release(HOST, 1_000_000, false);
+    }
+    Assert.assertTrue(limiter.getLimit(HOST) > 2);
+    Assert.assertEquals(0, limiter.getInFlight(HOST));
+  }
+
+  /**
+   * Test the limit is cut on a 429 and on rising latency, but not below the minimum
+   * @throws Exception Exception
+   */
+  @Test
+  public void testMultiplicativeDecrease() throws Exception {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimiterConfig.builder()
+        .initialLimit(10).minLimit(2).backoffRatio(0.5).build());
+    limiter.acquire(HOST);
+    limiter.release(HOST, 1_000_000, true);
+    Assert.assertEquals(5, limiter.getLimit(HOST));
+
+    limiter.acquire(HOST);
+    limiter.release(HOST, 1_000_000, false);
+    limiter.acquire(HOST);
+    limiter.release(HOST, 10_000_000, false);
+    Assert.assertEquals(2, limiter.getLimit(HOST));
+    Assert.assertEquals(10, limiter.getLimit("upload.linkedin.com"));
+  }
+
+  /**
+   * Test requests over the limit queue until a request completes
+   * @throws Exception Exception
+   */
+  @Test
+  public void testQueue() throws Exception {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimiterConfig.builder()
+        .initialLimit(1).build());
+    limiter.acquire(HOST);
+    CompletableFuture<Void> waiting = limiter.acquireAsync(HOST);
+    CompletableFuture<Void> cancelled = limiter.acquireAsync(HOST);
+    Assert.assertFalse(waiting.isDone());
+    Assert.assertEquals(2, limiter.getQueueDepth(HOST));
+
+    cancelled.cancel(false);
+    limiter.release(HOST);
+    Assert.assertTrue(waiting.isDone());
+    Assert.assertEquals(1, limiter.getInFlight(HOST));
+    limiter.release(HOST);
+    Assert.assertEquals(0, limiter.getInFlight(HOST));
+    Assert.assertEquals(0, limiter.getQueueDepth(HOST));
+  }
+
+  /**
+   * Test the web requestor never has more requests in flight to a host than the limit
+   * @throws Exception Exception
+   */
+  @Test
+  public void testWebRequestorLimitsInFlight() throws Exception {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    WebRequestor slowRequestor = new DefaultWebRequestor("test") {
+      @Override
+      public Response executeGet(String url, Map<String, String> headers) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(5);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+        inFlight.decrementAndGet();
+        return new Response(429, Collections.emptyMap(), "{}");
+      }
+    };
+    ConcurrencyLimitingWebRequestor requestor = new ConcurrencyLimitingWebRequestor(
+        slowRequestor, new ConcurrencyLimiter(ConcurrencyLimiterConfig.builder()
+            .initialLimit(4).build()));
+
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      List<Future<WebRequestor.Response>> responses = new ArrayList<>();
+      for (int request = 0; request < 64; request++) {
+        responses.add(executor.submit(() -> requestor.executeGet("https://" + HOST
+            + "/rest/posts", Collections.emptyMap())));
+      }
+      for (Future<WebRequestor.Response> response : responses) {
+        Assert.assertEquals(429, response.get(30, TimeUnit.SECONDS).getStatusCode().intValue());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertTrue(maxInFlight.get() <= 4);
+    Assert.assertEquals(1, requestor.getLimiter().getLimit(HOST));
+    Assert.assertEquals(0, requestor.getLimiter().getInFlight(HOST));
+  }
+
+  /**
+   * Test the host of request URLs
+   */
+  @Test
+  public void testGetHost() {
+    Assert.assertEquals(HOST,
+        ConcurrencyLimitingWebRequestor.getHost("https://api.linkedin.com/rest/posts?q=a"));
+    Assert.assertEquals("localhost:8080",
+        ConcurrencyLimitingWebRequestor.getHost("http://localhost:8080?x=1"));
+  }
+}
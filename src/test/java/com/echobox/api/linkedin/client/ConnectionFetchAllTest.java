@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.version.Version;
+import com.eclipsesource.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test for {@link Connection#fetchAll(int, java.util.concurrent.Executor)}
+ * @author Joanna
+ */
+public class ConnectionFetchAllTest {
+
+  private static final int TOTAL = 23;
+
+  /**
+   * Test the remaining pages are fetched concurrently, within the parallelism, and returned in
+   * order
+   * @throws Exception Exception
+   */
+  @Test
+  public void testFetchesPagesConcurrently() throws Exception {
+    SlowRequestor requestor = new SlowRequestor(true);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<JsonObject> elements = fetchConnection(requestor).fetchAll(3, executor);
+
+      Assert.assertEquals(IntStream.range(0, TOTAL).boxed().collect(Collectors.toList()),
+          ids(elements));
+      Assert.assertEquals(List.of(0, 5, 10, 15, 20), sorted(requestor.getStarts()));
+      Assert.assertTrue(requestor.maxInFlight.get() > 1);
+      Assert.assertTrue(requestor.maxInFlight.get() <= 3);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Test the pages are fetched one after the other when the total is unknown
+   * @throws Exception Exception
+   */
+  @Test
+  public void testFallsBackToSequentialPaging() throws Exception {
+    SlowRequestor requestor = new SlowRequestor(false);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      Connection<JsonObject> connection = fetchConnection(requestor);
+      Assert.assertNull(connection.getTotal());
+
+      List<JsonObject> elements = connection.fetchAll(3, executor);
+
+      Assert.assertEquals(TOTAL, elements.size());
+      Assert.assertEquals(List.of(0, 5, 10, 15, 20), requestor.getStarts());
+      Assert.assertEquals(1, requestor.maxInFlight.get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static Connection<JsonObject> fetchConnection(SlowRequestor requestor) {
+    DefaultLinkedInClient client =
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED);
+    return client.fetchConnection("/organizationalEntityShareStatistics", JsonObject.class,
+        Parameter.with("count", 5));
+  }
+
+  private static List<Integer> ids(List<JsonObject> elements) {
+    return elements.stream().map(element -> element.getInt("id", -1))
+        .collect(Collectors.toList());
+  }
+
+  private static List<Integer> sorted(List<Integer> starts) {
+    List<Integer> sorted = new ArrayList<>(starts);
+    Collections.sort(sorted);
+    return sorted;
+  }
+
+  /**
+   * Web requestor serving 23 elements in pages of 5, slowly enough for pages to overlap
+   */
+  private static class SlowRequestor extends PagedStubRequestor {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    SlowRequestor(boolean withTotal) throws GeneralSecurityException, IOException {
+      super(TOTAL, 5, withTotal);
+    }
+
+    @Override
+    public Response executeGet(String url, Map<String, String> headers) throws IOException {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IOException(ex);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+      return super.executeGet(url, headers);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.exception.LinkedInNetworkException;
+import com.echobox.api.linkedin.exception.LinkedInOAuthException;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.organization.Organization;
+import com.echobox.api.linkedin.version.Version;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for {@link DefaultAsyncLinkedInClient}
+ * @author Joanna
+ */
+public class DefaultAsyncLinkedInClientTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  /**
+   * Shut down the executor
+   */
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Test a successful response is mapped to the requested type
+   * @throws Exception Exception
+   */
+  @Test
+  public void testFetchObject() throws Exception {
+    StubAsyncWebRequestor requestor = new StubAsyncWebRequestor(
+        CompletableFuture.completedFuture(new WebRequestor.Response(200, null, "{\"id\":123}")));
+    Organization organization = createClient(requestor)
+        .fetchObject("organizations/123", Organization.class).get();
+
+    Assert.assertEquals(123L, organization.getId());
+    Assert.assertEquals("https://api.linkedin.com/rest/organizations/123", requestor.url);
+  }
+
+  /**
+   * Test an error status completes the future with the same exception the blocking client throws
+   * @throws Exception Exception
+   */
+  @Test
+  public void testErrorResponseMapping() throws Exception {
+    StubAsyncWebRequestor requestor = new StubAsyncWebRequestor(
+        CompletableFuture.completedFuture(new WebRequestor.Response(401, null,
+            "{\"serviceErrorCode\":65600,\"message\":\"Invalid access token\",\"status\":401}")));
+    try {
+      createClient(requestor).fetchObject("organizations/123", Organization.class).get();
+      Assert.fail("Expected the request to fail");
+    } catch (ExecutionException ex) {
+      Assert.assertTrue(ex.getCause() instanceof LinkedInOAuthException);
+    }
+  }
+
+  /**
+   * Test a failure to send the request completes the future with a LinkedInNetworkException
+   * @throws Exception Exception
+   */
+  @Test
+  public void testNetworkFailure() throws Exception {
+    IOException ioException = new IOException("Connection reset");
+    StubAsyncWebRequestor requestor =
+        new StubAsyncWebRequestor(CompletableFuture.failedFuture(ioException));
+    try {
+      createClient(requestor).deleteObject("organizations/123").get();
+      Assert.fail("Expected the request to fail");
+    } catch (ExecutionException ex) {
+      Assert.assertTrue(ex.getCause() instanceof LinkedInNetworkException);
+      Assert.assertSame(ioException, ex.getCause().getCause());
+    }
+  }
+
+  /**
+   * Test a blocking web requestor is adapted to run on the executor
+   * @throws Exception Exception
+   */
+  @Test
+  public void testBlockingWebRequestor() throws Exception {
+    WebRequestor webRequestor = new DefaultWebRequestor("test") {
+      @Override
+      public Response executeGet(String url, Map<String, String> headers) {
+        return new Response(200, Collections.emptyMap(), "{\"id\":456}");
+      }
+    };
+    DefaultLinkedInClient client =
+        new DefaultLinkedInClient(webRequestor, new DefaultJsonMapper(), Version.VERSIONED);
+    Organization organization = new DefaultAsyncLinkedInClient(client, executor)
+        .fetchObject("organizations/456", Organization.class).get();
+
+    Assert.assertEquals(456L, organization.getId());
+  }
+
+  /**
+   * Test a network failure is retried without blocking and the retried response is mapped
+   * @throws Exception Exception
+   */
+  @Test
+  public void testRetryNetworkFailure() throws Exception {
+    AtomicInteger attempts = new AtomicInteger();
+    AsyncWebRequestor requestor = new StubAsyncWebRequestor(null) {
+      @Override
+      public CompletableFuture<WebRequestor.Response> executeGetAsync(String url,
+          Map<String, String> headers) {
+        return attempts.incrementAndGet() < 3
+            ? CompletableFuture.failedFuture(new IOException("Connection reset"))
+            : CompletableFuture.completedFuture(new WebRequestor.Response(200, null,
+                "{\"id\":789}"));
+      }
+    };
+    DefaultLinkedInClient client = new DefaultLinkedInClient("test");
+    client.setRetryPolicy(RetryPolicy.builder().initialDelay(Duration.ofMillis(10)).build());
+    Organization organization = new DefaultAsyncLinkedInClient(client, requestor, executor)
+        .fetchObject("organizations/789", Organization.class).get();
+
+    Assert.assertEquals(789L, organization.getId());
+    Assert.assertEquals(3, attempts.get());
+    Assert.assertEquals(2, client.getRetryPolicy().getMetrics().getRetries());
+  }
+
+  private DefaultAsyncLinkedInClient createClient(AsyncWebRequestor requestor)
+      throws Exception {
+    DefaultLinkedInClient client = new DefaultLinkedInClient("test");
+    return new DefaultAsyncLinkedInClient(client, requestor, executor);
+  }
+
+  /**
+   * Async web requestor that records the requested URL and returns a fixed response
+   */
+  private static class StubAsyncWebRequestor implements AsyncWebRequestor {
+
+    private final CompletableFuture<WebRequestor.Response> response;
+
+    private volatile String url;
+
+    StubAsyncWebRequestor(CompletableFuture<WebRequestor.Response> response) {
+      this.response = response;
+    }
+
+    @Override
+    public CompletableFuture<WebRequestor.Response> executeGetAsync(String url,
+        Map<String, String> headers) {
+      this.url = url;
+      return response;
+    }
+
+    @Override
+    public CompletableFuture<WebRequestor.Response> executePostAsync(String url,
+        String parameters, String jsonBody, Map<String, String> headers,
+        BinaryAttachment... binaryAttachments) {
+      this.url = url;
+      return response;
+    }
+
+    @Override
+    public CompletableFuture<WebRequestor.Response> executePutAsync(String url,
+        String parameters, String jsonBody, Map<String, String> headers,
+        BinaryAttachment binaryAttachment) {
+      this.url = url;
+      return response;
+    }
+
+    @Override
+    public CompletableFuture<WebRequestor.Response> executeDeleteAsync(String url,
+        Map<String, String> headers) {
+      this.url = url;
+      return response;
+    }
+  }
+}
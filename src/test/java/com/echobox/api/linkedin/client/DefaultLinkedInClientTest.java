@@ -17,13 +17,26 @@
 
 package com.echobox.api.linkedin.client;
 
+import com.echobox.api.linkedin.exception.LinkedInNetworkException;
 import com.echobox.api.linkedin.exception.LinkedInOAuthException;
+import com.echobox.api.linkedin.exception.LinkedInQuotaExceededException;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.organization.Organization;
+import com.echobox.api.linkedin.util.ProjectionUtils;
+import com.echobox.api.linkedin.version.Version;
+import com.eclipsesource.json.JsonObject;
+import com.google.api.client.http.HttpRequest;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Test for {@link DefaultLinkedInClient}
@@ -109,4 +122,185 @@ public class DefaultLinkedInClientTest {
     }
   }
   
+  
+  /**
+   * Test a GET that is rate limited is retried after the Retry-After delay
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  @Test
+  public void testRetryRateLimitedRequest() throws GeneralSecurityException, IOException {
+    DefaultLinkedInClient client = new DefaultLinkedInClient("test");
+    client.setRetryPolicy(RetryPolicy.defaultPolicy());
+    AtomicInteger attempts = new AtomicInteger();
+    WebRequestor.Response response = client.makeRequestAndProcessResponse(null, RequestType.GET,
+        true, () -> attempts.incrementAndGet() == 1
+            ? new WebRequestor.Response(429, Collections.singletonMap("retry-after", "0"), null)
+            : new WebRequestor.Response(200, null, "{}"));
+    
+    Assert.assertEquals(200, response.getStatusCode().intValue());
+    Assert.assertEquals(2, attempts.get());
+    Assert.assertEquals(1, client.getRetryPolicy().getMetrics().getRetriesAfterRetryAfter());
+  }
+  
+  /**
+   * Test a POST is not retried unless retrying non-idempotent requests is enabled
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  @Test
+  public void testPostNotRetried() throws GeneralSecurityException, IOException {
+    DefaultLinkedInClient client = new DefaultLinkedInClient("test");
+    client.setRetryPolicy(RetryPolicy.defaultPolicy());
+    AtomicInteger attempts = new AtomicInteger();
+    try {
+      client.makeRequestAndProcessResponse(null, RequestType.POST, true, () -> {
+        attempts.incrementAndGet();
+        throw new IOException("Connection reset");
+      });
+      Assert.fail("Expected the request to fail");
+    } catch (LinkedInNetworkException ex) {
+      Assert.assertEquals(1, attempts.get());
+      Assert.assertEquals(1, client.getRetryPolicy().getMetrics().getGiveUps());
+    }
+  }
+  
+  /**
+   * Test a request over its call budget fails without being sent
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  @Test
+  public void testRateLimitedRequestNotSent() throws GeneralSecurityException, IOException {
+    DefaultLinkedInClient client = new DefaultLinkedInClient("test");
+    client.setRateLimiter(new RateLimiter(RateLimiterConfig.builder()
+        .memberLimits(Collections.singletonMap("/posts", RateLimit.perDay(1)))
+        .failFast(true).build()));
+    AtomicInteger attempts = new AtomicInteger();
+    String url = "https://api.linkedin.com/rest/posts?q=author";
+    client.makeRequestAndProcessResponse(url, RequestType.GET, true, () -> {
+      attempts.incrementAndGet();
+      return new WebRequestor.Response(200, null, "{}");
+    });
+    try {
+      client.makeRequestAndProcessResponse(url, RequestType.GET, true, () -> {
+        attempts.incrementAndGet();
+        return new WebRequestor.Response(200, null, "{}");
+      });
+      Assert.fail("Expected the request to be rejected");
+    } catch (LinkedInQuotaExceededException ex) {
+      Assert.assertEquals(1, attempts.get());
+    }
+  }
+  
+  /**
+   * Test a DELETE with the HTTP delete fallback enabled fails with a network exception, without
+   * being sent
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  @Test
+  public void testDeleteWithFallbackFails() throws GeneralSecurityException, IOException {
+    AtomicInteger sent = new AtomicInteger();
+    DefaultWebRequestor requestor = new DefaultWebRequestor("test") {
+      @Override
+      public Response executeDelete(String url, Map<String, String> headers) {
+        sent.incrementAndGet();
+        return new Response(204, Collections.emptyMap(), "");
+      }
+    };
+    DefaultLinkedInClient client =
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED);
+    client.httpDeleteFallback = true;
+    try {
+      client.deleteObject("/posts/1");
+      Assert.fail("Expected the delete to fail");
+    } catch (LinkedInNetworkException ex) {
+      Assert.assertTrue(ex.getCause() instanceof IllegalArgumentException);
+    }
+    Assert.assertEquals(0, sent.get());
+  }
+  
+  /**
+   * Test a request without a request type fails with a network exception, as it did when the
+   * request type was checked while sending the request
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  @Test
+  public void testMissingRequestTypeFails() throws GeneralSecurityException, IOException {
+    DefaultLinkedInClient client = new DefaultLinkedInClient(new DefaultWebRequestor("test"),
+        new DefaultJsonMapper(), Version.VERSIONED);
+    try {
+      client.makeRequest("/posts", null, null, (List<BinaryAttachment>) null);
+      Assert.fail("Expected the request to fail");
+    } catch (LinkedInNetworkException ex) {
+      Assert.assertTrue(ex.getCause() instanceof IllegalArgumentException);
+    }
+  }
+  
+  /**
+   * Test the resource path of request URLs
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  @Test
+  public void testGetResourcePath() throws GeneralSecurityException, IOException {
+    DefaultLinkedInClient client = new DefaultLinkedInClient("test");
+    Assert.assertEquals("/posts",
+        client.getResourcePath("https://api.linkedin.com/rest/posts?q=author&author=urn"));
+    Assert.assertEquals("/posts",
+        client.getResourcePath("https://api.linkedin.com/rest/posts/urn%3Ali%3Ashare%3A1"));
+    Assert.assertEquals("/organizationalEntityShareStatistics", client.getResourcePath(
+        "https://api.linkedin.com/rest/organizationalEntityShareStatistics?q=x"));
+    Assert.assertEquals("/organizations", client.getResourcePath(
+        "https://api.linkedin.com/rest/organizations(id:1)"));
+    Assert.assertEquals("/media", client.getResourcePath("https://api.linkedin.com/media/upload"));
+  }
+  
+  /**
+   * Test the field projection of the mapped type is only sent when enabled and the request does
+   * not have its own, and that it reaches the wire as Rest.li syntax rather than escaped
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  @Test
+  public void testFieldProjections() throws GeneralSecurityException, IOException {
+    List<String> urls = new CopyOnWriteArrayList<>();
+    DefaultWebRequestor requestor = new DefaultWebRequestor("test") {
+      @Override
+      protected void customizeConnection(HttpRequest connection) {
+        urls.add(connection.getUrl().build());
+        throw new IllegalStateException("Not sent");
+      }
+    };
+    DefaultLinkedInClient client =
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED);
+    String fields = "fields=" + ProjectionUtils.getProjection(Organization.class);
+
+    fetchQuietly(() -> client.fetchObject("/organizations/1", Organization.class));
+    client.setFieldProjections(true);
+    fetchQuietly(() -> client.fetchObject("/organizations/1", Organization.class));
+    fetchQuietly(() -> client.fetchConnection("/organizations", Organization.class,
+        Parameter.with("q", "x")));
+    fetchQuietly(() -> client.fetchObject("/organizations/1", Organization.class,
+        Parameter.with("fields", "id")));
+    fetchQuietly(() -> client.fetchObject("/organizations/1", JsonObject.class));
+
+    Assert.assertEquals(5, urls.size());
+    Assert.assertFalse(urls.get(0).contains("fields="));
+    Assert.assertTrue(fields.contains(":(localized,preferredLocale:(country,language))"));
+    Assert.assertTrue(urls.get(1).contains(fields));
+    Assert.assertTrue(urls.get(2).contains(fields));
+    Assert.assertTrue(urls.get(3).endsWith("fields=id"));
+    Assert.assertFalse(urls.get(4).contains("fields="));
+  }
+
+  private static void fetchQuietly(Runnable fetch) {
+    try {
+      fetch.run();
+    } catch (RuntimeException ex) {
+      // The request is only built, never sent
+    }
+  }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.HttpRequest;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+
+/**
+ * Test for {@link DefaultWebRequestor}
+ * @author Joanna
+ */
+public class DefaultWebRequestorTest {
+
+  private static final byte[] BODY = "{\n  \"id\": 1\n}".getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Test the body is read whether the expected length is exact, unknown, too short or too long
+   * @throws IOException IOException
+   */
+  @Test
+  public void testReadFully() throws IOException {
+    assertArrayEquals(BODY, DefaultWebRequestor.readFully(new ByteArrayInputStream(BODY),
+        BODY.length));
+    assertArrayEquals(BODY, DefaultWebRequestor.readFully(new ByteArrayInputStream(BODY), -1));
+    assertArrayEquals(BODY, DefaultWebRequestor.readFully(new ByteArrayInputStream(BODY), 3));
+    assertArrayEquals(BODY, DefaultWebRequestor.readFully(new ByteArrayInputStream(BODY),
+        BODY.length + 10));
+    assertEquals(0, DefaultWebRequestor.readFully(null, 10).length);
+  }
+
+  /**
+   * Test new lines in the body are kept
+   * @throws IOException IOException
+   */
+  @Test
+  public void testFromInputStreamKeepsNewLines() throws IOException {
+    assertEquals("{\n  \"id\": 1\n}",
+        DefaultWebRequestor.fromInputStream(new ByteArrayInputStream(BODY)));
+  }
+
+  /**
+   * Test a JSON body is sent exactly as given, without changing its number types
+   * @throws IOException IOException
+   */
+  @Test
+  public void testJsonHttpContentIsUnchanged() throws IOException {
+    String json = "{\"fileSizeBytes\":9007199254740993,\"ratio\":1.0,\"text\":\"café\"}";
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayContent content = DefaultWebRequestor.getJsonHttpContent(json);
+    content.writeTo(out);
+
+    assertEquals(json, out.toString(StandardCharsets.UTF_8));
+    assertEquals(out.size(), content.getLength());
+    assertEquals("application/json; charset=UTF-8", content.getType());
+  }
+
+  /**
+   * Test Rest.li syntax in query values is sent unescaped while the keys of a {@code List(...)}
+   * keep their escaping
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  @Test
+  public void testWireUrl() throws GeneralSecurityException, IOException {
+    assertEquals("https://api.linkedin.com/rest/organizations/1?fields=name:(localized,"
+        + "preferredLocale)", sentUrl("https://api.linkedin.com/rest/organizations/1?fields="
+        + "name%3A%28localized%2CpreferredLocale%29"));
+    assertEquals("https://api.linkedin.com/rest/organizations?fields=name:(localized)&q=x"
+        + "&ids=List(urn%3Ali%3Aorganization%3A1,2)", sentUrl("https://api.linkedin.com/rest/"
+        + "organizations?ids=List(urn%3Ali%3Aorganization%3A1,2)&fields=name%3A%28localized"
+        + "%29&q=x"));
+    assertEquals("https://api.linkedin.com/rest/posts?ids=List(urn%3Ali%3Ashare%3A1)",
+        sentUrl("https://api.linkedin.com/rest/posts?ids=List(urn%3Ali%3Ashare%3A1)"));
+  }
+
+  private static String sentUrl(String url) throws GeneralSecurityException, IOException {
+    String[] sent = new String[1];
+    DefaultWebRequestor requestor = new DefaultWebRequestor("test") {
+      @Override
+      protected void customizeConnection(HttpRequest connection) {
+        sent[0] = connection.getUrl().build();
+        throw new IllegalStateException("Not sent");
+      }
+    };
+    try {
+      requestor.executeGet(url, Collections.emptyMap());
+    } catch (IllegalStateException ex) {
+      return sent[0];
+    }
+    throw new AssertionError("The request was not built");
+  }
+}
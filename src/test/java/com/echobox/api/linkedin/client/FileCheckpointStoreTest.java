@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test for {@link FileCheckpointStore}
+ * @author Joanna
+ */
+public class FileCheckpointStoreTest {
+
+  /**
+   * Test saved cursors are read back by a new store on the same file
+   * @throws Exception Exception
+   */
+  @Test
+  public void testPersistsAcrossInstances() throws Exception {
+    Path directory = Files.createTempDirectory("checkpoints");
+    Path file = directory.resolve("checkpoints.properties");
+    PageCursor cursor = PageCursor.fromPageUrl("https://api.linkedin.com/rest/posts?q=author"
+        + "&author=urn%3Ali%3Aorganization%3A1&start=40&count=20", "202401");
+
+    new FileCheckpointStore(file).save("posts", cursor);
+    FileCheckpointStore store = new FileCheckpointStore(file);
+
+    Assert.assertEquals(cursor, store.load("posts"));
+    Assert.assertNull(store.load("shares"));
+
+    store.remove("posts");
+    Assert.assertNull(new FileCheckpointStore(file).load("posts"));
+
+    Files.delete(file);
+    Files.delete(directory);
+  }
+}
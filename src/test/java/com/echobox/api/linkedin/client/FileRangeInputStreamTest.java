@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test for {@link FileRangeInputStream}
+ * @author Joanna
+ */
+public class FileRangeInputStreamTest {
+
+  private Path file;
+
+  /**
+   * Create a file to read
+   * @throws IOException IOException
+   */
+  @Before
+  public void createFile() throws IOException {
+    file = Files.createTempFile("range", ".bin");
+    Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Delete the file
+   * @throws IOException IOException
+   */
+  @After
+  public void deleteFile() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Test a range larger than the buffer is read in full, and the buffer is reused
+   * @throws IOException IOException
+   */
+  @Test
+  public void testReadAcrossBuffers() throws IOException {
+    DirectBufferPool bufferPool = new DirectBufferPool(3, 1);
+    for (int i = 0; i < 2; i++) {
+      try (InputStream inputStream = new FileRangeInputStream(file, 1, 8, bufferPool)) {
+        assertEquals('1', inputStream.read());
+        assertEquals("2345678",
+            new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals(-1, inputStream.read());
+      }
+    }
+
+    assertEquals(1, bufferPool.getAllocatedBuffers());
+    assertEquals(1, bufferPool.getIdleBuffers());
+  }
+
+  /**
+   * Test a stream that is never closed does not make later readers wait forever, they read into
+   * a heap buffer instead
+   * @throws IOException IOException
+   */
+  @Test
+  public void testLeakedBufferFallsBackToHeap() throws IOException {
+    DirectBufferPool bufferPool = new DirectBufferPool(3, 1);
+    InputStream leaked = new FileRangeInputStream(file, 0, 2, bufferPool);
+    assertEquals('0', leaked.read());
+
+    try (InputStream inputStream = new FileRangeInputStream(file, 1, 8, bufferPool)) {
+      assertEquals("12345678", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+    assertEquals(1, bufferPool.getAllocatedBuffers());
+    assertEquals(0, bufferPool.getIdleBuffers());
+    assertEquals(1, bufferPool.getHeapBuffers());
+    leaked.close();
+  }
+
+  /**
+   * Test a range beyond the end of the file fails rather than sending a short body
+   * @throws IOException IOException
+   */
+  @Test(expected = EOFException.class)
+  public void testFileShorterThanRange() throws IOException {
+    try (InputStream inputStream =
+        new FileRangeInputStream(file, 5, 10, new DirectBufferPool(4, 1))) {
+      inputStream.readAllBytes();
+    }
+  }
+}
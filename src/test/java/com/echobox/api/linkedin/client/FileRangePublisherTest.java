@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link FileRangePublisher}
+ * @author Joanna
+ */
+public class FileRangePublisherTest {
+
+  private Path file;
+
+  /**
+   * Create a file to publish
+   * @throws IOException IOException
+   */
+  @Before
+  public void createFile() throws IOException {
+    file = Files.createTempFile("range", ".bin");
+    Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Delete the file
+   * @throws IOException IOException
+   */
+  @After
+  public void deleteFile() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Test the range is published as mapped slices one at a time, and can be published again
+   * @throws Exception Exception
+   */
+  @Test
+  public void testPublishSlices() throws Exception {
+    FileRangePublisher publisher = new FileRangePublisher(file, 2, 7, 3);
+    for (int i = 0; i < 2; i++) {
+      CollectingSubscriber subscriber = new CollectingSubscriber();
+      publisher.subscribe(subscriber);
+
+      assertEquals("2345678", subscriber.result.get(5, TimeUnit.SECONDS));
+      assertEquals(3, subscriber.slices);
+    }
+  }
+
+  /**
+   * Test a range beyond the end of the file is reported as an error
+   * @throws Exception Exception
+   */
+  @Test
+  public void testFileShorterThanRange() throws Exception {
+    CollectingSubscriber subscriber = new CollectingSubscriber();
+    new FileRangePublisher(file, 5, 10, 3).subscribe(subscriber);
+
+    assertTrue(subscriber.result.handle((result, ex) -> ex)
+        .get(5, TimeUnit.SECONDS) instanceof EOFException);
+  }
+
+  /**
+   * Requests one slice at a time, like the HttpClient does when writing to a slow connection
+   */
+  private static class CollectingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+
+    private Flow.Subscription subscription;
+
+    private int slices;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(1);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+      assertTrue(item.isDirect());
+      byte[] slice = new byte[item.remaining()];
+      item.get(slice);
+      bytes.write(slice, 0, slice.length);
+      slices++;
+      subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      result.complete(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+  }
+}
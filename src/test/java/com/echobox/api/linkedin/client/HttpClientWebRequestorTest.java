@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test for {@link HttpClientWebRequestor}
+ * @author Joanna
+ */
+public class HttpClientWebRequestorTest {
+
+  private HttpServer server;
+
+  private String baseUrl;
+
+  /**
+   * Start a local server that echoes the request back in the response
+   * @throws IOException IOException
+   */
+  @Before
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/echo", exchange -> {
+      byte[] requestBody = exchange.getRequestBody().readAllBytes();
+      String body = String.format("%s %s %s %s", exchange.getRequestMethod(),
+          exchange.getRequestHeaders().getFirst("Authorization"),
+          exchange.getRequestHeaders().getFirst("Content-Type"),
+          new String(requestBody, StandardCharsets.UTF_8));
+      byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("X-Li-Request-Id", "request-1");
+      exchange.getResponseHeaders().add("ETag", "etag-1");
+      exchange.sendResponseHeaders(201, bytes.length);
+      try (OutputStream outputStream = exchange.getResponseBody()) {
+        outputStream.write(bytes);
+      }
+    });
+    server.createContext("/nocontent", exchange -> {
+      exchange.sendResponseHeaders(204, -1);
+      exchange.close();
+    });
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort();
+  }
+
+  /**
+   * Stop the local server
+   */
+  @After
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  /**
+   * Test a GET returns the status, body and lower cased headers like the default requestor
+   * @throws IOException IOException
+   */
+  @Test
+  public void testGet() throws IOException {
+    HttpClientWebRequestor requestor = new HttpClientWebRequestor("token");
+    WebRequestor.Response response = requestor.executeGet(baseUrl + "/echo");
+
+    assertEquals(201, response.getStatusCode().intValue());
+    assertEquals("GET Bearer token null", response.getBody());
+    assertEquals("etag-1", response.getHeaders().get("etag"));
+    assertEquals("request-1", response.getDebugHeaderInfo().getRequestId());
+  }
+
+  /**
+   * Test a POST sends the JSON body with a JSON content type
+   * @throws IOException IOException
+   */
+  @Test
+  public void testPostJson() throws IOException {
+    HttpClientWebRequestor requestor = new HttpClientWebRequestor("token");
+    WebRequestor.Response response =
+        requestor.executePost(baseUrl + "/echo", null, "{\"a\":1}");
+
+    assertEquals("POST Bearer token application/json; charset=UTF-8 {\"a\":1}",
+        response.getBody());
+  }
+
+  /**
+   * Test a PUT of a binary attachment without an access token or content type header
+   * @throws IOException IOException
+   */
+  @Test
+  public void testPutBinaryAttachment() throws IOException {
+    HttpClientWebRequestor requestor = new HttpClientWebRequestor(null);
+    Map<String, String> headers = new HashMap<>();
+    headers.put("Connection", "Keep-Alive");
+    WebRequestor.Response response = requestor.executePut(baseUrl + "/echo", null, null,
+        headers, BinaryAttachment.with("file", "bytes".getBytes(StandardCharsets.UTF_8)));
+
+    assertEquals("PUT null application/octet-stream bytes", response.getBody());
+  }
+
+  /**
+   * Test a PUT streams a range of a file as the body
+   * @throws IOException IOException
+   */
+  @Test
+  public void testPutFileRange() throws IOException {
+    Path file = Files.createTempFile("upload", ".bin");
+    try {
+      Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+      HttpClientWebRequestor requestor = new HttpClientWebRequestor("token");
+      WebRequestor.Response response = requestor.executePut(baseUrl + "/echo", null, null,
+          new HashMap<>(), BinaryAttachment.with("file", file, 2, 5, "application/octet-stream"));
+
+      assertEquals("PUT Bearer token application/octet-stream 23456", response.getBody());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test a multipart POST streams an attachment whose length is unknown
+   * @throws IOException IOException
+   */
+  @Test
+  public void testPostStreamedMultipart() throws IOException {
+    HttpClientWebRequestor requestor = new HttpClientWebRequestor("token");
+    WebRequestor.Response response = requestor.executePost(baseUrl + "/echo", null, null,
+        new HashMap<>(), BinaryAttachment.with("image.png",
+            new ByteArrayInputStream("streamed".getBytes(StandardCharsets.UTF_8)), -1, null));
+
+    assertTrue(response.getBody().contains("filename=\"image.png\"\r\nContent-Type: image/png"
+        + "\r\n\r\nstreamed\r\n"));
+  }
+
+  /**
+   * Test a 204 response has an empty body
+   * @throws IOException IOException
+   */
+  @Test
+  public void testNoContent() throws IOException {
+    HttpClientWebRequestor requestor = new HttpClientWebRequestor("token");
+    WebRequestor.Response response = requestor.executeDelete(baseUrl + "/nocontent");
+
+    assertEquals(204, response.getStatusCode().intValue());
+    assertEquals(0, response.getBodyBytes().length);
+    assertEquals("", response.getBody());
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.version.Version;
+import com.eclipsesource.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+/**
+ * Test for {@link PageCursor} and resuming connections from it
+ * @author Joanna
+ */
+public class PageCursorTest {
+
+  /**
+   * Test a cursor keeps the endpoint, parameters, start and count of a page URL
+   */
+  @Test
+  public void testFromPageUrl() {
+    PageCursor cursor = PageCursor.fromPageUrl(
+        "https://api.linkedin.com/rest/posts?q=author&author=urn%3Ali%3Aorganization%3A1"
+            + "&start=20&count=10", "202401");
+
+    Assert.assertEquals("https://api.linkedin.com/rest/posts", cursor.getEndpoint());
+    Assert.assertEquals(List.of("q=author", "author=urn%3Ali%3Aorganization%3A1"),
+        cursor.getParameters());
+    Assert.assertEquals(20, cursor.getStart());
+    Assert.assertEquals(Integer.valueOf(10), cursor.getCount());
+    Assert.assertEquals("202401", cursor.getVersionMonth());
+    Assert.assertEquals("https://api.linkedin.com/rest/posts?q=author"
+        + "&author=urn%3Ali%3Aorganization%3A1&start=20&count=10", cursor.toPageUrl());
+  }
+
+  /**
+   * Test a cursor survives JSON and Java serialization
+   * @throws Exception Exception
+   */
+  @Test
+  public void testSerialization() throws Exception {
+    PageCursor cursor = PageCursor.fromPageUrl("https://api.linkedin.com/rest/posts?q=author"
+        + "&start=5", null);
+
+    Assert.assertEquals(cursor, PageCursor.fromJson(cursor.toJson()));
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(cursor);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Assert.assertEquals(cursor, in.readObject());
+    }
+  }
+
+  /**
+   * Test invalid JSON is rejected
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidJson() {
+    PageCursor.fromJson("{\"start\":1}");
+  }
+
+  /**
+   * Test resuming from the cursor of an iterator only fetches the remaining pages
+   * @throws Exception Exception
+   */
+  @Test
+  public void testResumeDoesNotReadEarlierPages() throws Exception {
+    PagedStubRequestor requestor = new PagedStubRequestor(10, 4, true);
+    DefaultLinkedInClient client =
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED);
+    ConnectionIterator<JsonObject> iterator = client.fetchConnection("/posts", JsonObject.class,
+        Parameter.with("q", "author"), Parameter.with("count", 4)).iterator();
+
+    Assert.assertEquals(0, iterator.cursor().getStart());
+    iterator.next();
+    Assert.assertEquals(4, iterator.cursor().getStart());
+    PageCursor cursor = PageCursor.fromJson(iterator.cursor().toJson());
+    requestor.getStarts().clear();
+
+    ConnectionIterator<JsonObject> resumed =
+        Connection.resume(client, cursor, JsonObject.class).iterator();
+    Assert.assertEquals(4, resumed.next().get(0).getInt("id", -1));
+    Assert.assertEquals(8, resumed.next().get(0).getInt("id", -1));
+    Assert.assertFalse(resumed.hasNext());
+    Assert.assertNull(resumed.cursor());
+    Assert.assertEquals(List.of(4, 8), requestor.getStarts());
+  }
+
+  /**
+   * Test a cursor from another version month is rejected
+   * @throws Exception Exception
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testResumeRejectsOtherVersionMonth() throws Exception {
+    DefaultLinkedInClient client = new DefaultLinkedInClient(new PagedStubRequestor(10, 4, true),
+        new DefaultJsonMapper(), Version.VERSIONED);
+    Connection.resume(client, PageCursor.fromPageUrl("https://api.linkedin.com/rest/posts?"
+        + "start=4", "190001"), JsonObject.class);
+  }
+
+}
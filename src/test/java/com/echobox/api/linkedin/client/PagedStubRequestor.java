@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Web requestor for the paging tests, serving a number of elements in pages of a fixed size and
+ * recording the start of every page requested
+ * @author Joanna
+ */
+public class PagedStubRequestor extends DefaultWebRequestor {
+
+  private static final Pattern START = Pattern.compile("start=(\\d+)");
+
+  private final List<Integer> starts = new CopyOnWriteArrayList<>();
+
+  private final int total;
+
+  private final int pageSize;
+
+  private final boolean withTotal;
+
+  private final IntFunction<String> element;
+
+  /**
+   * Creates a requestor serving elements with an {@code id} from 0
+   * @param total the number of elements
+   * @param pageSize the number of elements per page
+   * @param withTotal whether the paging of the responses includes the total
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  public PagedStubRequestor(int total, int pageSize, boolean withTotal)
+      throws GeneralSecurityException, IOException {
+    this(total, pageSize, withTotal, id -> "{\"id\":" + id + "}");
+  }
+
+  /**
+   * Creates a requestor
+   * @param total the number of elements
+   * @param pageSize the number of elements per page
+   * @param withTotal whether the paging of the responses includes the total
+   * @param element creates the JSON of the element at an index
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  public PagedStubRequestor(int total, int pageSize, boolean withTotal,
+      IntFunction<String> element) throws GeneralSecurityException, IOException {
+    super("test");
+    this.total = total;
+    this.pageSize = pageSize;
+    this.withTotal = withTotal;
+    this.element = element;
+  }
+
+  /**
+   * Gets the starts of the pages requested, in the order they were requested
+   * @return the starts
+   */
+  public List<Integer> getStarts() {
+    return starts;
+  }
+
+  @Override
+  public Response executeGet(String url, Map<String, String> headers) throws IOException {
+    Matcher matcher = START.matcher(url);
+    int start = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+    starts.add(start);
+    StringBuilder elements = new StringBuilder();
+    for (int id = start; id < Math.min(start + pageSize, total); id++) {
+      elements.append(elements.length() == 0 ? "" : ",").append(element.apply(id));
+    }
+    return new Response(200, Collections.emptyMap(), "{\"elements\":[" + elements
+        + "],\"paging\":{\"start\":" + start + ",\"count\":" + pageSize
+        + (withTotal ? ",\"total\":" + total : "") + "}}");
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.version.Version;
+import com.eclipsesource.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Test for {@link PrefetchingConnectionIterator}
+ * @author Joanna
+ */
+public class PrefetchingConnectionIteratorTest {
+
+  /**
+   * Test the prefetching iterator returns the same pages as the plain iterator, in order
+   * @throws Exception Exception
+   */
+  @Test
+  public void testReturnsEveryPageInOrder() throws Exception {
+    PagedStubRequestor requestor = new PagedStubRequestor(9, 2, false);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try (PrefetchingConnectionIterator<JsonObject> iterator =
+        fetchConnection(requestor).prefetchingIterator(3, executor)) {
+      List<Integer> ids = new ArrayList<>();
+      while (iterator.hasNext()) {
+        iterator.next().forEach(element -> ids.add(element.getInt("id", -1)));
+      }
+
+      Assert.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8), ids);
+      Assert.assertEquals(5, requestor.getStarts().size());
+      Assert.assertEquals(8, iterator.snapshot().getData().get(0).getInt("id", -1));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Test the following pages are fetched before they are asked for, up to the look-ahead depth
+   * @throws Exception Exception
+   */
+  @Test
+  public void testFetchesAheadOfTheCaller() throws Exception {
+    PagedStubRequestor requestor = new PagedStubRequestor(9, 2, false);
+    List<Runnable> tasks = new ArrayList<>();
+    PrefetchingConnectionIterator<JsonObject> iterator =
+        fetchConnection(requestor).prefetchingIterator(2, tasks::add);
+
+    // The fetch of a page is chained onto the page before it
+    Assert.assertEquals(1, tasks.size());
+    tasks.get(0).run();
+    Assert.assertEquals(2, tasks.size());
+    tasks.get(1).run();
+    Assert.assertEquals(List.of(0, 2, 4), requestor.getStarts());
+    Assert.assertEquals(2, iterator.getPrefetchedPages());
+
+    iterator.next();
+    Assert.assertEquals(2, iterator.next().get(0).getInt("id", -1));
+    Assert.assertEquals(3, tasks.size());
+    Assert.assertEquals(List.of(0, 2, 4), requestor.getStarts());
+  }
+
+  /**
+   * Test closing the iterator stops further pages from being fetched
+   * @throws Exception Exception
+   */
+  @Test
+  public void testCloseStopsFetching() throws Exception {
+    PagedStubRequestor requestor = new PagedStubRequestor(9, 2, false);
+    List<Runnable> tasks = new ArrayList<>();
+    PrefetchingConnectionIterator<JsonObject> iterator =
+        fetchConnection(requestor).prefetchingIterator(2, tasks::add);
+    iterator.next();
+    tasks.get(0).run();
+
+    iterator.close();
+    tasks.get(1).run();
+
+    Assert.assertEquals(List.of(0, 2), requestor.getStarts());
+    Assert.assertEquals(0, iterator.getPrefetchedPages());
+    Assert.assertFalse(iterator.hasNext());
+    try {
+      iterator.next();
+      Assert.fail("Expected no more pages once closed");
+    } catch (NoSuchElementException ex) {
+      // Expected
+    }
+  }
+
+  private static Connection<JsonObject> fetchConnection(PagedStubRequestor requestor) {
+    DefaultLinkedInClient client =
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED);
+    return client.fetchConnection("/organizationAcls", JsonObject.class,
+        Parameter.with("count", 2));
+  }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.exception.LinkedInQuotaExceededException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link RateLimiter}
+ * @author Joanna
+ */
+public class RateLimiterTest {
+
+  /**
+   * Test a fail-fast limiter allows the burst and then rejects calls until the budget refills
+   */
+  @Test
+  public void testFailFast() {
+    RateLimiter limiter = new RateLimiter(RateLimiterConfig.builder()
+        .applicationLimits(Collections.singletonMap("posts", RateLimit.perDay(3)))
+        .failFast(true).build());
+    for (int call = 0; call < 3; call++) {
+      limiter.acquire("token", "/posts");
+    }
+    try {
+      limiter.acquire("other-token", "/posts");
+      Assert.fail("Expected the call to be rejected");
+    } catch (LinkedInQuotaExceededException ex) {
+      Assert.assertEquals("/posts", ex.getResourcePath());
+      Assert.assertTrue(ex.getRetryAfterMillis() > TimeUnit.HOURS.toMillis(7));
+    }
+
+    limiter.acquire("token", "/organizations");
+    Assert.assertEquals(1, limiter.getRejectedCalls());
+  }
+
+  /**
+   * Test member budgets are kept per access token, and that a call rejected by its member budget
+   * does not use up the application budget
+   */
+  @Test
+  public void testMemberLimits() {
+    RateLimiter limiter = new RateLimiter(RateLimiterConfig.builder()
+        .defaultApplicationLimit(RateLimit.perDay(3)).defaultMemberLimit(RateLimit.perDay(1))
+        .failFast(true).build());
+    limiter.acquire("first", "/posts");
+    try {
+      limiter.acquire("first", "/posts");
+      Assert.fail("Expected the call to be rejected");
+    } catch (LinkedInQuotaExceededException ex) {
+      // Expected
+    }
+    limiter.acquire("second", "/posts");
+    limiter.acquire("third", "/posts");
+    limiter.acquire("first", "/images");
+  }
+
+  /**
+   * Test a client hashes its access token once for the member budgets, rather than for every call
+   * @throws Exception Exception
+   */
+  @Test
+  public void testClientHashesTokenOnce() throws Exception {
+    DefaultLinkedInClient client = new DefaultLinkedInClient("token");
+
+    String memberKey = client.getRateLimitMemberKey();
+    Assert.assertSame(memberKey, client.getRateLimitMemberKey());
+    Assert.assertEquals(RateLimiter.getMemberKey("token"), memberKey);
+    Assert.assertFalse(memberKey.contains("token"));
+  }
+
+  /**
+   * Test member budgets that have not been used for longer than it takes to refill them are
+   * dropped, while those in use are kept
+   * @throws Exception Exception
+   */
+  @Test
+  public void testIdleMemberBucketsAreDropped() throws Exception {
+    RateLimiter limiter = new RateLimiter(RateLimiterConfig.builder()
+        .defaultMemberLimit(RateLimit.of(1, Duration.ofMillis(10))).failFast(true).build());
+    limiter.acquire("first", "/posts");
+    limiter.acquire("second", "/posts");
+    Assert.assertEquals(2, limiter.getMemberBucketCount());
+
+    Thread.sleep(30);
+    limiter.acquire("second", "/posts");
+    limiter.removeIdleMemberBuckets(System.nanoTime());
+    Assert.assertEquals(1, limiter.getMemberBucketCount());
+
+    limiter.acquire("first", "/posts");
+    Assert.assertEquals(2, limiter.getMemberBucketCount());
+  }
+
+  /**
+   * Test a queueing limiter makes calls over budget wait for the budget to refill
+   */
+  @Test
+  public void testQueue() {
+    RateLimiter limiter = new RateLimiter(RateLimiterConfig.builder()
+        .defaultMemberLimit(RateLimit.of(10, Duration.ofSeconds(1)).withBurst(1)).build());
+    long start = System.nanoTime();
+    for (int call = 0; call < 4; call++) {
+      limiter.acquire("token", "/posts");
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    Assert.assertTrue(elapsedMillis >= 250);
+    Assert.assertEquals(3, limiter.getThrottledCalls());
+  }
+
+  /**
+   * Test a call fails rather than waiting longer than the maximum wait
+   */
+  @Test(expected = LinkedInQuotaExceededException.class)
+  public void testMaxWait() {
+    RateLimiter limiter = new RateLimiter(RateLimiterConfig.builder()
+        .defaultApplicationLimit(RateLimit.of(1, Duration.ofMinutes(1)))
+        .maxWait(Duration.ofSeconds(1)).build());
+    limiter.acquire(null, "/posts");
+    limiter.acquire(null, "/posts");
+  }
+
+  /**
+   * Test exactly the budget is granted when many threads call at once
+   * @throws Exception Exception
+   */
+  @Test
+  public void testConcurrentCalls() throws Exception {
+    int threads = 8;
+    int callsPerThread = 500;
+    RateLimiter limiter = new RateLimiter(RateLimiterConfig.builder()
+        .defaultApplicationLimit(RateLimit.perDay(1000)).failFast(true).build());
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int thread = 0; thread < threads; thread++) {
+        results.add(executor.submit((Callable<Integer>) () -> {
+          start.await();
+          int granted = 0;
+          for (int call = 0; call < callsPerThread; call++) {
+            try {
+              limiter.acquire("token", "/posts");
+              granted++;
+            } catch (LinkedInQuotaExceededException ex) {
+              // Over budget
+            }
+          }
+          return granted;
+        }));
+      }
+      start.countDown();
+
+      int granted = 0;
+      for (Future<Integer> result : results) {
+        granted += result.get(30, TimeUnit.SECONDS);
+      }
+      Assert.assertEquals(1000, granted);
+      Assert.assertEquals(threads * callsPerThread - 1000, limiter.getRejectedCalls());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
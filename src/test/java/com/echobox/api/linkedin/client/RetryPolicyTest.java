@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+
+/**
+ * Test for {@link RetryPolicy}
+ * @author Joanna
+ */
+public class RetryPolicyTest {
+
+  private static final WebRequestor.Response UNAVAILABLE =
+      new WebRequestor.Response(503, null, null);
+
+  /**
+   * Test the backoff is jittered between zero and the exponentially growing cap
+   */
+  @Test
+  public void testBackoffWithFullJitter() {
+    RetryPolicy policy = RetryPolicy.builder().maxAttempts(10)
+        .initialDelay(Duration.ofMillis(100)).maxDelay(Duration.ofMillis(350)).build();
+    long[] caps = {100, 200, 350, 350};
+    for (int attempt = 1; attempt <= caps.length; attempt++) {
+      for (int sample = 0; sample < 100; sample++) {
+        long delay = policy.getRetryDelayMillis(true, attempt, 0, UNAVAILABLE, null);
+        Assert.assertTrue(delay >= 0 && delay <= caps[attempt - 1]);
+      }
+    }
+    Assert.assertEquals(400, policy.getMetrics().getRetries());
+  }
+
+  /**
+   * Test a Retry-After header in seconds or as an HTTP date sets the delay
+   */
+  @Test
+  public void testRetryAfter() {
+    RetryPolicy policy = RetryPolicy.defaultPolicy();
+    WebRequestor.Response seconds = new WebRequestor.Response(429,
+        Collections.singletonMap("retry-after", "2"), null);
+    Assert.assertEquals(2000, policy.getRetryDelayMillis(true, 1, 0, seconds, null));
+
+    String date = DateTimeFormatter.RFC_1123_DATE_TIME
+        .format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+    WebRequestor.Response httpDate = new WebRequestor.Response(429,
+        Collections.singletonMap("retry-after", date), null);
+    long delay = policy.getRetryDelayMillis(true, 1, 0, httpDate, null);
+    Assert.assertTrue(delay > 8000 && delay <= 10000);
+    Assert.assertEquals(2, policy.getMetrics().getRetriesAfterRetryAfter());
+  }
+
+  /**
+   * Test only idempotent requests are retried unless non-idempotent retries are enabled
+   */
+  @Test
+  public void testIdempotency() {
+    RetryPolicy policy = RetryPolicy.defaultPolicy();
+    Assert.assertTrue(policy.isRetryable(RequestType.GET));
+    Assert.assertTrue(policy.isRetryable(RequestType.DELETE));
+    Assert.assertFalse(policy.isRetryable(RequestType.POST));
+    Assert.assertFalse(policy.isRetryable(null));
+    Assert.assertTrue(RetryPolicy.builder().retryNonIdempotentRequests(true).build()
+        .isRetryable(RequestType.POST));
+
+    Assert.assertEquals(-1, policy.getRetryDelayMillis(false, 1, 0, UNAVAILABLE, null));
+    Assert.assertEquals(1, policy.getMetrics().getGiveUps());
+  }
+
+  /**
+   * Test a request is given up once its attempt or time budget is used up
+   */
+  @Test
+  public void testBudgets() {
+    RetryPolicy policy = RetryPolicy.builder().maxAttempts(2)
+        .maxElapsedTime(Duration.ofSeconds(1)).build();
+    WebRequestor.Response retryAfter = new WebRequestor.Response(429,
+        Collections.singletonMap("retry-after", "5"), null);
+
+    Assert.assertEquals(-1, policy.getRetryDelayMillis(true, 2, 0, UNAVAILABLE, null));
+    Assert.assertEquals(-1, policy.getRetryDelayMillis(true, 1, 0, retryAfter, null));
+    Assert.assertEquals(2, policy.getMetrics().getGiveUps());
+    Assert.assertEquals(0, policy.getMetrics().getRetries());
+  }
+
+  /**
+   * Test successful responses and non-transient errors are not retried or counted
+   */
+  @Test
+  public void testNonTransientOutcomes() {
+    RetryPolicy policy = RetryPolicy.defaultPolicy();
+    Assert.assertEquals(-1, policy.getRetryDelayMillis(true, 1, 0,
+        new WebRequestor.Response(200, null, null), null));
+    Assert.assertEquals(-1, policy.getRetryDelayMillis(true, 1, 0,
+        new WebRequestor.Response(401, null, null), null));
+    Assert.assertEquals(0, policy.getMetrics().getGiveUps());
+  }
+}
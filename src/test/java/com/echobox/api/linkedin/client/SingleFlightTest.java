@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import com.echobox.api.linkedin.exception.LinkedInResourceNotFoundException;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.organization.Organization;
+import com.echobox.api.linkedin.version.Version;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for {@link SingleFlight}
+ * @author Joanna
+ */
+public class SingleFlightTest {
+
+  /**
+   * Test identical GETs in flight at the same time are sent once, and each caller gets its own
+   * mapped object
+   * @throws Exception Exception
+   */
+  @Test
+  public void testIdenticalRequestsAreSentOnce() throws Exception {
+    BlockingRequestor requestor = new BlockingRequestor(200, "{\"id\":1}");
+    SingleFlight flight = new SingleFlight();
+    DefaultLinkedInClient client = createClient(requestor, flight);
+
+    CompletableFuture<Organization> first = fetchAsync(client);
+    CompletableFuture<Organization> second = fetchAsync(client);
+    waitForSharedRequests(flight, 1);
+    requestor.release.countDown();
+
+    Assert.assertEquals(1L, first.get(5, TimeUnit.SECONDS).getId());
+    Assert.assertEquals(1L, second.get(5, TimeUnit.SECONDS).getId());
+    Assert.assertNotSame(first.get(), second.get());
+    Assert.assertEquals(1, requestor.requests.get());
+    Assert.assertEquals(2, flight.getRequests());
+    Assert.assertEquals(0, flight.getInFlight());
+
+    // Once the response has been received the request is sent again
+    client.fetchObject("/organizations/1", Organization.class);
+    Assert.assertEquals(2, requestor.requests.get());
+  }
+
+  /**
+   * Test the error of a shared request is thrown to every caller
+   * @throws Exception Exception
+   */
+  @Test
+  public void testErrorIsShared() throws Exception {
+    BlockingRequestor requestor =
+        new BlockingRequestor(404, "{\"status\":404,\"message\":\"Not found\"}");
+    SingleFlight flight = new SingleFlight();
+    DefaultLinkedInClient client = createClient(requestor, flight);
+
+    CompletableFuture<Organization> first = fetchAsync(client);
+    CompletableFuture<Organization> second = fetchAsync(client);
+    waitForSharedRequests(flight, 1);
+    requestor.release.countDown();
+
+    assertNotFound(first);
+    assertNotFound(second);
+    Assert.assertEquals(1, requestor.requests.get());
+  }
+
+  /**
+   * Test requests made with different credentials are only shared for token independent
+   * resource paths
+   * @throws Exception Exception
+   */
+  @Test
+  public void testRequestsAreScopedByToken() throws Exception {
+    BlockingRequestor firstRequestor = new BlockingRequestor(200, "{\"id\":1}");
+    BlockingRequestor secondRequestor = new BlockingRequestor(200, "{\"id\":1}");
+    SingleFlight flight = new SingleFlight();
+    CompletableFuture<Organization> first = fetchAsync(createClient(firstRequestor, flight));
+    CompletableFuture<Organization> second = fetchAsync(createClient(secondRequestor, flight));
+    firstRequestor.release.countDown();
+    secondRequestor.release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    second.get(5, TimeUnit.SECONDS);
+    Assert.assertEquals(1, firstRequestor.requests.get());
+    Assert.assertEquals(1, secondRequestor.requests.get());
+    Assert.assertEquals(0, flight.getSharedRequests());
+
+    BlockingRequestor sharedRequestor = new BlockingRequestor(200, "{\"id\":1}");
+    BlockingRequestor unusedRequestor = new BlockingRequestor(200, "{\"id\":1}");
+    flight = new SingleFlight(Collections.singletonList("organizations"));
+    first = fetchAsync(createClient(sharedRequestor, flight));
+    while (sharedRequestor.requests.get() == 0) {
+      Thread.sleep(5);
+    }
+    second = fetchAsync(createClient(unusedRequestor, flight));
+    waitForSharedRequests(flight, 1);
+    sharedRequestor.release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    second.get(5, TimeUnit.SECONDS);
+    Assert.assertEquals(1, sharedRequestor.requests.get());
+    Assert.assertEquals(0, unusedRequestor.requests.get());
+  }
+
+  private static DefaultLinkedInClient createClient(WebRequestor requestor,
+      SingleFlight flight) {
+    DefaultLinkedInClient client =
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED);
+    client.setSingleFlight(flight);
+    return client;
+  }
+
+  private static CompletableFuture<Organization> fetchAsync(DefaultLinkedInClient client) {
+    return CompletableFuture.supplyAsync(
+        () -> client.fetchObject("/organizations/1", Organization.class));
+  }
+
+  private static void waitForSharedRequests(SingleFlight flight, long sharedRequests)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (flight.getSharedRequests() < sharedRequests
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    Assert.assertEquals(sharedRequests, flight.getSharedRequests());
+  }
+
+  private static void assertNotFound(CompletableFuture<Organization> future) throws Exception {
+    try {
+      future.get(5, TimeUnit.SECONDS);
+      Assert.fail("Expected the organization not to be found");
+    } catch (ExecutionException ex) {
+      Assert.assertTrue(ex.getCause() instanceof LinkedInResourceNotFoundException);
+    }
+  }
+
+  /**
+   * Web requestor that holds every GET until it is released
+   */
+  private static class BlockingRequestor extends DefaultWebRequestor {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final int statusCode;
+
+    private final String body;
+
+    BlockingRequestor(int statusCode, String body)
+        throws GeneralSecurityException, IOException {
+      super("test");
+      this.statusCode = statusCode;
+      this.body = body;
+    }
+
+    @Override
+    public Response executeGet(String url, Map<String, String> headers) throws IOException {
+      requests.incrementAndGet();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IOException(ex);
+      }
+      return new Response(statusCode, Collections.emptyMap(), body);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client;
+
+import static org.junit.Assert.assertEquals;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stress test that a single {@link WebRequestor} shared by many threads never hands one request
+ * the headers or debug info of another
+ * @author Joanna
+ */
+public class WebRequestorConcurrencyTest {
+
+  private static final int THREADS = 16;
+
+  private static final int REQUESTS_PER_THREAD = 50;
+
+  private HttpServer server;
+
+  private ExecutorService serverExecutor;
+
+  private String baseUrl;
+
+  /**
+   * Start a local server that echoes the request id query parameter back in the LinkedIn debug
+   * headers, delaying a little so that responses overlap
+   * @throws IOException IOException
+   */
+  @Before
+  public void startServer() throws IOException {
+    serverExecutor = Executors.newFixedThreadPool(THREADS);
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), THREADS * 4);
+    server.setExecutor(serverExecutor);
+    server.createContext("/echo", exchange -> {
+      String requestId = exchange.getRequestURI().getQuery().substring("id=".length());
+      try {
+        Thread.sleep(Math.abs(requestId.hashCode() % 3));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      byte[] bytes = requestId.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("X-Li-Request-Id", requestId);
+      exchange.getResponseHeaders().add("X-Li-Uuid", "uuid-" + requestId);
+      exchange.getResponseHeaders().add("ETag", "etag-" + requestId);
+      exchange.sendResponseHeaders(200, bytes.length);
+      try (OutputStream outputStream = exchange.getResponseBody()) {
+        outputStream.write(bytes);
+      }
+    });
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort();
+  }
+
+  /**
+   * Stop the local server
+   */
+  @After
+  public void stopServer() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  /**
+   * Test the default requestor under concurrent use
+   * @throws Exception Exception
+   */
+  @Test
+  public void testDefaultWebRequestor() throws Exception {
+    assertNoHeadersLeak(new DefaultWebRequestor("token"));
+  }
+
+  /**
+   * Test the HttpClient requestor under concurrent use
+   * @throws Exception Exception
+   */
+  @Test
+  public void testHttpClientWebRequestor() throws Exception {
+    assertNoHeadersLeak(new HttpClientWebRequestor("token"));
+  }
+
+  private void assertNoHeadersLeak(WebRequestor requestor) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int thread = 0; thread < THREADS; thread++) {
+        final int threadId = thread;
+        results.add(executor.submit((Callable<Integer>) () -> {
+          start.await();
+          for (int request = 0; request < REQUESTS_PER_THREAD; request++) {
+            String requestId = threadId + "-" + request;
+            WebRequestor.Response response =
+                requestor.executeGet(baseUrl + "/echo?id=" + requestId);
+
+            assertEquals(requestId, response.getBody());
+            assertEquals(requestId, response.getDebugHeaderInfo().getRequestId());
+            assertEquals("uuid-" + requestId, response.getDebugHeaderInfo().getUuid());
+            assertEquals("etag-" + requestId, response.getHeaders().get("etag"));
+          }
+          return REQUESTS_PER_THREAD;
+        }));
+      }
+      start.countDown();
+
+      int completed = 0;
+      for (Future<Integer> result : results) {
+        completed += result.get(60, TimeUnit.SECONDS);
+      }
+      assertEquals(THREADS * REQUESTS_PER_THREAD, completed);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
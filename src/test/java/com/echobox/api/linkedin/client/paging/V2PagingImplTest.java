@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.client.paging;
+
+import com.echobox.api.linkedin.client.Connection;
+import com.echobox.api.linkedin.client.DefaultLinkedInClient;
+import com.echobox.api.linkedin.client.DefaultWebRequestor;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.version.Version;
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link V2PagingImpl}
+ * @author Joanna
+ */
+public class V2PagingImplTest {
+
+  private static final String ENDPOINT = "https://api.linkedin.com/rest/organizationAcls";
+
+  private final PagingStrategy pagingStrategy = new V2PagingImpl();
+
+  /**
+   * Test a full page links to the next and previous pages, replacing start and count in place
+   */
+  @Test
+  public void testFullPage() {
+    Pages pages = pagingStrategy.populatePages(page(4, 2, 2),
+        ENDPOINT + "?q=roleAssignee&start=4&count=2&state=APPROVED");
+
+    Assert.assertEquals(ENDPOINT + "?q=roleAssignee&start=6&count=2&state=APPROVED",
+        pages.getNextPageUrl());
+    Assert.assertEquals(ENDPOINT + "?q=roleAssignee&start=2&count=2&state=APPROVED",
+        pages.getPreviousPageUrl());
+  }
+
+  /**
+   * Test the start and count are appended to a URL without them, and that a page with less
+   * elements than requested is the last one
+   */
+  @Test
+  public void testAppendsStartAndCount() {
+    Pages pages = pagingStrategy.populatePages(page(0, 10, 10), ENDPOINT + "?q=roleAssignee");
+    Assert.assertEquals(ENDPOINT + "?q=roleAssignee&start=10&count=10", pages.getNextPageUrl());
+    Assert.assertNull(pages.getPreviousPageUrl());
+
+    Assert.assertEquals(ENDPOINT + "?start=10&count=10",
+        pagingStrategy.populatePages(page(0, 10, 10), ENDPOINT).getNextPageUrl());
+
+    pages = pagingStrategy.populatePages(page(10, 3, 10), ENDPOINT + "?count=10&start=10");
+    Assert.assertNull(pages.getNextPageUrl());
+    Assert.assertEquals(ENDPOINT + "?count=10&start=0", pages.getPreviousPageUrl());
+  }
+
+  /**
+   * Test a response without paging has no pages
+   */
+  @Test
+  public void testNoPaging() {
+    Assert.assertEquals(Pages.NONE,
+        pagingStrategy.populatePages(Json.parse("{\"elements\":[]}").asObject(), ENDPOINT));
+    Assert.assertEquals(Pages.NONE, pagingStrategy.populatePages(null, ENDPOINT));
+  }
+
+  /**
+   * Test connections built at the same time by many threads each get their own next page URL
+   * @throws Exception Exception
+   */
+  @Test
+  public void testConcurrentPaging() throws Exception {
+    DefaultLinkedInClient client = new DefaultLinkedInClient(new DefaultWebRequestor("test"),
+        new DefaultJsonMapper(), Version.VERSIONED);
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch ready = new CountDownLatch(threads);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int thread = 0; thread < threads; thread++) {
+        int organization = thread;
+        results.add(executor.submit(() -> {
+          ready.countDown();
+          ready.await();
+          int mismatches = 0;
+          for (int start = 0; start < 20_000; start += 2) {
+            String endpoint = ENDPOINT + "?q=organization&organization=" + organization
+                + "&start=" + start + "&count=2";
+            Connection<JsonObject> connection =
+                new Connection<>(endpoint, client, page(start, 2, 2).toString(),
+                    JsonObject.class);
+            String expected = ENDPOINT + "?q=organization&organization=" + organization
+                + "&start=" + (start + 2) + "&count=2";
+            if (!expected.equals(connection.getNextPageUrl())) {
+              mismatches++;
+            }
+          }
+          return mismatches;
+        }));
+      }
+
+      for (Future<Integer> result : results) {
+        Assert.assertEquals(Integer.valueOf(0), result.get(60, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static JsonObject page(int start, int elements, int count) {
+    StringBuilder json = new StringBuilder("{\"elements\":[");
+    for (int element = 0; element < elements; element++) {
+      json.append(element == 0 ? "" : ",").append("{\"id\":").append(start + element)
+          .append('}');
+    }
+    return Json.parse(json.append("],\"paging\":{\"start\":").append(start)
+        .append(",\"count\":").append(count).append("}}").toString()).asObject();
+  }
+}
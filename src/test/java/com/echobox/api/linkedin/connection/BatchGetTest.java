@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.client.DefaultLinkedInClient;
+import com.echobox.api.linkedin.client.DefaultWebRequestor;
+import com.echobox.api.linkedin.exception.DefaultLinkedInExceptionMapper;
+import com.echobox.api.linkedin.exception.LinkedInException;
+import com.echobox.api.linkedin.exception.LinkedInGatewayTimeoutException;
+import com.echobox.api.linkedin.exception.LinkedInJsonMappingException;
+import com.echobox.api.linkedin.exception.LinkedInResourceNotFoundException;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.organization.Organization;
+import com.echobox.api.linkedin.types.posts.Post;
+import com.echobox.api.linkedin.types.posts.ViewContext;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.types.urn.URNEntityType;
+import com.echobox.api.linkedin.version.Version;
+import com.eclipsesource.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Test for the Rest.li {@code BATCH_GET} support of {@link ConnectionBase}
+ * @author Joanna
+ */
+public class BatchGetTest {
+
+  private static final Pattern IDS = Pattern.compile("ids=List\\(([^)]*)\\)");
+
+  /**
+   * Test organizations are requested in one call and mapped by URN, with missing keys reported
+   * as errors
+   * @throws Exception Exception
+   */
+  @Test
+  public void testRetrieveOrganizations() throws Exception {
+    StubRequestor requestor = new StubRequestor();
+    OrganizationConnection connection = new OrganizationConnection(createClient(requestor));
+    URN first = new URN(URNEntityType.ORGANIZATION, "1");
+    URN missing = new URN(URNEntityType.ORGANIZATION, "404");
+    URN second = new URN(URNEntityType.ORGANIZATION, "2");
+
+    BatchGetResult<Organization> result =
+        connection.retrieveOrganizations(Arrays.asList(first, missing, second, first), null);
+
+    Assert.assertEquals(1, requestor.urls.size());
+    Assert.assertEquals("https://api.linkedin.com/rest/organizations?ids=List(1,404,2)",
+        requestor.urls.get(0));
+    Assert.assertEquals(Arrays.asList(first, second),
+        new ArrayList<>(result.getResults().keySet()));
+    Assert.assertEquals(2L, result.get(second).getId());
+    Assert.assertTrue(result.getErrors().get(missing) instanceof LinkedInResourceNotFoundException);
+    Assert.assertFalse(result.isSuccessful());
+  }
+
+  /**
+   * Test post URNs are encoded within the list and split into batches of at most 100 keys, and
+   * that a failed batch only fails its own keys
+   * @throws Exception Exception
+   */
+  @Test
+  public void testRetrievePostsInBatches() throws Exception {
+    StubRequestor requestor = new StubRequestor();
+    requestor.failingKey = "urn%3Ali%3Ashare%3A150";
+    PostConnection connection = new PostConnection(createClient(requestor));
+    List<URN> urns = new ArrayList<>();
+    for (int post = 0; post < 250; post++) {
+      urns.add(new URN(URNEntityType.SHARE, String.valueOf(post)));
+    }
+
+    BatchGetResult<Post> result = connection.retrievePosts(urns, ViewContext.AUTHOR);
+
+    Assert.assertEquals(3, requestor.urls.size());
+    Assert.assertTrue(requestor.urls.get(0).startsWith(
+        "https://api.linkedin.com/rest/posts?ids=List(urn%3Ali%3Ashare%3A0,urn%3Ali%3Ashare%3A1,"));
+    Assert.assertTrue(requestor.urls.get(0).endsWith(")&viewContext=AUTHOR"));
+    Assert.assertEquals(150, result.getResults().size());
+    Assert.assertEquals(100, result.getErrors().size());
+    Assert.assertTrue(result.getErrors().get(urns.get(199))
+        instanceof LinkedInGatewayTimeoutException);
+    Assert.assertEquals("urn:li:share:7", result.get(urns.get(7)).getId().toString());
+  }
+
+  /**
+   * Test long keys are split by the URL length before reaching the batch size
+   * @throws Exception Exception
+   */
+  @Test
+  public void testSplitByUrlLength() throws Exception {
+    StubRequestor requestor = new StubRequestor();
+    ImageConnection connection = new ImageConnection(createClient(requestor));
+    List<URN> urns = new ArrayList<>();
+    char[] id = new char[200];
+    for (int image = 0; image < 60; image++) {
+      Arrays.fill(id, (char) ('a' + image % 26));
+      urns.add(new URN(URNEntityType.IMAGE, new String(id) + image));
+    }
+
+    BatchGetResult<?> result = connection.retrieveImageDetails(urns);
+
+    Assert.assertTrue(requestor.urls.size() > 1);
+    for (String url : requestor.urls) {
+      Assert.assertTrue(url.length() <= ConnectionBase.MAX_BATCH_GET_URL_LENGTH + 100);
+    }
+    Assert.assertEquals(60, result.getResults().size());
+  }
+
+  /**
+   * Test an entity that cannot be mapped only fails its own key, and that errors are created by
+   * the exception mapper of the client
+   * @throws Exception Exception
+   */
+  @Test
+  public void testMappingErrorFailsOnlyItsKey() throws Exception {
+    StubRequestor requestor = new StubRequestor();
+    OrganizationConnection connection = new OrganizationConnection(new DefaultLinkedInClient(
+        requestor, new DefaultJsonMapper(), Version.VERSIONED,
+        new DefaultLinkedInExceptionMapper() {
+          @Override
+          public LinkedInException exceptionForTypeAndMessage(Integer errorCode,
+              Integer httpStatusCode, String message, Boolean isTransient, JsonObject rawError) {
+            return new LinkedInGatewayTimeoutException(message, errorCode, httpStatusCode,
+                rawError);
+          }
+        }));
+    URN first = new URN(URNEntityType.ORGANIZATION, "1");
+    URN unmappable = new URN(URNEntityType.ORGANIZATION, "unmappable");
+    URN missing = new URN(URNEntityType.ORGANIZATION, "404");
+
+    BatchGetResult<Organization> result =
+        connection.retrieveOrganizations(Arrays.asList(first, unmappable, missing), null);
+
+    Assert.assertEquals(1L, result.get(first).getId());
+    Assert.assertTrue(result.getErrors().get(unmappable) instanceof LinkedInJsonMappingException);
+    Assert.assertTrue(result.getErrors().get(missing) instanceof LinkedInGatewayTimeoutException);
+  }
+
+  private static DefaultLinkedInClient createClient(StubRequestor requestor) {
+    return new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED);
+  }
+
+  /**
+   * Web requestor that answers batch gets with an entity for every key except 404, failing the
+   * batch that contains the failing key with a 504
+   */
+  private static class StubRequestor extends DefaultWebRequestor {
+
+    private final List<String> urls = new ArrayList<>();
+
+    private String failingKey;
+
+    StubRequestor() throws GeneralSecurityException, IOException {
+      super("test");
+    }
+
+    @Override
+    public Response executeGet(String url, Map<String, String> headers) {
+      urls.add(url);
+      Matcher matcher = IDS.matcher(url);
+      Assert.assertTrue(matcher.find());
+      List<String> keys = Arrays.asList(matcher.group(1).split(","));
+      if (keys.contains(failingKey)) {
+        return new Response(504, Collections.emptyMap(),
+            "{\"status\":504,\"message\":\"Gateway timeout\"}");
+      }
+
+      StringBuilder results = new StringBuilder();
+      StringBuilder errors = new StringBuilder();
+      for (String encodedKey : keys) {
+        String key = encodedKey.replace("%3A", ":");
+        if (key.equals("unmappable")) {
+          results.append(results.length() == 0 ? "" : ",")
+              .append("\"unmappable\":{\"id\":{\"not\":\"a number\"}}");
+        } else if (key.equals("404")) {
+          errors.append(errors.length() == 0 ? "" : ",").append("\"404\":{\"status\":404,")
+              .append("\"message\":\"Not found\"}");
+        } else {
+          results.append(results.length() == 0 ? "" : ",").append('"').append(key)
+              .append("\":{\"id\":\"").append(key)
+              .append("\"}");
+        }
+      }
+      return new Response(200, Collections.emptyMap(),
+          "{\"results\":{" + results + "},\"errors\":{" + errors + "}}");
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.client.DefaultLinkedInClient;
+import com.echobox.api.linkedin.client.PagedStubRequestor;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.organization.AccessControl;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.types.urn.URNEntityType;
+import com.echobox.api.linkedin.version.Version;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test for the lazy streams over paged queries
+ * @author Joanna
+ */
+public class ConnectionStreamTest {
+
+  private static final URN ORGANIZATION = new URN(URNEntityType.ORGANIZATION, "1");
+
+  /**
+   * Test no page is fetched until the stream is consumed, and the pages are then fetched one at
+   * a time
+   * @throws Exception Exception
+   */
+  @Test
+  public void testStreamIsLazy() throws Exception {
+    PagedStubRequestor requestor = createRequestor();
+    OrganizationConnection connection = createConnection(requestor);
+
+    Stream<AccessControl> stream =
+        connection.streamOrganizationAccessControl(ORGANIZATION, null, null, 2);
+    Assert.assertTrue(requestor.getStarts().isEmpty());
+
+    Assert.assertEquals(5, stream.count());
+    Assert.assertEquals(List.of(0, 2, 4), requestor.getStarts());
+  }
+
+  /**
+   * Test a short-circuiting operation stops fetching pages
+   * @throws Exception Exception
+   */
+  @Test
+  public void testEarlyTermination() throws Exception {
+    PagedStubRequestor requestor = createRequestor();
+    OrganizationConnection connection = createConnection(requestor);
+
+    List<String> roleAssignees = connection
+        .streamOrganizationAccessControl(ORGANIZATION, null, null, 2)
+        .map(acl -> acl.getRoleAssigneeURN().getId())
+        .takeWhile(id -> !id.equals("2"))
+        .collect(Collectors.toList());
+
+    Assert.assertEquals(List.of("0", "1"), roleAssignees);
+    Assert.assertEquals(List.of(0, 2), requestor.getStarts());
+  }
+
+  /**
+   * Test the list variant still returns every element
+   * @throws Exception Exception
+   */
+  @Test
+  public void testListCollectsEveryPage() throws Exception {
+    PagedStubRequestor requestor = createRequestor();
+    OrganizationConnection connection = createConnection(requestor);
+
+    Assert.assertEquals(5,
+        connection.findOrganizationAccessControl(ORGANIZATION, null, null, 2).size());
+    Assert.assertEquals(List.of(0, 2, 4), requestor.getStarts());
+  }
+
+  private static OrganizationConnection createConnection(PagedStubRequestor requestor) {
+    return new OrganizationConnection(
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED));
+  }
+
+  /**
+   * Creates a requestor serving 5 access controls in pages of 2
+   * @return the requestor
+   * @throws GeneralSecurityException GeneralSecurityException
+   * @throws IOException IOException
+   */
+  private static PagedStubRequestor createRequestor()
+      throws GeneralSecurityException, IOException {
+    return new PagedStubRequestor(5, 2, false, id -> "{\"roleAssignee\":\"urn:li:person:" + id
+        + "\",\"organization\":\"urn:li:organization:1\"}");
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.client.DefaultLinkedInClient;
+import com.echobox.api.linkedin.client.DefaultWebRequestor;
+import com.echobox.api.linkedin.exception.LinkedInResourceNotFoundException;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.organization.Organization;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.types.urn.URNEntityType;
+import com.echobox.api.linkedin.version.Version;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Test for the micro-batching of single organization lookups
+ * @author Joanna
+ */
+public class MicroBatcherTest {
+
+  private static final Pattern IDS = Pattern.compile("ids=List\\(([^)]*)\\)");
+
+  /**
+   * Test lookups made within the window are sent as one batch and each completes with its own
+   * organization or error
+   * @throws Exception Exception
+   */
+  @Test
+  public void testLookupsWithinWindowAreBatched() throws Exception {
+    StubRequestor requestor = new StubRequestor();
+    MicroBatchConfig config = MicroBatchConfig.builder().window(Duration.ofMillis(200)).build();
+    try (BatchingOrganizationConnection connection = new BatchingOrganizationConnection(
+        new OrganizationConnection(createClient(requestor)), config)) {
+      CompletableFuture<Organization> first =
+          connection.retrieveOrganization(new URN(URNEntityType.ORGANIZATION, "1"), null);
+      CompletableFuture<Organization> missing =
+          connection.retrieveOrganization(new URN(URNEntityType.ORGANIZATION, "404"), null);
+      CompletableFuture<Organization> second =
+          connection.retrieveOrganization(new URN(URNEntityType.ORGANIZATION, "2"), null);
+
+      Assert.assertEquals(1L, first.get(5, TimeUnit.SECONDS).getId());
+      Assert.assertEquals(2L, second.get(5, TimeUnit.SECONDS).getId());
+      try {
+        missing.get(5, TimeUnit.SECONDS);
+        Assert.fail("The missing organization should fail");
+      } catch (ExecutionException ex) {
+        Assert.assertTrue(ex.getCause() instanceof LinkedInResourceNotFoundException);
+      }
+      Assert.assertEquals(Collections.singletonList(
+          "https://api.linkedin.com/rest/organizations?ids=List(1,404,2)"), requestor.urls);
+      Assert.assertEquals(1, connection.getMetrics().getBatches());
+      Assert.assertEquals(3, connection.getMetrics().getLookups());
+    }
+  }
+
+  /**
+   * Test a batch is sent as soon as it is full, without waiting for the window
+   * @throws Exception Exception
+   */
+  @Test
+  public void testFullBatchIsSentImmediately() throws Exception {
+    StubRequestor requestor = new StubRequestor();
+    MicroBatchConfig config = MicroBatchConfig.builder().window(Duration.ofMinutes(1))
+        .maxBatchSize(2).build();
+    try (BatchingOrganizationConnection connection = new BatchingOrganizationConnection(
+        new OrganizationConnection(createClient(requestor)), config)) {
+      List<CompletableFuture<Organization>> futures = new ArrayList<>();
+      for (int organization = 1; organization <= 4; organization++) {
+        futures.add(connection.retrieveOrganization(
+            new URN(URNEntityType.ORGANIZATION, String.valueOf(organization)), null));
+      }
+
+      for (int organization = 1; organization <= 4; organization++) {
+        Assert.assertEquals(organization,
+            futures.get(organization - 1).get(5, TimeUnit.SECONDS).getId());
+      }
+      Assert.assertEquals(2, requestor.urls.size());
+      Assert.assertEquals(2, connection.getMetrics().getFullBatches());
+      Assert.assertEquals(1.0, connection.getMetrics().getFillRatio(), 0.001);
+    }
+  }
+
+  /**
+   * Test closing the connection sends the lookups that are still waiting
+   * @throws Exception Exception
+   */
+  @Test
+  public void testCloseSendsWaitingLookups() throws Exception {
+    StubRequestor requestor = new StubRequestor();
+    MicroBatchConfig config = MicroBatchConfig.builder().window(Duration.ofMinutes(1)).build();
+    BatchingOrganizationConnection connection = new BatchingOrganizationConnection(
+        new OrganizationConnection(createClient(requestor)), config);
+    CompletableFuture<Organization> future =
+        connection.retrieveOrganization(new URN(URNEntityType.ORGANIZATION, "7"), null);
+
+    connection.close();
+
+    Assert.assertEquals(7L, future.get(5, TimeUnit.SECONDS).getId());
+    Assert.assertEquals(0.02, connection.getMetrics().getFillRatio(), 0.001);
+  }
+
+  /**
+   * Test a lookup made after the connection is closed fails straight away
+   * @throws Exception Exception
+   */
+  @Test
+  public void testLookupAfterCloseFails() throws Exception {
+    StubRequestor requestor = new StubRequestor();
+    BatchingOrganizationConnection connection = new BatchingOrganizationConnection(
+        new OrganizationConnection(createClient(requestor)), MicroBatchConfig.defaultConfig());
+    connection.close();
+
+    CompletableFuture<Organization> future =
+        connection.retrieveOrganization(new URN(URNEntityType.ORGANIZATION, "7"), null);
+    try {
+      future.get(5, TimeUnit.SECONDS);
+      Assert.fail("A lookup after close should fail");
+    } catch (ExecutionException ex) {
+      Assert.assertTrue(ex.getCause() instanceof IllegalStateException);
+    }
+    Assert.assertTrue(requestor.urls.isEmpty());
+  }
+
+  private static DefaultLinkedInClient createClient(StubRequestor requestor) {
+    return new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED);
+  }
+
+  /**
+   * Web requestor that answers batch gets with an organization for every key except 404
+   */
+  private static class StubRequestor extends DefaultWebRequestor {
+
+    private final List<String> urls = new CopyOnWriteArrayList<>();
+
+    StubRequestor() throws GeneralSecurityException, IOException {
+      super("test");
+    }
+
+    @Override
+    public Response executeGet(String url, Map<String, String> headers) {
+      urls.add(url);
+      Matcher matcher = IDS.matcher(url);
+      Assert.assertTrue(matcher.find());
+      StringBuilder results = new StringBuilder();
+      StringBuilder errors = new StringBuilder();
+      for (String key : matcher.group(1).split(",")) {
+        if (key.equals("404")) {
+          errors.append("\"404\":{\"status\":404,\"message\":\"Not found\"}");
+        } else {
+          results.append(results.length() == 0 ? "" : ",").append('"').append(key)
+              .append("\":{\"id\":").append(key).append('}');
+        }
+      }
+      return new Response(200, Collections.emptyMap(),
+          "{\"results\":{" + results + "},\"errors\":{" + errors + "}}");
+    }
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import com.echobox.api.linkedin.client.DefaultLinkedInClient;
+import com.echobox.api.linkedin.client.DefaultWebRequestor;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.types.urn.URNEntityType;
+import com.echobox.api.linkedin.version.Version;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Test for {@link ObjectCache}
+ * @author Joanna
+ */
+public class ObjectCacheTest {
+
+  /**
+   * Test a fresh value is returned without loading it again
+   */
+  @Test
+  public void testFreshValueIsCached() {
+    ObjectCache cache = new ObjectCache(ObjectCacheConfig.defaultConfig());
+    AtomicInteger loads = new AtomicInteger();
+
+    Assert.assertEquals(Integer.valueOf(1),
+        cache.get("/organizations", "1", loads::incrementAndGet));
+    Assert.assertEquals(Integer.valueOf(1),
+        cache.get("/organizations", "1", loads::incrementAndGet));
+    Assert.assertEquals(Integer.valueOf(2), cache.get("/organizationBrands", "1",
+        loads::incrementAndGet));
+
+    Assert.assertEquals(1, cache.getHits());
+    Assert.assertEquals(2, cache.getMisses());
+    Assert.assertEquals(1.0 / 3, cache.getHitRate(), 0.001);
+    cache.close();
+  }
+
+  /**
+   * Test a stale value is returned straight away while a single refresh runs in the background
+   * @throws Exception Exception
+   */
+  @Test
+  public void testStaleWhileRevalidate() throws Exception {
+    List<Runnable> refreshes = new ArrayList<>();
+    ObjectCache cache = new ObjectCache(ObjectCacheConfig.builder()
+        .ttls(Collections.singletonMap("/networkSizes", Duration.ofMillis(20)))
+        .staleWhileRevalidate(Duration.ofMinutes(1)).executor(refreshes::add).build());
+    AtomicInteger loads = new AtomicInteger();
+    cache.get("/networkSizes", "1", loads::incrementAndGet);
+    Thread.sleep(40);
+
+    Assert.assertEquals(Integer.valueOf(1), cache.get("/networkSizes", "1",
+        loads::incrementAndGet));
+    Assert.assertEquals(Integer.valueOf(1), cache.get("/networkSizes", "1",
+        loads::incrementAndGet));
+    Assert.assertEquals(1, refreshes.size());
+    Assert.assertEquals(1, loads.get());
+
+    refreshes.get(0).run();
+    Assert.assertEquals(Integer.valueOf(2), cache.get("/networkSizes", "1",
+        loads::incrementAndGet));
+    Assert.assertEquals(2, cache.getStaleHits());
+    Assert.assertEquals(1, cache.getRefreshes());
+    Assert.assertEquals(1, cache.getHits());
+  }
+
+  /**
+   * Test a value is loaded again once it is past its stale-while-revalidate period, and that a
+   * failed refresh keeps the stale value
+   * @throws Exception Exception
+   */
+  @Test
+  public void testExpiredValueIsLoaded() throws Exception {
+    ObjectCache cache = new ObjectCache(ObjectCacheConfig.builder()
+        .defaultTtl(Duration.ofMillis(10)).staleWhileRevalidate(Duration.ofMillis(10))
+        .executor(Runnable::run).build());
+    cache.get("/organizations", "1", () -> "first");
+    Thread.sleep(12);
+    Assert.assertEquals("first", cache.get("/organizations", "1", () -> {
+      throw new IllegalStateException("Refresh failed");
+    }));
+    Assert.assertEquals(1, cache.getRefreshFailures());
+
+    Thread.sleep(30);
+    Assert.assertEquals("second", cache.get("/organizations", "1", () -> "second"));
+    Assert.assertEquals(2, cache.getMisses());
+  }
+
+  /**
+   * Test concurrent lookups of a key that is not cached wait for a single load
+   * @throws Exception Exception
+   */
+  @Test
+  public void testConcurrentMissesLoadOnce() throws Exception {
+    ObjectCache cache = new ObjectCache(ObjectCacheConfig.defaultConfig());
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Supplier<Integer> loader = () -> {
+      loading.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException ex) {
+        throw new IllegalStateException(ex);
+      }
+      return loads.incrementAndGet();
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    Future<Integer> first = executor.submit(() -> cache.get("/organizations", "1", loader));
+    loading.await();
+    Future<Integer> second = executor.submit(() -> cache.get("/organizations", "1", loader));
+    Thread.sleep(50);
+    release.countDown();
+
+    Assert.assertEquals(Integer.valueOf(1), first.get());
+    Assert.assertEquals(Integer.valueOf(1), second.get());
+    Assert.assertEquals(1, loads.get());
+    executor.shutdown();
+    cache.close();
+  }
+
+  /**
+   * Test a refresh that finishes after its key is invalidated does not cache its value
+   * @throws Exception Exception
+   */
+  @Test
+  public void testInvalidateDuringRefresh() throws Exception {
+    List<Runnable> refreshes = new ArrayList<>();
+    ObjectCache cache = new ObjectCache(ObjectCacheConfig.builder()
+        .defaultTtl(Duration.ofMillis(10)).staleWhileRevalidate(Duration.ofMinutes(1))
+        .executor(refreshes::add).build());
+    cache.get("/organizations", "1", () -> "first");
+    Thread.sleep(20);
+    Assert.assertEquals("first", cache.get("/organizations", "1", () -> "refreshed"));
+
+    cache.invalidate("/organizations", "1");
+    refreshes.get(0).run();
+    Assert.assertEquals(0, cache.getSize());
+    Assert.assertEquals("second", cache.get("/organizations", "1", () -> "second"));
+  }
+
+  /**
+   * Test the least recently used values are evicted to keep within the maximum weight
+   */
+  @Test
+  public void testEvictsByWeight() {
+    ObjectCache cache = new ObjectCache(ObjectCacheConfig.builder().maxWeight(16 * 10)
+        .weigher(value -> ((String) value).length()).build());
+    for (int key = 0; key < 200; key++) {
+      cache.get("/organizations", key, () -> "0123456789");
+    }
+
+    Assert.assertTrue(cache.getSize() <= 16);
+    Assert.assertEquals(200 - cache.getSize(), cache.getEvictions());
+    cache.invalidateAll();
+    Assert.assertEquals(0, cache.getSize());
+    cache.close();
+  }
+
+  /**
+   * Test the caching organization connection only requests an organization once, returns a copy
+   * of it to every caller, and scopes organizations and access controls to its client
+   * @throws Exception Exception
+   */
+  @Test
+  public void testCachingOrganizationConnection() throws Exception {
+    StubRequestor requestor = new StubRequestor();
+    ObjectCache cache = new ObjectCache(ObjectCacheConfig.defaultConfig());
+    CachingOrganizationConnection connection = new CachingOrganizationConnection(
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED), cache);
+    URN organization = new URN(URNEntityType.ORGANIZATION, "1");
+
+    connection.retrieveOrganization(organization, null).setEntityStatus("DELETED");
+    Assert.assertEquals(1L, connection.retrieveOrganization(organization, null).getId());
+    Assert.assertNull(connection.retrieveOrganization(organization, null).getEntityStatus());
+    connection.retrieveOrganizationFollowerCount(organization);
+    Assert.assertEquals(Long.valueOf(42),
+        connection.retrieveOrganizationFollowerCount(organization));
+    Assert.assertEquals(2, requestor.requests.get());
+
+    CachingOrganizationConnection otherClientConnection = new CachingOrganizationConnection(
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED), cache);
+    otherClientConnection.retrieveOrganization(organization, null);
+    connection.findOrganizationAccessControl(organization, null, null, null);
+    connection.findOrganizationAccessControl(organization, null, null, null);
+    otherClientConnection.findOrganizationAccessControl(organization, null, null, null);
+    Assert.assertEquals(5, requestor.requests.get());
+    cache.close();
+  }
+
+  /**
+   * Web requestor answering organizations, network sizes and access controls
+   */
+  private static class StubRequestor extends DefaultWebRequestor {
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    StubRequestor() throws GeneralSecurityException, IOException {
+      super("test");
+    }
+
+    @Override
+    public Response executeGet(String url, Map<String, String> headers) {
+      requests.incrementAndGet();
+      String body;
+      if (url.contains("/networkSizes/")) {
+        body = "{\"firstDegreeSize\":42}";
+      } else if (url.contains("/organizationAcls")) {
+        body = "{\"elements\":[],\"paging\":{\"start\":0,\"count\":10,\"links\":[]}}";
+      } else {
+        body = "{\"id\":1}";
+      }
+      return new Response(200, Collections.emptyMap(), body);
+    }
+  }
+}
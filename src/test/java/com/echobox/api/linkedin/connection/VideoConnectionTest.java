@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.echobox.api.linkedin.client.BinaryAttachment;
+import com.echobox.api.linkedin.client.DefaultLinkedInClient;
+import com.echobox.api.linkedin.client.DefaultWebRequestor;
+import com.echobox.api.linkedin.exception.LinkedInAPIException;
+import com.echobox.api.linkedin.jsonmapper.DefaultJsonMapper;
+import com.echobox.api.linkedin.types.urn.URN;
+import com.echobox.api.linkedin.types.urn.URNEntityType;
+import com.echobox.api.linkedin.types.videos.InitializeUploadRequest;
+import com.echobox.api.linkedin.version.Version;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Test for {@link VideoConnection}
+ * @author Joanna
+ */
+public class VideoConnectionTest {
+
+  private static final int PARTS = 6;
+
+  private static final int PART_SIZE = 10;
+
+  private Path video;
+
+  /**
+   * Create a video file
+   * @throws IOException IOException
+   */
+  @Before
+  public void createVideo() throws IOException {
+    video = Files.createTempFile("video", ".mp4");
+    // Every byte of a part is the index of the part
+    byte[] bytes = new byte[PARTS * PART_SIZE];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (i / PART_SIZE);
+    }
+    Files.write(video, bytes);
+  }
+
+  /**
+   * Delete the video file
+   * @throws IOException IOException
+   */
+  @After
+  public void deleteVideo() throws IOException {
+    Files.deleteIfExists(video);
+  }
+
+  /**
+   * Test parts uploaded in parallel are finalized in order, and a failed part is retried
+   * @throws Exception Exception
+   */
+  @Test
+  public void testParallelUploadFinalizesPartsInOrder() throws Exception {
+    StubUploadRequestor requestor = new StubUploadRequestor();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    VideoConnection connection = new VideoConnection(
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED),
+        VideoUploadConfig.builder().partsInFlight(3).retryBackoff(Duration.ZERO)
+            .executor(executor).build());
+
+    URN videoURN;
+    try {
+      videoURN = uploadVideo(connection);
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals("urn:li:video:C4E10AQ", videoURN.toString());
+    assertEquals(PARTS + 1, requestor.puts.get());
+    assertTrue(requestor.maxInFlight.get() > 1);
+    assertTrue(requestor.maxInFlight.get() <= 3);
+    assertTrue(requestor.finalizeBody, requestor.finalizeBody.contains(
+        "\"uploadedPartIds\":[\"etag-0\",\"etag-1\",\"etag-2\",\"etag-3\",\"etag-4\",\"etag-5\"]"));
+  }
+
+  /**
+   * Test a video streamed from a URL is split into the right parts
+   * @throws Exception Exception
+   */
+  @Test
+  public void testUploadFromURL() throws Exception {
+    StubUploadRequestor requestor = new StubUploadRequestor();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    VideoConnection connection = new VideoConnection(
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED),
+        VideoUploadConfig.builder().partsInFlight(3).retryBackoff(Duration.ZERO)
+            .executor(executor).build());
+
+    URN videoURN;
+    try {
+      videoURN = connection.uploadVideoFromURL(new InitializeUploadRequest(
+          new InitializeUploadRequest.RequestBody(new URN(URNEntityType.ORGANIZATION, "1"))),
+          video.toUri().toString(), null);
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals("urn:li:video:C4E10AQ", videoURN.toString());
+    assertTrue(requestor.finalizeBody, requestor.finalizeBody.contains(
+        "\"uploadedPartIds\":[\"etag-0\",\"etag-1\",\"etag-2\",\"etag-3\",\"etag-4\",\"etag-5\"]"));
+  }
+
+  /**
+   * Test parts are uploaded one at a time on the calling thread by default, and a part that
+   * failed with a server error is retried
+   * @throws Exception Exception
+   */
+  @Test
+  public void testSerialUploadRetriesServerError() throws Exception {
+    StubUploadRequestor requestor = new StubUploadRequestor();
+    requestor.failureStatus = 503;
+    VideoConnection connection = new VideoConnection(
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED),
+        VideoUploadConfig.builder().retryBackoff(Duration.ZERO).build());
+
+    assertEquals("urn:li:video:C4E10AQ", uploadVideo(connection).toString());
+    assertEquals(PARTS + 1, requestor.puts.get());
+    assertEquals(1, requestor.maxInFlight.get());
+  }
+
+  /**
+   * Test a part that still fails on its last attempt reports the HTTP status of the failure
+   * @throws Exception Exception
+   */
+  @Test
+  public void testLastAttemptReportsStatus() throws Exception {
+    StubUploadRequestor requestor = new StubUploadRequestor();
+    requestor.failureStatus = 503;
+    VideoConnection connection = new VideoConnection(
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED),
+        VideoUploadConfig.builder().maxPartAttempts(1).build());
+
+    try {
+      uploadVideo(connection);
+      fail("Expected the upload to fail");
+    } catch (LinkedInAPIException ex) {
+      assertEquals(Integer.valueOf(503), ex.getHttpStatusCode());
+    }
+  }
+
+  /**
+   * Test a part rejected with a client error is not retried
+   * @throws Exception Exception
+   */
+  @Test
+  public void testClientErrorNotRetried() throws Exception {
+    StubUploadRequestor requestor = new StubUploadRequestor();
+    requestor.failureStatus = 403;
+    VideoConnection connection = new VideoConnection(
+        new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED),
+        VideoUploadConfig.builder().retryBackoff(Duration.ZERO).build());
+
+    try {
+      uploadVideo(connection);
+      fail("Expected the upload to fail");
+    } catch (LinkedInAPIException ex) {
+      assertEquals(Integer.valueOf(403), ex.getHttpStatusCode());
+      // Parts 0 and 1 were uploaded, part 2 was attempted once
+      assertEquals(3, requestor.puts.get());
+    }
+  }
+
+  /**
+   * Test an upload that failed part way through resumes from its journal, sending only the
+   * remaining parts
+   * @throws Exception Exception
+   */
+  @Test
+  public void testResumeUploadFromJournal() throws Exception {
+    Path journalDirectory = Files.createTempDirectory("journals");
+    try {
+      StubUploadRequestor requestor = new StubUploadRequestor();
+      VideoConnection connection = new VideoConnection(
+          new DefaultLinkedInClient(requestor, new DefaultJsonMapper(), Version.VERSIONED),
+          VideoUploadConfig.builder().partsInFlight(1).maxPartAttempts(1)
+              .journalDirectory(journalDirectory).build());
+      try {
+        uploadVideo(connection);
+        fail("Expected the upload to fail");
+      } catch (IOException ex) {
+        assertEquals(1, countFiles(journalDirectory));
+      }
+
+      // The first attempt uploaded parts 0 and 1, then failed on part 2
+      requestor.puts.set(0);
+      assertEquals("urn:li:video:C4E10AQ", uploadVideo(connection).toString());
+
+      assertEquals(1, requestor.initializations.get());
+      assertEquals(PARTS - 2, requestor.puts.get());
+      assertTrue(requestor.finalizeBody, requestor.finalizeBody.contains("\"etag-0\",\"etag-1\","
+          + "\"etag-2\",\"etag-3\",\"etag-4\",\"etag-5\""));
+      assertEquals(0, countFiles(journalDirectory));
+    } finally {
+      Files.deleteIfExists(journalDirectory);
+    }
+  }
+
+  /**
+   * Test journals of expired uploads are cleaned up
+   * @throws Exception Exception
+   */
+  @Test
+  public void testCleanUpExpiredJournals() throws Exception {
+    Path journalDirectory = Files.createTempDirectory("journals");
+    try {
+      Files.write(journalDirectory.resolve("expired.journal"), Arrays.asList(
+          "{\"uploadUrlExpiresAt\":1000,\"video\":\"urn:li:video:C4E10AQ\"}", "part\t0\tetag-0"));
+      Files.write(journalDirectory.resolve("current.journal"), Collections.singletonList(
+          "{\"uploadUrlExpiresAt\":" + (System.currentTimeMillis() + 60000)
+              + ",\"video\":\"urn:li:video:C4E10AQ\"}"));
+      VideoConnection connection = new VideoConnection(
+          new DefaultLinkedInClient(new StubUploadRequestor(), new DefaultJsonMapper(),
+              Version.VERSIONED),
+          VideoUploadConfig.builder().journalDirectory(journalDirectory).build());
+
+      assertEquals(1, connection.cleanUpUploadJournals());
+      assertTrue(Files.exists(journalDirectory.resolve("current.journal")));
+    } finally {
+      Files.deleteIfExists(journalDirectory.resolve("current.journal"));
+      Files.deleteIfExists(journalDirectory);
+    }
+  }
+
+  private URN uploadVideo(VideoConnection connection) throws IOException {
+    return connection.uploadVideoFromFile(new InitializeUploadRequest(
+        new InitializeUploadRequest.RequestBody(new URN(URNEntityType.ORGANIZATION, "1"))),
+        video.toString(), null);
+  }
+
+  private static long countFiles(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+
+  /**
+   * Initializes an upload, answers part uploads after a delay that makes later parts finish first
+   * and fails the first attempt of one part
+   */
+  private static class StubUploadRequestor extends DefaultWebRequestor {
+
+    private final AtomicInteger initializations = new AtomicInteger();
+
+    private final AtomicInteger puts = new AtomicInteger();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final Map<String, Boolean> failedParts = new ConcurrentHashMap<>();
+
+    private volatile String finalizeBody;
+
+    private volatile int failureStatus;
+
+    StubUploadRequestor() throws GeneralSecurityException, IOException {
+      super("token");
+    }
+
+    @Override
+    public Response executePost(String url, String parameters, String jsonBody,
+        Map<String, String> headers, BinaryAttachment... binaryAttachments) {
+      if (jsonBody.contains("initializeUploadRequest")) {
+        initializations.incrementAndGet();
+        StringBuilder instructions = new StringBuilder();
+        for (int part = 0; part < PARTS; part++) {
+          instructions.append(part == 0 ? "" : ",").append(String.format(
+              "{\"uploadUrl\":\"https://upload.example.com/%d\",\"firstByte\":%d,\"lastByte\":%d}",
+              part, part * PART_SIZE, (part + 1) * PART_SIZE - 1));
+        }
+        return new Response(200, Collections.emptyMap(), "{\"value\":{\"uploadUrlExpiresAt\":"
+            + (System.currentTimeMillis() + 60000) + ",\"video\":"
+            + "\"urn:li:video:C4E10AQ\",\"uploadToken\":\"\",\"uploadInstructions\":["
+            + instructions + "]}}");
+      }
+      finalizeBody = jsonBody;
+      return new Response(200, Collections.emptyMap(), "");
+    }
+
+    @Override
+    public Response executePut(String url, String parameters, String jsonBody,
+        Map<String, String> headers, BinaryAttachment binaryAttachment) throws IOException {
+      puts.incrementAndGet();
+      String part = url.substring(url.lastIndexOf('/') + 1);
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(10L * (PARTS - Integer.parseInt(part)));
+        if ("2".equals(part) && failedParts.put(part, true) == null) {
+          if (failureStatus != 0) {
+            return new Response(failureStatus, Collections.emptyMap(), "");
+          }
+          throw new IOException("Connection reset");
+        }
+        byte[] bytes;
+        try (InputStream inputStream = binaryAttachment.getDataInputStream()) {
+          bytes = inputStream.readAllBytes();
+        }
+        assertEquals(PART_SIZE, bytes.length);
+        for (byte value : bytes) {
+          assertEquals(Integer.parseInt(part), value);
+        }
+        return new Response(201, Collections.singletonMap("etag", "etag-" + part), "");
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IOException(ex);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    }
+  }
+}
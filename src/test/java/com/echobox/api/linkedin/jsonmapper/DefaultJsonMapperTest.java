@@ -23,6 +23,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import com.echobox.api.linkedin.exception.LinkedInJsonMappingException;
 import com.echobox.api.linkedin.types.objectype.AuditStamp;
 import com.echobox.api.linkedin.types.objectype.Locale;
 import com.echobox.api.linkedin.types.objectype.LocaleString;
@@ -32,6 +33,7 @@ import com.echobox.api.linkedin.types.statistics.page.Statistics;
 import com.echobox.api.linkedin.types.statistics.page.TotalPageStatistics;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -414,4 +416,43 @@ public class DefaultJsonMapperTest extends DefaultJsonMapperTestBase {
         .getViews().getAllPageViews().getPageViews());
   }
 
+  /**
+   * Test UTF-8 bytes are mapped to the same Java object as the equivalent JSON string
+   */
+  @Test
+  public void testBytesDeserialiseToJavaObject() {
+    String organizationStatisticsJson = readFileToString(ORGANIZATION_STAISTICS_JSON);
+    DefaultJsonMapper mapper = new DefaultJsonMapper();
+    Statistics.OrganizationStatistics organizationStatistics = mapper.toJavaObject(
+        ("\n " + organizationStatisticsJson).getBytes(StandardCharsets.UTF_8),
+        Statistics.OrganizationStatistics.class);
+
+    assertEquals("2414183", organizationStatistics.getOrganization().getId());
+    assertEquals(new Integer(0), organizationStatistics.getTotalPageStatistics().getClicks()
+        .getCareersPageClicks().getCareersPageBannerPromoClicks());
+    assertEquals(mapper.toJson(mapper.toJavaObject(organizationStatisticsJson,
+        Statistics.OrganizationStatistics.class)), mapper.toJson(organizationStatistics));
+  }
+
+  /**
+   * Test UTF-8 bytes that are not a JSON object are mapped in the same way as a JSON string
+   */
+  @Test
+  public void testBytesDeserialiseToPrimitive() {
+    DefaultJsonMapper mapper = new DefaultJsonMapper();
+
+    assertEquals(new Long(123L),
+        mapper.toJavaObject("123".getBytes(StandardCharsets.UTF_8), Long.class));
+    assertNull(mapper.toJavaObject("null".getBytes(StandardCharsets.UTF_8), AuditStamp.class));
+  }
+
+  /**
+   * Test malformed UTF-8 JSON fails to map in the same way as a JSON string
+   */
+  @Test(expected = LinkedInJsonMappingException.class)
+  public void testMalformedBytesFailToMap() {
+    new DefaultJsonMapper().toJavaObject("{\"actor\":".getBytes(StandardCharsets.UTF_8),
+        AuditStamp.class);
+  }
+
 }
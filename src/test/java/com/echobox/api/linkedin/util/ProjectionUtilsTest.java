@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.echobox.api.linkedin.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.echobox.api.linkedin.jsonmapper.LinkedIn;
+import com.echobox.api.linkedin.types.organization.Organization;
+import com.eclipsesource.json.JsonObject;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * ProjectionUtils test class
+ * @author Joanna
+ *
+ */
+public class ProjectionUtilsTest {
+
+  /**
+   * Test nested types are projected recursively and the projection is cached
+   */
+  @Test
+  public void testNestedProjection() {
+    String projection = ProjectionUtils.getProjection(Organization.class);
+
+    assertTrue(projection.contains(",name:(localized,preferredLocale:(country,language)),"));
+    assertTrue(projection.contains(",localizedName,"));
+    assertFalse(projection.contains("$URN"));
+    assertFalse(projection.contains("~"));
+    assertSame(projection, ProjectionUtils.getProjection(Organization.class));
+  }
+
+  /**
+   * Test lists, self references and repeated names are requested whole
+   */
+  @Test
+  public void testFieldsRequestedWhole() {
+    assertEquals("id,children,parent,value",
+        ProjectionUtils.getProjection(Node.class));
+  }
+
+  /**
+   * Test types without annotated fields have no projection
+   */
+  @Test
+  public void testNoProjection() {
+    assertNull(ProjectionUtils.getProjection(JsonObject.class));
+    assertNull(ProjectionUtils.getProjection(String.class));
+  }
+
+  /**
+   * Self-referencing type
+   */
+  private static class Node {
+
+    @LinkedIn
+    private String id;
+
+    @LinkedIn
+    private List<Node> children;
+
+    @LinkedIn
+    private Node parent;
+
+    @LinkedIn("value")
+    private String text;
+
+    @LinkedIn("value")
+    private Node nested;
+  }
+}